@@ -0,0 +1,93 @@
+package com.learning.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.learning.dscommerce.standin.StandinFixtures;
+import com.learning.dscommerce.standin.entities.Product;
+import com.learning.dscommerce.standin.repositories.ProductRepository;
+
+/**
+ * How name search latency of the stand-in catalog changes with its size. Every catalog holds the same
+ * {@value #MATCHES} products named "Macbook ..." among synthetic filler, so searching that rare term should
+ * stay flat while the full scan it replaced grows linearly. The filler is all named "Catalog Item ...", so
+ * searching {@value #COMMON_TERM} matches nearly every product: the first page by id reads only the products
+ * on it and counts the rest from the index, while a page sorted by price reads every match into a bounded
+ * heap. Catalogs in the millions need a larger heap
+ * ({@code -Djmh.args="CatalogSearch -jvmArgs -Xmx4g -p catalogSize=2000000"}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogSearchBenchmark {
+
+    private static final int MATCHES = 20;
+    private static final String TERM = "macbook";
+    private static final String COMMON_TERM = "item";
+    private static final Comparator<Product> BY_PRICE = Comparator.comparing(Product::price).thenComparing(Product::id);
+
+    @Param({ "10000", "100000", "1000000" })
+    private long catalogSize;
+
+    private ProductRepository repository;
+    private List<Product> all;
+
+    @Setup
+    public void setup() {
+        repository = new ProductRepository(catalogSize - MATCHES - StandinFixtures.products().size() + 1);
+        Product template = StandinFixtures.syntheticProduct(0);
+        for (int i = 1; i < MATCHES; i++) {
+            repository.insert(new Product(null, "Macbook Air " + i, template.description(), template.price(),
+                    template.imgUrl(), template.categories()));
+        }
+        all = repository.search("", 0, Integer.MAX_VALUE, null).content();
+    }
+
+    @Benchmark
+    public ProductRepository.ProductPage indexedSearch() {
+        return repository.search(TERM, 0, 12, null);
+    }
+
+    @Benchmark
+    public ProductRepository.ProductPage commonTermSearch() {
+        return repository.search(COMMON_TERM, 0, 12, null);
+    }
+
+    @Benchmark
+    public ProductRepository.ProductPage commonTermSortedSearch() {
+        return repository.search(COMMON_TERM, 0, 12, BY_PRICE);
+    }
+
+    /**
+     * What the catalog did before it had an index.
+     */
+    @Benchmark
+    public List<Product> fullScan() {
+        List<Product> matches = new ArrayList<>();
+        for (Product product : all) {
+            if (product.name().toLowerCase(Locale.ROOT).contains(TERM)) {
+                matches.add(product);
+            }
+        }
+        return matches;
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.learning.benchmarks;
+
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.dscommerce.standin.dto.PageDTO;
+import com.learning.dscommerce.standin.dto.ProductMinDTO;
+import com.learning.dscommerce.standin.repositories.ProductRepository;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Cost of matching a {@code /products} page with a GPath expression such as
+ * {@code content.findAll { it.price > 2000 }}, as the suites do in {@code .body(...)}, next to the same
+ * filter written against a Jackson tree. Pages are rendered by the stand-in's own DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GPathBenchmark {
+
+    private static final String EXPENSIVE_NAMES = "content.findAll { it.price > 2000 }.name";
+
+    @Param({ "12", "100", "1000" })
+    private int pageSize;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private String body;
+    private Response response;
+    private int expensive;
+
+    @Setup
+    public void setup() throws IOException {
+        ProductRepository.ProductPage page = new ProductRepository(pageSize).search("", 0, pageSize, null);
+        body = mapper.writeValueAsString(PageDTO.of(page.content().stream().map(ProductMinDTO::new).toList(),
+                page.totalElements(), 0, pageSize));
+        response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+        expensive = jacksonFilter().size();
+    }
+
+    @Benchmark
+    public List<String> responsePath() {
+        return response.path(EXPENSIVE_NAMES);
+    }
+
+    @Benchmark
+    public List<String> jsonPathFromString() {
+        return JsonPath.from(body).getList(EXPENSIVE_NAMES, String.class);
+    }
+
+    @Benchmark
+    public ValidatableResponse validatableBody() {
+        return response.then().body(EXPENSIVE_NAMES, hasSize(expensive));
+    }
+
+    @Benchmark
+    public List<String> jacksonFilter() throws IOException {
+        List<String> names = new ArrayList<>();
+        for (JsonNode product : mapper.readTree(body).path("content")) {
+            if (product.path("price").asDouble() > 2000) {
+                names.add(product.path("name").asText());
+            }
+        }
+        return names;
+    }
+
+}
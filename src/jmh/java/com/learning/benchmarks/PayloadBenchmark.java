@@ -0,0 +1,88 @@
+package com.learning.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.Fixtures;
+import com.learning.PayloadTemplate;
+
+/**
+ * Cost of turning a product or order payload into the JSON that goes over the wire, the way the suites
+ * build it today: a {@code HashMap} from {@link Fixtures}, optionally wrapped in a {@code net.minidev} or
+ * {@code json-simple} {@code JSONObject}. Both {@code JSONObject}s are maps, so {@code .body(json)} hands
+ * them to RestAssured's Jackson mapper; their own {@code toJSONString()} is measured for comparison, as is
+ * rendering a precompiled {@link PayloadTemplate}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final PayloadTemplate orderTemplate = Fixtures.newOrderTemplate();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+
+    @Benchmark
+    public Map<String, Object> productMap() {
+        return Fixtures.newProduct();
+    }
+
+    @Benchmark
+    public byte[] productMapWithJackson() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(Fixtures.newProduct());
+    }
+
+    @Benchmark
+    public byte[] productJsonSimpleWithJackson() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(new org.json.simple.JSONObject(Fixtures.newProduct()));
+    }
+
+    @Benchmark
+    public String productJsonSimpleToString() {
+        return new org.json.simple.JSONObject(Fixtures.newProduct()).toJSONString();
+    }
+
+    @Benchmark
+    public byte[] orderMapWithJackson() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(Fixtures.newOrder());
+    }
+
+    @Benchmark
+    public byte[] orderMinidevWithJackson() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(new net.minidev.json.JSONObject(Fixtures.newOrder()));
+    }
+
+    @Benchmark
+    public String orderMinidevToString() {
+        return new net.minidev.json.JSONObject(Fixtures.newOrder()).toJSONString();
+    }
+
+    @Benchmark
+    public byte[] orderTemplate() {
+        return orderTemplate.render(1, 4);
+    }
+
+    @Benchmark
+    public ByteBuffer orderTemplateToDirectBuffer() {
+        buffer.clear();
+        orderTemplate.writeTo(buffer, 1, 4);
+        return buffer;
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.learning.benchmarks;
+
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.dscommerce.standin.dto.PageDTO;
+import com.learning.dscommerce.standin.dto.ProductMinDTO;
+import com.learning.dscommerce.standin.repositories.ProductRepository;
+import com.learning.validation.StreamingValidator;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Time and allocation per validated {@code /products} page: the suites' {@code then().body(...)} assertions
+ * against the same assertions run by {@link StreamingValidator}, with a {@code hasItems} that has to read the
+ * whole page and one it can decide from the first items. Run with {@code -prof gc} for bytes per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseValidationBenchmark {
+
+    @Param({ "12", "100", "1000" })
+    private int pageSize;
+
+    private byte[] body;
+    private Response response;
+    private String lastName;
+    private StreamingValidator fullPage;
+    private final StreamingValidator firstItems = new StreamingValidator()
+            .body("totalElements", greaterThan(0))
+            .bodyHasItems("content.name", "Macbook Pro", "PC Gamer");
+
+    @Setup
+    public void setup() throws IOException {
+        ProductRepository.ProductPage page = new ProductRepository(pageSize).search("", 0, pageSize, null);
+        body = new ObjectMapper().writeValueAsBytes(PageDTO.of(
+                page.content().stream().map(ProductMinDTO::new).toList(), page.totalElements(), 0, pageSize));
+        response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+        lastName = page.content().get(page.content().size() - 1).name();
+        fullPage = new StreamingValidator()
+                .body("totalElements", greaterThan(0))
+                .body("content.name", hasItems("Macbook Pro", lastName));
+    }
+
+    @Benchmark
+    public ValidatableResponse restAssuredFullPage() {
+        return response.then()
+                .body("totalElements", greaterThan(0))
+                .body("content.name", hasItems("Macbook Pro", lastName));
+    }
+
+    @Benchmark
+    public void streamingFullPage() {
+        fullPage.validate(body);
+    }
+
+    @Benchmark
+    public ValidatableResponse restAssuredFirstItems() {
+        return response.then()
+                .body("totalElements", greaterThan(0))
+                .body("content.name", hasItems("Macbook Pro", "PC Gamer"));
+    }
+
+    @Benchmark
+    public void streamingFirstItems() {
+        firstItems.validate(body);
+    }
+
+}
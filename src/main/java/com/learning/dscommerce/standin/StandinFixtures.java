@@ -0,0 +1,113 @@
+package com.learning.dscommerce.standin;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.learning.dscommerce.standin.entities.Category;
+import com.learning.dscommerce.standin.entities.Order;
+import com.learning.dscommerce.standin.entities.OrderItem;
+import com.learning.dscommerce.standin.entities.OrderStatus;
+import com.learning.dscommerce.standin.entities.Product;
+import com.learning.dscommerce.standin.entities.User;
+
+/**
+ * Seed data of the stand-in server: the rows the {@code *ControllerRA} suites assume.
+ */
+public class StandinFixtures {
+
+    public static final String DEFAULT_PASSWORD = "123456";
+    public static final String SYNTHETIC_CLIENT_EMAIL = "client%d@dscommerce.test";
+    private static final String IMG_URL =
+            "https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/%d-big.jpg";
+    private static final String DESCRIPTION =
+            "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua.";
+
+    public static final Category BOOKS = new Category(1L, "Books");
+    public static final Category ELECTRONICS = new Category(2L, "Electronics");
+    public static final Category COMPUTERS = new Category(3L, "Computers");
+
+    public static final User MARIA = new User(1L, "Maria Brown", "maria@gmail.com", "988888888",
+            LocalDate.parse("2001-07-25"), DEFAULT_PASSWORD, List.of("ROLE_CLIENT"));
+    public static final User ALEX = new User(2L, "Alex Green", "alex@gmail.com", "977777777",
+            LocalDate.parse("1987-12-13"), DEFAULT_PASSWORD, List.of("ROLE_ADMIN"));
+
+    public static List<Category> categories() {
+        return List.of(BOOKS, ELECTRONICS, COMPUTERS);
+    }
+
+    public static List<User> users() {
+        return List.of(MARIA, ALEX);
+    }
+
+    public static List<Product> products() {
+        List<Product> products = new ArrayList<>();
+        products.add(product(1, "The Lord of the Rings", 90.5, BOOKS));
+        products.add(product(2, "Smart TV", 2190.0, ELECTRONICS, COMPUTERS));
+        products.add(product(3, "Macbook Pro", 1250.0, COMPUTERS));
+        products.add(product(4, "PC Gamer", 1200.0, COMPUTERS));
+        products.add(product(5, "Rails for Dummies", 100.99, BOOKS));
+        products.add(product(6, "PC Gamer Ex", 1350.0, COMPUTERS));
+        products.add(product(7, "PC Gamer X", 1350.0, COMPUTERS));
+        products.add(product(8, "PC Gamer Alfa", 1850.0, COMPUTERS));
+        products.add(product(9, "PC Gamer Tera", 1950.0, COMPUTERS));
+        products.add(product(10, "PC Gamer Y", 1700.0, COMPUTERS));
+        products.add(product(11, "PC Gamer Nitro", 1450.0, COMPUTERS));
+        products.add(product(12, "PC Gamer Card", 1850.0, COMPUTERS));
+        products.add(product(13, "PC Gamer Plus", 1350.0, COMPUTERS));
+        products.add(product(14, "PC Gamer Hera", 2250.0, COMPUTERS));
+        products.add(product(15, "PC Gamer Weed", 2200.0, COMPUTERS));
+        products.add(product(16, "PC Gamer Max", 2340.0, COMPUTERS));
+        products.add(product(17, "PC Gamer Turbo", 1280.0, COMPUTERS));
+        products.add(product(18, "PC Gamer Hot", 1450.0, COMPUTERS));
+        products.add(product(19, "PC Gamer Ez", 1750.0, COMPUTERS));
+        products.add(product(20, "PC Gamer Tr", 1650.0, COMPUTERS));
+        products.add(product(21, "PC Gamer Tx", 1680.0, COMPUTERS));
+        products.add(product(22, "PC Gamer Er", 1850.0, COMPUTERS));
+        products.add(product(23, "PC Gamer Min", 2250.0, COMPUTERS));
+        products.add(product(24, "PC Gamer Boo", 2350.0, COMPUTERS));
+        products.add(product(25, "PC Gamer Foo", 4170.0, COMPUTERS));
+        return products;
+    }
+
+    /**
+     * Extra client for load tests that need many identities: {@code client1@dscommerce.test} and so on, all
+     * with the default password. Ids follow the fixture users.
+     */
+    public static User syntheticClient(int number) {
+        return new User((long) users().size() + number, "Client " + number,
+                String.format(SYNTHETIC_CLIENT_EMAIL, number), "900000000", LocalDate.parse("1990-01-01"),
+                DEFAULT_PASSWORD, List.of("ROLE_CLIENT"));
+    }
+
+    /**
+     * Filler product for load tests that need a large catalog. Its name never contains a word the
+     * {@code *ControllerRA} suites search for.
+     */
+    public static Product syntheticProduct(long id) {
+        return product(id, "Catalog Item " + id, 10.0 + id % 5000, id % 2 == 0 ? BOOKS : ELECTRONICS);
+    }
+
+    /**
+     * Orders 1 and 3 belong to Maria, order 2 to Alex. Product 1 is referenced by an order, product 25 is not.
+     */
+    public static List<Order> orders(List<Product> products) {
+        return List.of(
+                new Order(1L, Instant.parse("2022-07-25T13:00:00Z"), OrderStatus.PAID, MARIA,
+                        List.of(item(products.get(0), 2), item(products.get(2), 1))),
+                new Order(2L, Instant.parse("2022-07-29T15:50:00Z"), OrderStatus.DELIVERED, ALEX,
+                        List.of(item(products.get(2), 1))),
+                new Order(3L, Instant.parse("2022-08-03T14:20:00Z"), OrderStatus.WAITING_PAYMENT, MARIA,
+                        List.of(item(products.get(0), 1))));
+    }
+
+    private static Product product(long id, String name, double price, Category... categories) {
+        return new Product(id, name, DESCRIPTION, price, String.format(IMG_URL, id), List.of(categories));
+    }
+
+    private static OrderItem item(Product product, int quantity) {
+        return new OrderItem(product.id(), product.name(), product.price(), quantity, product.imgUrl());
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.learning.dscommerce.standin.controllers;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.learning.dscommerce.standin.dto.TokenDTO;
+import com.learning.dscommerce.standin.services.AuthService;
+
+@RestController
+@Profile("standin")
+public class AuthController {
+
+    private final AuthService service;
+
+    public AuthController(AuthService service) {
+        this.service = service;
+    }
+
+    @PostMapping(value = "/oauth2/token", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    public TokenDTO token(@RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestParam(value = "grant_type", required = false) String grantType,
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String password) {
+        return service.passwordGrant(authorization, grantType, username, password);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.learning.dscommerce.standin.controllers;
+
+import java.net.URI;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.learning.dscommerce.standin.dto.OrderDTO;
+import com.learning.dscommerce.standin.entities.User;
+import com.learning.dscommerce.standin.services.AuthService;
+import com.learning.dscommerce.standin.services.OrderService;
+
+@RestController
+@Profile("standin")
+@RequestMapping(value = "/orders")
+public class OrderController {
+
+    private final OrderService service;
+    private final AuthService authService;
+
+    public OrderController(OrderService service, AuthService authService) {
+        this.service = service;
+        this.authService = authService;
+    }
+
+    @GetMapping(value = "/{id}")
+    public ResponseEntity<OrderDTO> findById(@RequestHeader(value = "Authorization", required = false) String authorization,
+            @PathVariable Long id) {
+        User user = authService.authenticate(authorization);
+        return ResponseEntity.ok(service.findById(id, user));
+    }
+
+    @PostMapping
+    public ResponseEntity<OrderDTO> insert(@RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestBody OrderDTO dto) {
+        User client = authService.authenticate(authorization);
+        authService.requireRole(client, "ROLE_CLIENT");
+        OrderDTO result = service.insert(dto, client);
+        URI uri = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(result.id()).toUri();
+        return ResponseEntity.created(uri).body(result);
+    }
+
+}
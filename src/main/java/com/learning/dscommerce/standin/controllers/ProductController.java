@@ -0,0 +1,75 @@
+package com.learning.dscommerce.standin.controllers;
+
+import java.net.URI;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.learning.dscommerce.standin.dto.PageDTO;
+import com.learning.dscommerce.standin.dto.ProductDTO;
+import com.learning.dscommerce.standin.dto.ProductMinDTO;
+import com.learning.dscommerce.standin.services.AuthService;
+import com.learning.dscommerce.standin.services.ProductService;
+
+@RestController
+@Profile("standin")
+@RequestMapping(value = "/products")
+public class ProductController {
+
+    private final ProductService service;
+    private final AuthService authService;
+
+    public ProductController(ProductService service, AuthService authService) {
+        this.service = service;
+        this.authService = authService;
+    }
+
+    @GetMapping
+    public ResponseEntity<PageDTO<ProductMinDTO>> findAll(@RequestParam(defaultValue = "") String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        return ResponseEntity.ok(service.findAll(name, page, size, sort));
+    }
+
+    @GetMapping(value = "/{id}")
+    public ResponseEntity<ProductDTO> findById(@PathVariable Long id) {
+        return ResponseEntity.ok(service.findById(id));
+    }
+
+    @PostMapping
+    public ResponseEntity<ProductDTO> insert(@RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestBody ProductDTO dto) {
+        authService.requireRole(authService.authenticate(authorization), "ROLE_ADMIN");
+        ProductDTO result = service.insert(dto);
+        URI uri = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(result.id()).toUri();
+        return ResponseEntity.created(uri).body(result);
+    }
+
+    @PutMapping(value = "/{id}")
+    public ResponseEntity<ProductDTO> update(@RequestHeader(value = "Authorization", required = false) String authorization,
+            @PathVariable Long id, @RequestBody ProductDTO dto) {
+        authService.requireRole(authService.authenticate(authorization), "ROLE_ADMIN");
+        return ResponseEntity.ok(service.update(id, dto));
+    }
+
+    @DeleteMapping(value = "/{id}")
+    public ResponseEntity<Void> delete(@RequestHeader(value = "Authorization", required = false) String authorization,
+            @PathVariable Long id) {
+        authService.requireRole(authService.authenticate(authorization), "ROLE_ADMIN");
+        service.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+}
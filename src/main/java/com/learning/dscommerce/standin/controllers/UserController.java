@@ -0,0 +1,29 @@
+package com.learning.dscommerce.standin.controllers;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.learning.dscommerce.standin.dto.UserDTO;
+import com.learning.dscommerce.standin.services.AuthService;
+
+@RestController
+@Profile("standin")
+@RequestMapping(value = "/users")
+public class UserController {
+
+    private final AuthService authService;
+
+    public UserController(AuthService authService) {
+        this.authService = authService;
+    }
+
+    @GetMapping(value = "/me")
+    public ResponseEntity<UserDTO> getMe(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        return ResponseEntity.ok(new UserDTO(authService.authenticate(authorization)));
+    }
+
+}
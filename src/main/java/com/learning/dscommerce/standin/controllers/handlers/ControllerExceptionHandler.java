@@ -0,0 +1,70 @@
+package com.learning.dscommerce.standin.controllers.handlers;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import com.learning.dscommerce.standin.dto.CustomError;
+import com.learning.dscommerce.standin.services.exceptions.DatabaseException;
+import com.learning.dscommerce.standin.services.exceptions.ForbiddenException;
+import com.learning.dscommerce.standin.services.exceptions.OAuth2Exception;
+import com.learning.dscommerce.standin.services.exceptions.ResourceNotFoundException;
+import com.learning.dscommerce.standin.services.exceptions.UnauthorizedException;
+import com.learning.dscommerce.standin.services.exceptions.ValidationException;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@ControllerAdvice
+@Profile("standin")
+public class ControllerExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<CustomError> resourceNotFound(ResourceNotFoundException e, HttpServletRequest request) {
+        return error(HttpStatus.NOT_FOUND, e.getMessage(), request);
+    }
+
+    @ExceptionHandler(DatabaseException.class)
+    public ResponseEntity<CustomError> database(DatabaseException e, HttpServletRequest request) {
+        return error(HttpStatus.BAD_REQUEST, e.getMessage(), request);
+    }
+
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<CustomError> forbidden(ForbiddenException e, HttpServletRequest request) {
+        return error(HttpStatus.FORBIDDEN, e.getMessage(), request);
+    }
+
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<CustomError> unauthorized(UnauthorizedException e, HttpServletRequest request) {
+        return error(HttpStatus.UNAUTHORIZED, e.getMessage(), request);
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<CustomError> notReadable(HttpMessageNotReadableException e, HttpServletRequest request) {
+        return error(HttpStatus.BAD_REQUEST, "Malformed request body", request);
+    }
+
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<CustomError> validation(ValidationException e, HttpServletRequest request) {
+        HttpStatus status = HttpStatus.UNPROCESSABLE_ENTITY;
+        CustomError err = new CustomError(Instant.now(), status.value(), e.getMessage(), request.getRequestURI(),
+                e.getErrors());
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(OAuth2Exception.class)
+    public ResponseEntity<Map<String, String>> oauth2(OAuth2Exception e) {
+        return ResponseEntity.status(e.getStatus()).body(Map.of("error", e.getError()));
+    }
+
+    private static ResponseEntity<CustomError> error(HttpStatus status, String message, HttpServletRequest request) {
+        CustomError err = new CustomError(Instant.now(), status.value(), message, request.getRequestURI(), null);
+        return ResponseEntity.status(status).body(err);
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.learning.dscommerce.standin.dto;
+
+import com.learning.dscommerce.standin.entities.Category;
+
+public record CategoryDTO(Long id, String name) {
+
+    public CategoryDTO(Category entity) {
+        this(entity.id(), entity.name());
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.learning.dscommerce.standin.dto;
+
+import com.learning.dscommerce.standin.entities.User;
+
+public record ClientDTO(Long id, String name) {
+
+    public ClientDTO(User entity) {
+        this(entity.id(), entity.name());
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.learning.dscommerce.standin.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CustomError(Instant timestamp, Integer status, String error, String path, List<FieldMessage> errors) {
+
+}
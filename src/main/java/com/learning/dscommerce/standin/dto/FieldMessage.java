@@ -0,0 +1,5 @@
+package com.learning.dscommerce.standin.dto;
+
+public record FieldMessage(String fieldName, String message) {
+
+}
@@ -0,0 +1,17 @@
+package com.learning.dscommerce.standin.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.learning.dscommerce.standin.entities.Order;
+import com.learning.dscommerce.standin.entities.OrderStatus;
+
+public record OrderDTO(Long id, Instant moment, OrderStatus status, ClientDTO client, Object payment,
+        List<OrderItemDTO> items, Double total) {
+
+    public OrderDTO(Order entity) {
+        this(entity.id(), entity.moment(), entity.status(), new ClientDTO(entity.client()), null,
+                entity.items().stream().map(OrderItemDTO::new).toList(), entity.getTotal());
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.learning.dscommerce.standin.dto;
+
+import com.learning.dscommerce.standin.entities.OrderItem;
+
+public record OrderItemDTO(Long productId, String name, Double price, Integer quantity, String imgUrl,
+        Double subTotal) {
+
+    public OrderItemDTO(OrderItem entity) {
+        this(entity.productId(), entity.name(), entity.price(), entity.quantity(), entity.imgUrl(),
+                entity.getSubTotal());
+    }
+
+}
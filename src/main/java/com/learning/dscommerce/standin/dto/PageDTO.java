@@ -0,0 +1,17 @@
+package com.learning.dscommerce.standin.dto;
+
+import java.util.List;
+
+/**
+ * JSON shape of a Spring Data {@code Page}, limited to the fields clients read.
+ */
+public record PageDTO<T>(List<T> content, long totalElements, int totalPages, int size, int number,
+        int numberOfElements, boolean first, boolean last, boolean empty) {
+
+    public static <T> PageDTO<T> of(List<T> content, long totalElements, int page, int size) {
+        int totalPages = size == 0 ? 1 : (int) ((totalElements + size - 1) / size);
+        return new PageDTO<>(content, totalElements, totalPages, size, page, content.size(), page == 0,
+                page + 1 >= totalPages, content.isEmpty());
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.learning.dscommerce.standin.dto;
+
+import java.util.List;
+
+import com.learning.dscommerce.standin.entities.Product;
+
+public record ProductDTO(Long id, String name, String description, Double price, String imgUrl,
+        List<CategoryDTO> categories) {
+
+    public ProductDTO(Product entity) {
+        this(entity.id(), entity.name(), entity.description(), entity.price(), entity.imgUrl(),
+                entity.categories().stream().map(CategoryDTO::new).toList());
+    }
+
+}
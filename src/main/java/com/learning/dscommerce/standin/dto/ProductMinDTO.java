@@ -0,0 +1,11 @@
+package com.learning.dscommerce.standin.dto;
+
+import com.learning.dscommerce.standin.entities.Product;
+
+public record ProductMinDTO(Long id, String name, Double price, String imgUrl) {
+
+    public ProductMinDTO(Product entity) {
+        this(entity.id(), entity.name(), entity.price(), entity.imgUrl());
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.learning.dscommerce.standin.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record TokenDTO(@JsonProperty("access_token") String accessToken,
+        @JsonProperty("token_type") String tokenType,
+        @JsonProperty("expires_in") long expiresIn,
+        String scope) {
+
+}
@@ -0,0 +1,14 @@
+package com.learning.dscommerce.standin.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.learning.dscommerce.standin.entities.User;
+
+public record UserDTO(Long id, String name, String email, String phone, LocalDate birthDate, List<String> roles) {
+
+    public UserDTO(User entity) {
+        this(entity.id(), entity.name(), entity.email(), entity.phone(), entity.birthDate(), entity.roles());
+    }
+
+}
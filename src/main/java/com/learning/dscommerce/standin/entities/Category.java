@@ -0,0 +1,5 @@
+package com.learning.dscommerce.standin.entities;
+
+public record Category(Long id, String name) {
+
+}
@@ -0,0 +1,12 @@
+package com.learning.dscommerce.standin.entities;
+
+import java.time.Instant;
+import java.util.List;
+
+public record Order(Long id, Instant moment, OrderStatus status, User client, List<OrderItem> items) {
+
+    public double getTotal() {
+        return items.stream().mapToDouble(OrderItem::getSubTotal).sum();
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.learning.dscommerce.standin.entities;
+
+/**
+ * Item of an order. Name, price and image are copied from the product when the order is placed.
+ */
+public record OrderItem(Long productId, String name, Double price, Integer quantity, String imgUrl) {
+
+    public double getSubTotal() {
+        return price * quantity;
+    }
+
+}
@@ -0,0 +1,5 @@
+package com.learning.dscommerce.standin.entities;
+
+public enum OrderStatus {
+    WAITING_PAYMENT, PAID, SHIPPED, DELIVERED, CANCELED
+}
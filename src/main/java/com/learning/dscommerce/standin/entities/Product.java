@@ -0,0 +1,12 @@
+package com.learning.dscommerce.standin.entities;
+
+import java.util.List;
+
+public record Product(Long id, String name, String description, Double price, String imgUrl,
+        List<Category> categories) {
+
+    public Product withId(Long newId) {
+        return new Product(newId, name, description, price, imgUrl, categories);
+    }
+
+}
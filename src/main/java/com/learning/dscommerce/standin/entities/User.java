@@ -0,0 +1,13 @@
+package com.learning.dscommerce.standin.entities;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record User(Long id, String name, String email, String phone, LocalDate birthDate, String password,
+        List<String> roles) {
+
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.learning.dscommerce.standin.repositories;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.learning.dscommerce.standin.StandinFixtures;
+import com.learning.dscommerce.standin.entities.Category;
+
+@Repository
+@Profile("standin")
+public class CategoryRepository {
+
+    private final Map<Long, Category> categories = StandinFixtures.categories().stream()
+            .collect(Collectors.toUnmodifiableMap(Category::id, Function.identity()));
+
+    public Optional<Category> findById(Long id) {
+        return Optional.ofNullable(categories.get(id));
+    }
+
+}
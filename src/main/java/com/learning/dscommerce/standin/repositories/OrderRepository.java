@@ -0,0 +1,52 @@
+package com.learning.dscommerce.standin.repositories;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.learning.dscommerce.standin.StandinFixtures;
+import com.learning.dscommerce.standin.entities.Order;
+import com.learning.dscommerce.standin.entities.OrderItem;
+
+@Repository
+@Profile("standin")
+public class OrderRepository {
+
+    private final Map<Long, Order> orders = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> itemsByProduct = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public OrderRepository() {
+        StandinFixtures.orders(StandinFixtures.products()).forEach(this::store);
+        sequence.set(orders.size());
+    }
+
+    public Order insert(Order order) {
+        Order saved = new Order(sequence.incrementAndGet(), order.moment(), order.status(), order.client(),
+                order.items());
+        store(saved);
+        return saved;
+    }
+
+    public Optional<Order> findById(Long id) {
+        return Optional.ofNullable(orders.get(id));
+    }
+
+    public boolean existsItemWithProduct(Long productId) {
+        LongAdder count = itemsByProduct.get(productId);
+        return count != null && count.sum() > 0;
+    }
+
+    private void store(Order order) {
+        orders.put(order.id(), order);
+        for (OrderItem item : order.items()) {
+            itemsByProduct.computeIfAbsent(item.productId(), id -> new LongAdder()).increment();
+        }
+    }
+
+}
@@ -0,0 +1,309 @@
+package com.learning.dscommerce.standin.repositories;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import com.learning.dscommerce.standin.entities.Product;
+
+/**
+ * Case-insensitive substring index over product names, keyed by trigram: for every three-character
+ * sequence of a lower-cased name it keeps a bitmap of the ids whose names contain it. A name containing a
+ * term contains all of the term's trigrams, so intersecting their bitmaps yields the candidates in id
+ * order, a word of 64 ids at a time. Shorter terms are the union of the trigrams that contain them. The
+ * index also keeps each product and its name by id, so it checks every candidate itself, since a longer
+ * term's intersection can hold names that have every trigram but not in a row, and hands out products
+ * without another lookup.
+ * <p>
+ * Bitmaps and products are split into chunks of {@value #CHUNK_IDS} consecutive ids that are allocated on first
+ * use, so a trigram costs a bit per product in the ranges it occurs in rather than an entry per name
+ * character. Chunks are never released. The index is lock-free but expects writes to the same id not to
+ * overlap; while a product is renamed, its old trigrams point at it until they are removed, and it is
+ * found only once its new name contains the term.
+ */
+public class ProductNameIndex {
+
+    static final int GRAM = 3;
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_IDS = 1 << CHUNK_SHIFT;
+    private static final int WORDS = CHUNK_IDS / Long.SIZE;
+
+    private final Map<String, Postings> grams = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicReferenceArray<Named>> products = new ConcurrentHashMap<>();
+
+    public static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Indexes a new product, or the current version of an indexed one.
+     *
+     * @param normalizedName the product name passed through {@link #normalize(String)}
+     */
+    public void add(Product product, String normalizedName) {
+        long id = product.id();
+        products.computeIfAbsent(id >>> CHUNK_SHIFT, chunk -> new AtomicReferenceArray<>(CHUNK_IDS))
+                .set(slot(id), new Named(product, normalizedName));
+        for (String gram : grams(normalizedName)) {
+            grams.computeIfAbsent(gram, g -> new Postings()).set(id);
+        }
+    }
+
+    public void remove(long id, String normalizedName) {
+        for (String gram : grams(normalizedName)) {
+            clear(gram, id);
+        }
+        AtomicReferenceArray<Named> chunk = products.get(id >>> CHUNK_SHIFT);
+        if (chunk != null) {
+            chunk.set(slot(id), null);
+        }
+    }
+
+    /**
+     * Removes the trigrams of a product's old name once its new name has been {@linkplain #add added}.
+     * Trigrams both names contain were set again by the add and must stay.
+     */
+    public void removeRenamed(long id, String oldNormalizedName, String newNormalizedName) {
+        Set<String> kept = grams(newNormalizedName);
+        for (String gram : grams(oldNormalizedName)) {
+            if (!kept.contains(gram)) {
+                clear(gram, id);
+            }
+        }
+    }
+
+    /**
+     * Passes to {@code action}, in id order and once each, the products whose names contain the normalized
+     * {@code term}, until it returns {@code false}. The term must not be empty.
+     */
+    public void forEachMatch(String term, Predicate<Product> action) {
+        forEachWord(term, new MatchVisitor(term, action));
+    }
+
+    /**
+     * How many products {@link #forEachMatch(String, Predicate)} would pass. Terms no longer than a trigram
+     * are counted a bitmap word at a time, without looking at names.
+     */
+    public long countMatches(String term) {
+        long[] count = { 0 };
+        if (term.length() > GRAM) {
+            forEachMatch(term, product -> {
+                count[0]++;
+                return true;
+            });
+        }
+        else {
+            forEachWord(term, (base, word) -> {
+                count[0] += Long.bitCount(word);
+                return true;
+            });
+        }
+        return count[0];
+    }
+
+    private void forEachWord(String term, WordVisitor visitor) {
+        if (term.length() == GRAM) {
+            Postings postings = grams.get(term);
+            if (postings != null) {
+                union(List.of(postings), visitor);
+            }
+        }
+        else if (term.length() < GRAM) {
+            List<Postings> containing = new ArrayList<>();
+            grams.forEach((gram, postings) -> {
+                if (gram.contains(term)) {
+                    containing.add(postings);
+                }
+            });
+            union(containing, visitor);
+        }
+        else {
+            List<Postings> all = new ArrayList<>();
+            for (String gram : grams(term)) {
+                Postings postings = grams.get(gram);
+                if (postings == null) {
+                    return;
+                }
+                all.add(postings);
+            }
+            intersection(all, visitor);
+        }
+    }
+
+    private static void union(List<Postings> postings, WordVisitor visitor) {
+        Set<Long> chunks = new TreeSet<>();
+        for (Postings p : postings) {
+            chunks.addAll(p.chunks.keySet());
+        }
+        List<AtomicLongArray> present = new ArrayList<>(postings.size());
+        for (long chunk : chunks) {
+            present.clear();
+            for (Postings p : postings) {
+                AtomicLongArray words = p.chunks.get(chunk);
+                if (words != null) {
+                    present.add(words);
+                }
+            }
+            long base = chunk << CHUNK_SHIFT;
+            for (int w = 0; w < WORDS; w++) {
+                long word = 0;
+                for (AtomicLongArray words : present) {
+                    word |= words.get(w);
+                }
+                if (word != 0 && !visitor.visit(base + (long) w * Long.SIZE, word)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Walks the chunks of the rarest trigram and masks each word with the same word of the others.
+     */
+    private static void intersection(List<Postings> postings, WordVisitor visitor) {
+        postings.sort(Comparator.comparingLong(Postings::size));
+        Postings rarest = postings.get(0);
+        AtomicLongArray[] others = new AtomicLongArray[postings.size() - 1];
+        chunks:
+        for (Map.Entry<Long, AtomicLongArray> chunk : rarest.chunks.entrySet()) {
+            for (int i = 0; i < others.length; i++) {
+                others[i] = postings.get(i + 1).chunks.get(chunk.getKey());
+                if (others[i] == null) {
+                    continue chunks;
+                }
+            }
+            long base = chunk.getKey() << CHUNK_SHIFT;
+            for (int w = 0; w < WORDS; w++) {
+                long word = chunk.getValue().get(w);
+                for (int i = 0; i < others.length && word != 0; i++) {
+                    word &= others[i].get(w);
+                }
+                if (word != 0 && !visitor.visit(base + (long) w * Long.SIZE, word)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static int slot(long id) {
+        return (int) (id & (CHUNK_IDS - 1));
+    }
+
+    private void clear(String gram, long id) {
+        Postings postings = grams.get(gram);
+        if (postings != null) {
+            postings.clear(id);
+        }
+    }
+
+    /**
+     * The distinct trigrams of a name; a name shorter than a trigram stands for itself, so terms it contains
+     * still find it.
+     */
+    private static Set<String> grams(String normalizedName) {
+        if (normalizedName.length() < GRAM) {
+            return normalizedName.isEmpty() ? Set.of() : Set.of(normalizedName);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= normalizedName.length(); i++) {
+            grams.add(normalizedName.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private record Named(Product product, String normalizedName) {
+
+    }
+
+    /**
+     * Checks the candidates of each word against their current names, looking up a chunk of products once
+     * for all the words in it.
+     */
+    private final class MatchVisitor implements WordVisitor {
+
+        private final String term;
+        private final Predicate<Product> action;
+        private long chunkKey = -1;
+        private AtomicReferenceArray<Named> chunk;
+
+        MatchVisitor(String term, Predicate<Product> action) {
+            this.term = term;
+            this.action = action;
+        }
+
+        @Override
+        public boolean visit(long base, long word) {
+            if (base >>> CHUNK_SHIFT != chunkKey) {
+                chunkKey = base >>> CHUNK_SHIFT;
+                chunk = products.get(chunkKey);
+            }
+            while (word != 0) {
+                Named named = chunk.get(slot(base) + Long.numberOfTrailingZeros(word));
+                if (named != null && named.normalizedName.contains(term) && !action.test(named.product)) {
+                    return false;
+                }
+                word &= word - 1;
+            }
+            return true;
+        }
+    }
+
+    @FunctionalInterface
+    private interface WordVisitor {
+
+        /**
+         * @param base the id of the lowest bit of {@code word}
+         * @return {@code false} to stop the walk
+         */
+        boolean visit(long base, long word);
+    }
+
+    /**
+     * The ids of the names containing one trigram, as a bitmap split into chunks ordered by id.
+     */
+    private static final class Postings {
+
+        private final ConcurrentSkipListMap<Long, AtomicLongArray> chunks = new ConcurrentSkipListMap<>();
+        // ConcurrentSkipListMap.size() walks the whole map
+        private final LongAdder size = new LongAdder();
+
+        long size() {
+            return size.sum();
+        }
+
+        void set(long id) {
+            AtomicLongArray words = chunks.computeIfAbsent(id >>> CHUNK_SHIFT, chunk -> new AtomicLongArray(WORDS));
+            long bit = 1L << (id & (Long.SIZE - 1));
+            if ((words.getAndAccumulate(word(id), bit, (word, mask) -> word | mask) & bit) == 0) {
+                size.increment();
+            }
+        }
+
+        void clear(long id) {
+            AtomicLongArray words = chunks.get(id >>> CHUNK_SHIFT);
+            if (words == null) {
+                return;
+            }
+            long bit = 1L << (id & (Long.SIZE - 1));
+            if ((words.getAndAccumulate(word(id), bit, (word, mask) -> word & ~mask) & bit) != 0) {
+                size.decrement();
+            }
+        }
+
+        private static int word(long id) {
+            return (int) ((id & (CHUNK_IDS - 1)) >>> 6);
+        }
+    }
+
+}
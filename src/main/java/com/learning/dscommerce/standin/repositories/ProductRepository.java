@@ -0,0 +1,202 @@
+package com.learning.dscommerce.standin.repositories;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.learning.dscommerce.standin.StandinFixtures;
+import com.learning.dscommerce.standin.entities.Product;
+
+/**
+ * Product catalog of the stand-in server. Reads never lock: products live in a concurrent map ordered
+ * by id and name searches go through a {@link ProductNameIndex}, which keeps its own copy of each product
+ * by id, so a search only touches the products that may match. Writes to the same product serialize on a
+ * lock stripe to keep the index in step with the map.
+ */
+@Repository
+@Profile("standin")
+public class ProductRepository {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ConcurrentSkipListMap<Long, Entry> products = new ConcurrentSkipListMap<>();
+    private final ProductNameIndex nameIndex = new ProductNameIndex();
+    private final AtomicLong sequence = new AtomicLong();
+    // ConcurrentSkipListMap.size() walks the whole map
+    private final AtomicLong count = new AtomicLong();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public ProductRepository(@Value("${dscommerce.standin.catalog.synthetic-products:0}") long syntheticProducts) {
+        Arrays.setAll(locks, i -> new Object());
+        StandinFixtures.products().forEach(this::add);
+        sequence.set(products.lastKey());
+        for (long i = 0; i < syntheticProducts; i++) {
+            add(StandinFixtures.syntheticProduct(sequence.incrementAndGet()));
+        }
+    }
+
+    public Product insert(Product product) {
+        Product saved = product.withId(sequence.incrementAndGet());
+        add(saved);
+        return saved;
+    }
+
+    /**
+     * Replaces an existing product; returns empty if it does not exist.
+     */
+    public Optional<Product> update(Product product) {
+        synchronized (lockFor(product.id())) {
+            Entry old = products.get(product.id());
+            if (old == null) {
+                return Optional.empty();
+            }
+            Entry updated = new Entry(product);
+            nameIndex.add(product, updated.normalizedName);
+            products.put(product.id(), updated);
+            if (!updated.normalizedName.equals(old.normalizedName)) {
+                nameIndex.removeRenamed(product.id(), old.normalizedName, updated.normalizedName);
+            }
+            return Optional.of(product);
+        }
+    }
+
+    public boolean deleteById(Long id) {
+        synchronized (lockFor(id)) {
+            Entry removed = products.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            nameIndex.remove(id, removed.normalizedName);
+            count.decrementAndGet();
+            return true;
+        }
+    }
+
+    public Optional<Product> findById(Long id) {
+        return Optional.ofNullable(products.get(id)).map(Entry::product);
+    }
+
+    public long count() {
+        return count.get();
+    }
+
+    /**
+     * Case-insensitive "name contains" search, paged like a Spring Data {@code Pageable}. A {@code null}
+     * order means by id. Matches stream from the index in id order into the page, so no request sorts or
+     * holds more than the {@code page * size + size} products it could return, and a page by id stops
+     * reading products as soon as it is full.
+     */
+    public ProductPage search(String name, int page, int size, Comparator<Product> order) {
+        long offset = (long) page * size;
+        PageBuilder builder = new PageBuilder(offset, size, order);
+        if (name.isEmpty()) {
+            if (order == null) {
+                List<Product> content = products.values().stream()
+                        .skip(offset).limit(size).map(Entry::product).toList();
+                return new ProductPage(content, count.get());
+            }
+            products.values().forEach(entry -> builder.add(entry.product));
+            return builder.build();
+        }
+        String term = ProductNameIndex.normalize(name);
+        nameIndex.forEachMatch(term, product -> {
+            builder.add(product);
+            return order != null || !builder.isFull();
+        });
+        if (order == null) {
+            // the page is full or the matches ran out; the index counts the rest a bitmap word at a time
+            // where it can
+            return new ProductPage(builder.content(), nameIndex.countMatches(term));
+        }
+        return builder.build();
+    }
+
+    private void add(Product product) {
+        Entry entry = new Entry(product);
+        nameIndex.add(product, entry.normalizedName);
+        products.put(product.id(), entry);
+        count.incrementAndGet();
+    }
+
+    private Object lockFor(long id) {
+        return locks[(int) (id & (LOCK_STRIPES - 1))];
+    }
+
+    /**
+     * Collects one page out of the matches it is given one by one, counting them all. By id, it keeps the
+     * matches past {@code offset}; sorted, it sorts only as much as the page needs, keeping the best
+     * {@code offset + size} matches in a bounded heap.
+     */
+    private static final class PageBuilder {
+
+        private final long offset;
+        private final int size;
+        private final Comparator<Product> order;
+        private final List<Product> byId = new ArrayList<>();
+        private final PriorityQueue<Product> best;
+        private long total;
+
+        PageBuilder(long offset, int size, Comparator<Product> order) {
+            this.offset = offset;
+            this.size = size;
+            this.order = order;
+            best = order == null ? null : new PriorityQueue<>(order.reversed());
+        }
+
+        void add(Product product) {
+            if (order == null) {
+                if (total >= offset && byId.size() < size) {
+                    byId.add(product);
+                }
+            }
+            else {
+                best.add(product);
+                if (best.size() > offset + size) {
+                    best.poll();
+                }
+            }
+            total++;
+        }
+
+        boolean isFull() {
+            return byId.size() == size;
+        }
+
+        List<Product> content() {
+            if (order == null) {
+                return List.copyOf(byId);
+            }
+            if (offset >= best.size()) {
+                return List.of();
+            }
+            Product[] sorted = best.toArray(Product[]::new);
+            Arrays.sort(sorted, order);
+            return List.of(sorted).subList((int) offset, sorted.length);
+        }
+
+        ProductPage build() {
+            return new ProductPage(content(), total);
+        }
+    }
+
+    public record ProductPage(List<Product> content, long totalElements) {
+
+    }
+
+    private record Entry(Product product, String normalizedName) {
+
+        Entry(Product product) {
+            this(product, ProductNameIndex.normalize(product.name()));
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.learning.dscommerce.standin.repositories;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.learning.dscommerce.standin.StandinFixtures;
+import com.learning.dscommerce.standin.entities.User;
+
+@Repository
+@Profile("standin")
+public class UserRepository {
+
+    private final Map<Long, User> byId = new ConcurrentHashMap<>();
+    private final Map<String, User> byEmail = new ConcurrentHashMap<>();
+
+    public UserRepository(@Value("${dscommerce.standin.synthetic-clients:0}") int syntheticClients) {
+        StandinFixtures.users().forEach(this::save);
+        for (int i = 1; i <= syntheticClients; i++) {
+            save(StandinFixtures.syntheticClient(i));
+        }
+    }
+
+    public void save(User user) {
+        byId.put(user.id(), user);
+        byEmail.put(user.email(), user);
+    }
+
+    public Optional<User> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<User> findByEmail(String email) {
+        return Optional.ofNullable(byEmail.get(email));
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.learning.dscommerce.standin.services;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.dscommerce.standin.dto.TokenDTO;
+import com.learning.dscommerce.standin.entities.User;
+import com.learning.dscommerce.standin.repositories.UserRepository;
+import com.learning.dscommerce.standin.services.exceptions.ForbiddenException;
+import com.learning.dscommerce.standin.services.exceptions.OAuth2Exception;
+import com.learning.dscommerce.standin.services.exceptions.UnauthorizedException;
+
+/**
+ * Password grant and bearer token validation of the stand-in. Tokens are HS256-signed JWTs, so a tampered
+ * token is rejected by its signature like on the real resource server.
+ * <p>
+ * Passwords are compared as plain text unless {@code dscommerce.standin.password-hash-iterations} is set, in
+ * which case every grant runs PBKDF2 with that many iterations, standing in for the BCrypt check that makes
+ * the real {@code /oauth2/token} CPU-bound. A user's stored hash is derived on their first login.
+ */
+@Service
+@Profile("standin")
+public class AuthService {
+
+    private static final String HMAC = "HmacSHA256";
+    private static final String PBKDF2 = "PBKDF2WithHmacSHA256";
+    private static final String HEADER = base64Url("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final String clientId;
+    private final String clientSecret;
+    private final long tokenSeconds;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+    private final int hashIterations;
+    private final byte[] salt = new byte[16];
+    private final Map<Long, byte[]> passwordHashes = new ConcurrentHashMap<>();
+
+    public AuthService(UserRepository userRepository, ObjectMapper objectMapper,
+            @Value("${dscommerce.standin.client-id:myclientid}") String clientId,
+            @Value("${dscommerce.standin.client-secret:myclientsecret}") String clientSecret,
+            @Value("${dscommerce.standin.token-seconds:86400}") long tokenSeconds,
+            @Value("${dscommerce.standin.password-hash-iterations:0}") int hashIterations) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.tokenSeconds = tokenSeconds;
+        this.hashIterations = hashIterations;
+        SecureRandom random = new SecureRandom();
+        byte[] secret = new byte[32];
+        random.nextBytes(secret);
+        random.nextBytes(salt);
+        key = new SecretKeySpec(secret, HMAC);
+        macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public TokenDTO passwordGrant(String authorization, String grantType, String username, String password) {
+        if (!isClientAuthorized(authorization)) {
+            throw new OAuth2Exception("invalid_client", 401);
+        }
+        if (!"password".equals(grantType)) {
+            throw new OAuth2Exception("unsupported_grant_type", 400);
+        }
+        User user = username == null ? null : userRepository.findByEmail(username).orElse(null);
+        if (password == null || !passwordMatches(user, password)) {
+            throw new OAuth2Exception("invalid_grant", 400);
+        }
+        return new TokenDTO(issue(user), "Bearer", tokenSeconds, "read write");
+    }
+
+    /**
+     * Returns the user of a valid {@code Bearer} token or throws {@link UnauthorizedException}.
+     */
+    public User authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new UnauthorizedException("Full authentication is required to access this resource");
+        }
+        String token = authorization.substring("Bearer ".length()).trim();
+        int signatureStart = token.lastIndexOf('.');
+        int payloadStart = token.indexOf('.');
+        if (payloadStart < 0 || signatureStart <= payloadStart) {
+            throw new UnauthorizedException("Malformed token");
+        }
+        try {
+            byte[] expected = sign(token.substring(0, signatureStart));
+            byte[] actual = DECODER.decode(token.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                throw new UnauthorizedException("Invalid token signature");
+            }
+            JsonNode claims = objectMapper.readTree(DECODER.decode(token.substring(payloadStart + 1, signatureStart)));
+            if (claims.path("exp").asLong() < System.currentTimeMillis() / 1000) {
+                throw new UnauthorizedException("Token expired");
+            }
+            return userRepository.findById(claims.path("uid").asLong())
+                    .orElseThrow(() -> new UnauthorizedException("Unknown user"));
+        }
+        catch (IllegalArgumentException | IOException e) {
+            throw new UnauthorizedException("Malformed token");
+        }
+    }
+
+    public void requireRole(User user, String role) {
+        if (!user.hasRole(role)) {
+            throw new ForbiddenException("Access denied");
+        }
+    }
+
+    private boolean passwordMatches(User user, String password) {
+        if (hashIterations <= 0) {
+            return user != null && user.password().equals(password);
+        }
+        // unknown users pay for a hash too, like Spring Security's DaoAuthenticationProvider
+        byte[] presented = hash(password);
+        return user != null && MessageDigest.isEqual(storedHash(user), presented);
+    }
+
+    /**
+     * Derives the hash outside of the map so that no bin lock is held while PBKDF2 runs; concurrent first
+     * logins of one user may both derive it, and the first stored wins.
+     */
+    private byte[] storedHash(User user) {
+        byte[] stored = passwordHashes.get(user.id());
+        if (stored == null) {
+            byte[] derived = hash(user.password());
+            stored = passwordHashes.putIfAbsent(user.id(), derived);
+            if (stored == null) {
+                stored = derived;
+            }
+        }
+        return stored;
+    }
+
+    private byte[] hash(String password) {
+        try {
+            PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, hashIterations, 256);
+            return SecretKeyFactory.getInstance(PBKDF2).generateSecret(spec).getEncoded();
+        }
+        catch (GeneralSecurityException e) {
+            throw new IllegalStateException("PBKDF2WithHmacSHA256 is not available", e);
+        }
+    }
+
+    private String issue(User user) {
+        long now = System.currentTimeMillis() / 1000;
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", user.email());
+        claims.put("uid", user.id());
+        claims.put("authorities", user.roles());
+        claims.put("iat", now);
+        claims.put("exp", now + tokenSeconds);
+        try {
+            String unsigned = HEADER + "." + base64Url(objectMapper.writeValueAsBytes(claims));
+            return unsigned + "." + base64Url(sign(unsigned));
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Could not serialize token claims", e);
+        }
+    }
+
+    private boolean isClientAuthorized(String authorization) {
+        if (authorization == null || !authorization.startsWith("Basic ")) {
+            return false;
+        }
+        try {
+            String credentials = new String(Base64.getDecoder().decode(authorization.substring("Basic ".length()).trim()),
+                    StandardCharsets.UTF_8);
+            return credentials.equals(clientId + ":" + clientSecret);
+        }
+        catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private byte[] sign(String content) {
+        return macs.get().doFinal(content.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            return mac;
+        }
+        catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.learning.dscommerce.standin.services;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.learning.dscommerce.standin.dto.FieldMessage;
+import com.learning.dscommerce.standin.dto.OrderDTO;
+import com.learning.dscommerce.standin.dto.OrderItemDTO;
+import com.learning.dscommerce.standin.entities.Order;
+import com.learning.dscommerce.standin.entities.OrderItem;
+import com.learning.dscommerce.standin.entities.OrderStatus;
+import com.learning.dscommerce.standin.entities.Product;
+import com.learning.dscommerce.standin.entities.User;
+import com.learning.dscommerce.standin.repositories.OrderRepository;
+import com.learning.dscommerce.standin.repositories.ProductRepository;
+import com.learning.dscommerce.standin.services.exceptions.ForbiddenException;
+import com.learning.dscommerce.standin.services.exceptions.ResourceNotFoundException;
+import com.learning.dscommerce.standin.services.exceptions.ValidationException;
+
+@Service
+@Profile("standin")
+public class OrderService {
+
+    private final OrderRepository repository;
+    private final ProductRepository productRepository;
+
+    public OrderService(OrderRepository repository, ProductRepository productRepository) {
+        this.repository = repository;
+        this.productRepository = productRepository;
+    }
+
+    public OrderDTO findById(Long id, User user) {
+        Order order = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource not found"));
+        if (!user.hasRole("ROLE_ADMIN") && !order.client().id().equals(user.id())) {
+            throw new ForbiddenException("Access denied");
+        }
+        return new OrderDTO(order);
+    }
+
+    public OrderDTO insert(OrderDTO dto, User client) {
+        validate(dto);
+        List<OrderItem> items = new ArrayList<>();
+        for (OrderItemDTO itemDto : dto.items()) {
+            Product product = productRepository.findById(itemDto.productId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Resource not found"));
+            items.add(new OrderItem(product.id(), product.name(), product.price(), itemDto.quantity(),
+                    product.imgUrl()));
+        }
+        Order order = repository.insert(new Order(null, Instant.now(), OrderStatus.WAITING_PAYMENT, client, items));
+        return new OrderDTO(order);
+    }
+
+    private static void validate(OrderDTO dto) {
+        List<FieldMessage> errors = new ArrayList<>();
+        if (dto.items() == null || dto.items().isEmpty()) {
+            errors.add(new FieldMessage("items", "There must be at least one item"));
+        }
+        else {
+            for (OrderItemDTO item : dto.items()) {
+                if (item.productId() == null) {
+                    errors.add(new FieldMessage("items", "Product id is required"));
+                }
+                if (item.quantity() == null || item.quantity() < 1) {
+                    errors.add(new FieldMessage("items", "Quantity must be positive"));
+                }
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.learning.dscommerce.standin.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.learning.dscommerce.standin.dto.CategoryDTO;
+import com.learning.dscommerce.standin.dto.FieldMessage;
+import com.learning.dscommerce.standin.dto.PageDTO;
+import com.learning.dscommerce.standin.dto.ProductDTO;
+import com.learning.dscommerce.standin.dto.ProductMinDTO;
+import com.learning.dscommerce.standin.entities.Category;
+import com.learning.dscommerce.standin.entities.Product;
+import com.learning.dscommerce.standin.repositories.CategoryRepository;
+import com.learning.dscommerce.standin.repositories.OrderRepository;
+import com.learning.dscommerce.standin.repositories.ProductRepository;
+import com.learning.dscommerce.standin.services.exceptions.DatabaseException;
+import com.learning.dscommerce.standin.services.exceptions.ResourceNotFoundException;
+import com.learning.dscommerce.standin.services.exceptions.ValidationException;
+
+@Service
+@Profile("standin")
+public class ProductService {
+
+    private static final int MAX_PAGE_SIZE = 2000;
+
+    private final ProductRepository repository;
+    private final CategoryRepository categoryRepository;
+    private final OrderRepository orderRepository;
+
+    public ProductService(ProductRepository repository, CategoryRepository categoryRepository,
+            OrderRepository orderRepository) {
+        this.repository = repository;
+        this.categoryRepository = categoryRepository;
+        this.orderRepository = orderRepository;
+    }
+
+    public PageDTO<ProductMinDTO> findAll(String name, int page, int size, String sort) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        ProductRepository.ProductPage result = repository.search(name, pageNumber, pageSize, comparator(sort));
+        return PageDTO.of(result.content().stream().map(ProductMinDTO::new).toList(), result.totalElements(),
+                pageNumber, pageSize);
+    }
+
+    public ProductDTO findById(Long id) {
+        return repository.findById(id)
+                .map(ProductDTO::new)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource not found"));
+    }
+
+    public ProductDTO insert(ProductDTO dto) {
+        validate(dto);
+        return new ProductDTO(repository.insert(toEntity(null, dto)));
+    }
+
+    public ProductDTO update(Long id, ProductDTO dto) {
+        validate(dto);
+        return repository.update(toEntity(id, dto))
+                .map(ProductDTO::new)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource not found"));
+    }
+
+    public void delete(Long id) {
+        if (repository.findById(id).isEmpty()) {
+            throw new ResourceNotFoundException("Resource not found");
+        }
+        if (orderRepository.existsItemWithProduct(id)) {
+            throw new DatabaseException("Referential integrity failure");
+        }
+        repository.deleteById(id);
+    }
+
+    private Product toEntity(Long id, ProductDTO dto) {
+        List<Category> categories = dto.categories().stream()
+                .map(CategoryDTO::id)
+                .map(categoryId -> categoryRepository.findById(categoryId)
+                        .orElseThrow(() -> new ValidationException(
+                                List.of(new FieldMessage("categories", "Category " + categoryId + " does not exist")))))
+                .toList();
+        return new Product(id, dto.name(), dto.description(), dto.price(), dto.imgUrl(), categories);
+    }
+
+    private static void validate(ProductDTO dto) {
+        List<FieldMessage> errors = new ArrayList<>();
+        if (dto.name() == null || dto.name().isBlank()) {
+            errors.add(new FieldMessage("name", "Product name canot be blank"));
+        }
+        else if (dto.name().length() < 3 || dto.name().length() > 80) {
+            errors.add(new FieldMessage("name", "Name must have between 3 and 80 characters"));
+        }
+        if (dto.description() == null || dto.description().isBlank()) {
+            errors.add(new FieldMessage("description", "Product description canot be blank"));
+        }
+        else if (dto.description().length() < 10) {
+            errors.add(new FieldMessage("description", "Description has to have at least 10 characters"));
+        }
+        if (dto.price() == null || dto.price() <= 0) {
+            errors.add(new FieldMessage("price", "Product price must be a positive value"));
+        }
+        if (dto.categories() == null || dto.categories().isEmpty()) {
+            errors.add(new FieldMessage("categories", "There must be at least one category"));
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+    }
+
+    /**
+     * Parses a Spring Data style {@code sort} parameter ({@code name}, {@code price,desc}, ...). Unsorted
+     * requests keep the repository order, which is by id.
+     */
+    static Comparator<Product> comparator(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return null;
+        }
+        String[] parts = sort.split(",");
+        Comparator<Product> comparator = switch (parts[0].trim()) {
+            case "name" -> Comparator.comparing(Product::name, String.CASE_INSENSITIVE_ORDER);
+            case "price" -> Comparator.comparing(Product::price);
+            case "id" -> Comparator.comparing(Product::id);
+            default -> throw new ValidationException(List.of(new FieldMessage("sort", "Unknown sort property " + parts[0])));
+        };
+        if (parts.length > 1 && parts[1].trim().toLowerCase(Locale.ROOT).equals("desc")) {
+            comparator = comparator.reversed();
+        }
+        return comparator.thenComparing(Product::id);
+    }
+
+}
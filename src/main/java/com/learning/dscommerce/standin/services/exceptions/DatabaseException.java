@@ -0,0 +1,9 @@
+package com.learning.dscommerce.standin.services.exceptions;
+
+public class DatabaseException extends RuntimeException {
+
+    public DatabaseException(String msg) {
+        super(msg);
+    }
+
+}
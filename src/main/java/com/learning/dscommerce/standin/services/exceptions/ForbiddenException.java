@@ -0,0 +1,9 @@
+package com.learning.dscommerce.standin.services.exceptions;
+
+public class ForbiddenException extends RuntimeException {
+
+    public ForbiddenException(String msg) {
+        super(msg);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.learning.dscommerce.standin.services.exceptions;
+
+/**
+ * Token endpoint error, rendered as {@code {"error": "<code>"}} like the OAuth2 specification requires.
+ */
+public class OAuth2Exception extends RuntimeException {
+
+    private final String error;
+    private final int status;
+
+    public OAuth2Exception(String error, int status) {
+        super(error);
+        this.error = error;
+        this.status = status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.learning.dscommerce.standin.services.exceptions;
+
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String msg) {
+        super(msg);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.learning.dscommerce.standin.services.exceptions;
+
+public class UnauthorizedException extends RuntimeException {
+
+    public UnauthorizedException(String msg) {
+        super(msg);
+    }
+
+}
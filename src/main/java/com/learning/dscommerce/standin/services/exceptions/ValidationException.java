@@ -0,0 +1,20 @@
+package com.learning.dscommerce.standin.services.exceptions;
+
+import java.util.List;
+
+import com.learning.dscommerce.standin.dto.FieldMessage;
+
+public class ValidationException extends RuntimeException {
+
+    private final List<FieldMessage> errors;
+
+    public ValidationException(List<FieldMessage> errors) {
+        super("Invalid data");
+        this.errors = errors;
+    }
+
+    public List<FieldMessage> getErrors() {
+        return errors;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.learning;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request payloads and credentials shared by the RestAssured suites and the load scenarios. Payloads are
+ * returned as new mutable maps so tests can remove or replace fields.
+ */
+public class Fixtures {
+
+    public static final String ADMIN_USERNAME = "alex@gmail.com";
+    public static final String ADMIN_PASSWORD = "123456";
+    public static final String CLIENT_USERNAME = "maria@gmail.com";
+    public static final String CLIENT_PASSWORD = "123456";
+
+    public static Map<String, Object> newProduct() {
+        Map<String, Object> product = new HashMap<>();
+        product.put("name", "New product");
+        product.put("price", 10.0);
+        product.put("imgUrl", "www.imgurl.com");
+        product.put("description", "here is a description");
+        List<Map<String, Object>> categories = new ArrayList<>();
+        Map<String, Object> category1 = new HashMap<>();
+        category1.put("id", 1);
+        Map<String, Object> category2 = new HashMap<>();
+        category2.put("id", 3);
+        categories.add(category1);
+        categories.add(category2);
+        product.put("categories", categories);
+        return product;
+    }
+
+    public static Map<String, Object> newOrder() {
+        return order(1, 4);
+    }
+
+    /**
+     * The {@link #newOrder()} payload with both item quantities left as slots, rendered with
+     * {@code render(quantity1, quantity2)}.
+     */
+    public static PayloadTemplate newOrderTemplate() {
+        return PayloadTemplate.compile(order(PayloadTemplate.slot("quantity1"), PayloadTemplate.slot("quantity2")),
+                "quantity1", "quantity2");
+    }
+
+    private static Map<String, Object> order(Object quantity1, Object quantity2) {
+        Map<String, Object> order = new HashMap<>();
+        List<Map<String, Object>> items = new ArrayList<>();
+        Map<String, Object> item1 = Map.of("productId", 5, "quantity", quantity1);
+        Map<String, Object> item2 = Map.of("productId", 6, "quantity", quantity2);
+        items.addAll(List.of(item1, item2));
+        order.put("items", items);
+        return order;
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.learning;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A JSON request body serialized once and rendered many times. The payload is written by Jackson when
+ * the template is compiled, with {@link #slot(String) slots} standing in for the fields that change
+ * between requests; rendering only copies the fixed bytes around them and encodes the slot values, so
+ * sending the same order or product a million times does not serialize it a million times.
+ * <p>
+ * Rendered bytes go straight to RestAssured with {@code .body(byte[])}, which sends them as they are.
+ * Templates are immutable and can be shared between threads.
+ */
+public class PayloadTemplate {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<String> slots;
+    // segments[i] is written before placeholder i; the last segment closes the payload
+    private final byte[][] segments;
+    private final int[] placeholderSlots;
+    private final int fixedLength;
+
+    private PayloadTemplate(List<String> slots, byte[][] segments, int[] placeholderSlots) {
+        this.slots = slots;
+        this.segments = segments;
+        this.placeholderSlots = placeholderSlots;
+        this.fixedLength = Arrays.stream(segments).mapToInt(segment -> segment.length).sum();
+    }
+
+    /**
+     * A placeholder for a field value, filled in when the template is rendered.
+     */
+    public static Slot slot(String name) {
+        return new Slot(name);
+    }
+
+    /**
+     * Serializes {@code payload} and remembers where its slots are. The order of {@code slotNames} is the
+     * order in which {@link #render(Object...)} takes their values; every slot in the payload must be
+     * listed, and a slot may appear more than once.
+     */
+    public static PayloadTemplate compile(Object payload, String... slotNames) {
+        byte[] json = serialize(payload);
+        byte[][] markers = new byte[slotNames.length][];
+        for (int i = 0; i < slotNames.length; i++) {
+            markers[i] = serialize(slot(slotNames[i]));
+        }
+        List<byte[]> segments = new ArrayList<>();
+        List<Integer> placeholders = new ArrayList<>();
+        boolean[] used = new boolean[slotNames.length];
+        int segmentStart = 0;
+        for (int position = 0; position < json.length; position++) {
+            for (int slot = 0; slot < markers.length; slot++) {
+                if (Arrays.equals(json, position, Math.min(json.length, position + markers[slot].length),
+                        markers[slot], 0, markers[slot].length)) {
+                    segments.add(Arrays.copyOfRange(json, segmentStart, position));
+                    placeholders.add(slot);
+                    used[slot] = true;
+                    position += markers[slot].length - 1;
+                    segmentStart = position + 1;
+                    break;
+                }
+            }
+        }
+        segments.add(Arrays.copyOfRange(json, segmentStart, json.length));
+        for (int slot = 0; slot < slotNames.length; slot++) {
+            if (!used[slot]) {
+                throw new IllegalArgumentException("Slot " + slotNames[slot] + " does not appear in the payload");
+            }
+        }
+        String serializedPrefix = new String(serialize(Slot.PREFIX), StandardCharsets.UTF_8).replace("\"", "");
+        if (segments.stream().anyMatch(segment -> new String(segment, StandardCharsets.UTF_8).contains(serializedPrefix))) {
+            throw new IllegalArgumentException("Payload has slots that are not listed in " + List.of(slotNames));
+        }
+        return new PayloadTemplate(List.of(slotNames), segments.toArray(byte[][]::new),
+                placeholders.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    public List<String> slots() {
+        return slots;
+    }
+
+    /**
+     * Renders the payload with the given slot values, in the order the slots were listed at compile time.
+     * Integers, strings and booleans are encoded directly; anything else goes through Jackson.
+     */
+    public byte[] render(Object... values) {
+        byte[][] encoded = encode(values);
+        byte[] body = new byte[length(encoded)];
+        write(ByteBuffer.wrap(body), encoded);
+        return body;
+    }
+
+    /**
+     * Renders the payload into {@code target}, which may be a direct buffer reused between requests.
+     *
+     * @throws java.nio.BufferOverflowException if {@code target} has less room than the rendered payload
+     */
+    public void writeTo(ByteBuffer target, Object... values) {
+        write(target, encode(values));
+    }
+
+    private byte[][] encode(Object[] values) {
+        if (values.length != slots.size()) {
+            throw new IllegalArgumentException("Expected values for " + slots + " but got " + values.length);
+        }
+        byte[][] encoded = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = encodeValue(values[i]);
+        }
+        return encoded;
+    }
+
+    private int length(byte[][] encoded) {
+        int length = fixedLength;
+        for (int slot : placeholderSlots) {
+            length += encoded[slot].length;
+        }
+        return length;
+    }
+
+    private void write(ByteBuffer target, byte[][] encoded) {
+        for (int i = 0; i < placeholderSlots.length; i++) {
+            target.put(segments[i]);
+            target.put(encoded[placeholderSlots[i]]);
+        }
+        target.put(segments[segments.length - 1]);
+    }
+
+    private static byte[] encodeValue(Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof Boolean || value == null) {
+            return String.valueOf(value).getBytes(StandardCharsets.US_ASCII);
+        }
+        if (value instanceof String text) {
+            byte[] quoted = JsonStringEncoder.getInstance().quoteAsUTF8(text);
+            byte[] encoded = new byte[quoted.length + 2];
+            encoded[0] = '"';
+            System.arraycopy(quoted, 0, encoded, 1, quoted.length);
+            encoded[encoded.length - 1] = '"';
+            return encoded;
+        }
+        return serialize(value);
+    }
+
+    private static byte[] serialize(Object value) {
+        try {
+            return MAPPER.writeValueAsBytes(value);
+        }
+        catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + value, e);
+        }
+    }
+
+    public record Slot(String name) {
+
+        static final String PREFIX = "\u0000slot:";
+
+        @JsonValue
+        public String marker() {
+            return PREFIX + name;
+        }
+    }
+
+}
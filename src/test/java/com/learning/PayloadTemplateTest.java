@@ -0,0 +1,77 @@
+package com.learning;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class PayloadTemplateTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void renderShouldMatchSerializingThePayloadWithTheValuesInPlace() throws Exception {
+        byte[] rendered = Fixtures.newOrderTemplate().render(2, 3);
+
+        JsonNode order = mapper.readTree(rendered);
+        assertThat(order.at("/items/0/productId").asInt()).isEqualTo(5);
+        assertThat(order.at("/items/0/quantity").asInt()).isEqualTo(2);
+        assertThat(order.at("/items/1/productId").asInt()).isEqualTo(6);
+        assertThat(order.at("/items/1/quantity").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    public void renderShouldEscapeStringsAndRepeatSlots() throws Exception {
+        PayloadTemplate template = PayloadTemplate.compile(
+                Map.of("name", PayloadTemplate.slot("name"), "alias", PayloadTemplate.slot("name"), "price", 10.0),
+                "name");
+
+        JsonNode product = mapper.readTree(template.render("Café \"Deluxe\"\n"));
+
+        assertThat(product.get("name").asText()).isEqualTo("Café \"Deluxe\"\n");
+        assertThat(product.get("alias").asText()).isEqualTo("Café \"Deluxe\"\n");
+        assertThat(product.get("price").asDouble()).isEqualTo(10.0);
+    }
+
+    @Test
+    public void renderShouldSerializeOtherValuesWithJackson() throws Exception {
+        PayloadTemplate template = PayloadTemplate.compile(Map.of("categories", PayloadTemplate.slot("categories")),
+                "categories");
+
+        JsonNode product = mapper.readTree(template.render(List.of(Map.of("id", 1), Map.of("id", 3))));
+
+        assertThat(product.at("/categories/1/id").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    public void writeToShouldFillDirectBuffers() {
+        PayloadTemplate template = Fixtures.newOrderTemplate();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+
+        template.writeTo(buffer, 1, 4);
+
+        byte[] written = new byte[buffer.flip().remaining()];
+        buffer.get(written);
+        assertThat(new String(written, StandardCharsets.UTF_8))
+                .isEqualTo(new String(template.render(1, 4), StandardCharsets.UTF_8));
+        assertThatExceptionOfType(BufferOverflowException.class)
+                .isThrownBy(() -> template.writeTo(ByteBuffer.allocateDirect(8), 1, 4));
+    }
+
+    @Test
+    public void compileShouldRejectSlotsThatAreMissingOrNotListed() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> PayloadTemplate.compile(Map.of("name", "fixed"), "name"));
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> PayloadTemplate.compile(Map.of("name", PayloadTemplate.slot("name"))));
+    }
+
+}
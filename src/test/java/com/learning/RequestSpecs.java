@@ -0,0 +1,34 @@
+package com.learning;
+
+import com.learning.http.PooledHttpClient;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Builds the request specifications shared by the RestAssured suites. Tests pass the specification to
+ * {@code given(spec)} instead of mutating the global {@code RestAssured.baseURI}, which keeps them safe to
+ * run concurrently. Requests go through the shared keep-alive connection pool unless
+ * {@code -Dhttp.pool.enabled=false}.
+ */
+public class RequestSpecs {
+
+    public static final String BASE_URI_PROPERTY = "dscommerce.baseUri";
+    public static final String DEFAULT_BASE_URI = "http://localhost:8080";
+
+    public static String baseUri() {
+        return System.getProperty(BASE_URI_PROPERTY, DEFAULT_BASE_URI);
+    }
+
+    public static RequestSpecification base() {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(baseUri());
+        PooledHttpClient pool = PooledHttpClient.shared();
+        if (pool.isEnabled()) {
+            builder.setConfig(RestAssured.config().httpClient(pool.httpClientConfig()));
+        }
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.learning;
+
+/**
+ * Names of the shared server-side fixtures guarded with {@code @ResourceLock} when the suites run in
+ * parallel. Tests that change a fixture take the lock in {@code READ_WRITE} mode, tests whose assertions
+ * depend on it take it in {@code READ} mode.
+ */
+public class ResourceLocks {
+
+    // product rows and the paged catalog listing built from them
+    public static final String CATALOG = "dscommerce.catalog";
+
+}
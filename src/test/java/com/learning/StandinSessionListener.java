@@ -0,0 +1,41 @@
+package com.learning;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.learning.dscommerce.DscommerceRestassuredApplication;
+
+/**
+ * With {@code -Ddscommerce.standin=true}, starts the in-memory stand-in of the DScommerce API in the test
+ * JVM on a free port before any test runs and points {@link RequestSpecs} at it, so the suites need no
+ * external server.
+ */
+public class StandinSessionListener implements LauncherSessionListener {
+
+    private ConfigurableApplicationContext context;
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        if (!Boolean.getBoolean("dscommerce.standin")) {
+            return;
+        }
+        context = new SpringApplicationBuilder(DscommerceRestassuredApplication.class)
+                .profiles("standin")
+                // an argument, so it wins over server.port in application-standin.properties
+                .run("--server.port=0");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        System.setProperty(RequestSpecs.BASE_URI_PROPERTY, "http://localhost:" + port);
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+}
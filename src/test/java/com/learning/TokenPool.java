@@ -0,0 +1,253 @@
+package com.learning;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+import com.learning.dscommerce.standin.StandinFixtures;
+
+/**
+ * Access tokens of many users, for load that should look like thousands of principals rather than the two
+ * fixture users. Tokens are fetched in parallel when the pool opens and then handed out round-robin or at
+ * random without any I/O: a few background threads replace each token shortly before it expires, and the old
+ * one keeps being handed out until its replacement arrives. Refreshes are spread at random over the last part
+ * of each token's life, so tokens issued together are not all renewed at the same moment. A failed refresh is
+ * retried a few seconds later.
+ * <p>
+ * The API has no sign-up endpoint, so users must already exist: the stand-in seeds them with
+ * {@code dscommerce.standin.synthetic-clients}, other servers can be given a credentials file.
+ */
+public class TokenPool implements AutoCloseable {
+
+    private static final long RETRY_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final int REFRESH_THREADS = 4;
+    // a refresh is due at a random point of the last fifth of the time until the token's refresh time
+    private static final double REFRESH_JITTER = 0.2;
+
+    // empty once the properties turned out to configure no pool, so the request path never locks again
+    private static volatile Optional<TokenPool> clients;
+
+    private final List<Credentials> users;
+    private final TokenSource source;
+    private final Handout handout;
+    private final AtomicReferenceArray<TokenUtil.Token> tokens;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong refreshFailures = new AtomicLong();
+    private final ScheduledExecutorService refresher;
+
+    public TokenPool(List<Credentials> users, int fetchThreads, Handout handout, TokenSource source) {
+        if (users.isEmpty()) {
+            throw new IllegalArgumentException("A token pool needs at least one user");
+        }
+        this.users = List.copyOf(users);
+        this.source = source;
+        this.handout = handout;
+        this.tokens = new AtomicReferenceArray<>(users.size());
+        this.refresher = Executors.newScheduledThreadPool(REFRESH_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "token-pool-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        fetchAll(fetchThreads);
+    }
+
+    /**
+     * The pool of client users described by {@code tokens.*} system properties, opened on first use, or null
+     * when {@code tokens.users} and {@code tokens.usersFile} are both unset.
+     * <ul>
+     * <li>{@code tokens.users}: number of users named by {@code tokens.emailPattern} (a {@code String.format}
+     * pattern, stand-in clients by default) from 1, all with password {@code tokens.password}</li>
+     * <li>{@code tokens.usersFile}: file of {@code email,password} lines, used instead when set</li>
+     * <li>{@code tokens.fetchThreads}: parallel logins while opening, default 16</li>
+     * <li>{@code tokens.handout}: {@code ROUND_ROBIN} (default) or {@code RANDOM}</li>
+     * </ul>
+     */
+    public static TokenPool clients() {
+        Optional<TokenPool> pool = clients;
+        if (pool == null) {
+            synchronized (TokenPool.class) {
+                pool = clients;
+                if (pool == null) {
+                    List<Credentials> users = credentialsFromSystemProperties();
+                    pool = users.isEmpty() ? Optional.empty()
+                            : Optional.of(new TokenPool(users, Integer.getInteger("tokens.fetchThreads", 16),
+                                    Handout.valueOf(System.getProperty("tokens.handout", Handout.ROUND_ROBIN.name())),
+                                    TokenUtil::requestToken));
+                    clients = pool;
+                }
+            }
+        }
+        return pool.orElse(null);
+    }
+
+    public static List<Credentials> credentialsFromSystemProperties() {
+        String file = System.getProperty("tokens.usersFile");
+        if (file != null) {
+            return Credentials.fromFile(Path.of(file));
+        }
+        return Credentials.fromPattern(System.getProperty("tokens.emailPattern", StandinFixtures.SYNTHETIC_CLIENT_EMAIL),
+                Integer.getInteger("tokens.users", 0),
+                System.getProperty("tokens.password", StandinFixtures.DEFAULT_PASSWORD));
+    }
+
+    /**
+     * The token of the next user, chosen by the pool's {@link Handout}.
+     */
+    public String next() {
+        return token(nextIndex());
+    }
+
+    public int nextIndex() {
+        return handout == Handout.RANDOM
+                ? ThreadLocalRandom.current().nextInt(users.size())
+                : Math.floorMod(cursor.getAndIncrement(), users.size());
+    }
+
+    public String token(int index) {
+        return tokens.get(index).value();
+    }
+
+    public Credentials user(int index) {
+        return users.get(index);
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    public long getRefreshes() {
+        return refreshes.get();
+    }
+
+    public long getRefreshFailures() {
+        return refreshFailures.get();
+    }
+
+    @Override
+    public void close() {
+        refresher.shutdownNow();
+    }
+
+    private void fetchAll(int fetchThreads) {
+        List<Future<TokenUtil.Token>> fetches = new ArrayList<>();
+        try (ExecutorService fetchers = Executors.newFixedThreadPool(Math.max(1, fetchThreads))) {
+            for (Credentials user : users) {
+                fetches.add(fetchers.submit(() -> source.request(user.username(), user.password())));
+            }
+        }
+        List<String> failed = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            TokenUtil.Token token = result(fetches.get(i));
+            if (token == null) {
+                failed.add(users.get(i).username());
+                continue;
+            }
+            tokens.set(i, token);
+            scheduleRefresh(i, jittered(token.refreshAtNanos() - System.nanoTime()));
+        }
+        if (!failed.isEmpty()) {
+            close();
+            throw new IllegalStateException(failed.size() + " of " + users.size() + " users could not log in, e.g. "
+                    + failed.get(0));
+        }
+    }
+
+    private void scheduleRefresh(int index, long delayNanos) {
+        if (!refresher.isShutdown()) {
+            refresher.schedule(() -> refresh(index), Math.max(0, delayNanos), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void refresh(int index) {
+        Credentials user = users.get(index);
+        TokenUtil.Token token;
+        try {
+            token = source.request(user.username(), user.password());
+        }
+        catch (RuntimeException e) {
+            token = null;
+        }
+        if (token == null) {
+            refreshFailures.incrementAndGet();
+            scheduleRefresh(index, RETRY_NANOS);
+            return;
+        }
+        tokens.set(index, token);
+        refreshes.incrementAndGet();
+        // never spin on servers that announce no lifetime
+        scheduleRefresh(index, Math.max(RETRY_NANOS, jittered(token.refreshAtNanos() - System.nanoTime())));
+    }
+
+    private static long jittered(long delayNanos) {
+        return delayNanos - (long) (delayNanos * REFRESH_JITTER * ThreadLocalRandom.current().nextDouble());
+    }
+
+    private static TokenUtil.Token result(Future<TokenUtil.Token> fetch) {
+        try {
+            return fetch.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while logging in", e);
+        }
+        catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    public enum Handout {
+        ROUND_ROBIN, RANDOM
+    }
+
+    /**
+     * Exchanges credentials for a token; {@link TokenUtil#requestToken(String, String)} outside of tests.
+     */
+    @FunctionalInterface
+    public interface TokenSource {
+
+        TokenUtil.Token request(String username, String password);
+    }
+
+    public record Credentials(String username, String password) {
+
+        public static List<Credentials> fromPattern(String emailPattern, int count, String password) {
+            return IntStream.rangeClosed(1, count)
+                    .mapToObj(i -> new Credentials(String.format(emailPattern, i), password))
+                    .toList();
+        }
+
+        /**
+         * Reads {@code email,password} lines, skipping blank lines and lines starting with {@code #}.
+         */
+        public static List<Credentials> fromFile(Path file) {
+            try {
+                return Files.readAllLines(file).stream()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .map(line -> line.split(",", 2))
+                        .map(fields -> new Credentials(fields[0].trim(), fields[1].trim()))
+                        .toList();
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.learning;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.learning.TokenPool.Credentials;
+import com.learning.TokenPool.Handout;
+
+public class TokenPoolTest {
+
+    private final List<Credentials> users = Credentials.fromPattern("client%d@dscommerce.test", 3, "123456");
+    private final Map<String, AtomicInteger> logins = new ConcurrentHashMap<>();
+
+    @Test
+    public void nextShouldHandOutEveryUserRoundRobin() {
+        try (TokenPool pool = new TokenPool(users, 2, Handout.ROUND_ROBIN, tokensValidFor(Duration.ofHours(1)))) {
+            List<String> handedOut = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                handedOut.add(pool.next());
+            }
+
+            assertThat(handedOut).containsExactly(
+                    "client1@dscommerce.test#1", "client2@dscommerce.test#1", "client3@dscommerce.test#1",
+                    "client1@dscommerce.test#1", "client2@dscommerce.test#1", "client3@dscommerce.test#1");
+        }
+    }
+
+    @Test
+    public void tokensShouldBeReplacedInTheBackgroundBeforeTheyExpire() {
+        try (TokenPool pool = new TokenPool(users, 3, Handout.RANDOM, tokensValidFor(Duration.ofMillis(50)))) {
+            await().atMost(Duration.ofSeconds(5)).until(() -> pool.getRefreshes() >= users.size());
+
+            for (int i = 0; i < users.size(); i++) {
+                assertThat(pool.token(i)).startsWith(users.get(i).username()).doesNotEndWith("#1");
+            }
+        }
+    }
+
+    @Test
+    public void failedRefreshShouldKeepHandingOutTheCurrentToken() {
+        TokenPool.TokenSource failsAfterLogin = (username, password) -> {
+            int login = logins.computeIfAbsent(username, u -> new AtomicInteger()).incrementAndGet();
+            if (login > 1) {
+                throw new IllegalStateException("authorization server down");
+            }
+            return new TokenUtil.Token(username + "#" + login, System.nanoTime());
+        };
+        try (TokenPool pool = new TokenPool(users.subList(0, 1), 1, Handout.ROUND_ROBIN, failsAfterLogin)) {
+            await().atMost(Duration.ofSeconds(5)).until(() -> pool.getRefreshFailures() >= 1);
+
+            assertThat(pool.next()).isEqualTo("client1@dscommerce.test#1");
+        }
+    }
+
+    @Test
+    public void constructorShouldFailWhenUsersCannotLogIn() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> new TokenPool(users, 2, Handout.ROUND_ROBIN, (username, password) -> null))
+                .withMessageContaining("3 of 3 users could not log in");
+    }
+
+    private TokenPool.TokenSource tokensValidFor(Duration lifetime) {
+        return (username, password) -> {
+            int login = logins.computeIfAbsent(username, u -> new AtomicInteger()).incrementAndGet();
+            return new TokenUtil.Token(username + "#" + login, System.nanoTime() + lifetime.toNanos());
+        };
+    }
+
+}
@@ -1,28 +1,99 @@
 package com.learning;
 
 import static io.restassured.RestAssured.*;
-import static io.restassured.matcher.RestAssuredMatchers.*;
-import static org.hamcrest.Matchers.*;
-import static org.mockito.ArgumentMatchers.isNotNull;
 
-import io.restassured.path.json.JsonPath;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 
 public class TokenUtil {
 
+    private static final String CLIENT_ID = "myclientid";
+    private static final String CLIENT_SECRET = "myclientsecret";
+
+    // tokens are renewed this long before the expiry announced by the server
+    private static final long MAX_REFRESH_MARGIN_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Map<String, CompletableFuture<Token>> cache = new ConcurrentHashMap<>();
+    private static final AtomicLong cacheHits = new AtomicLong();
+    private static final AtomicLong cacheMisses = new AtomicLong();
+
+    /**
+     * Returns an access token for the given user, reusing a cached one while it is still valid.
+     * Tokens are cached per client id and username, so callers must always use the same password
+     * for a given username. Use {@link #authRequest(String, String)} when a fresh exchange is needed.
+     */
     public static String obtainAccessToken(String username, String password){
-        Response response = authRequest(username, password);
-        JsonPath jsonBoy = response.jsonPath();
-        String token = jsonBoy.getString("access_token");
-        return token;
+        String key = CLIENT_ID + ":" + username;
+        while (true) {
+            CompletableFuture<Token> cached = cache.get(key);
+            if (cached != null && !cached.isDone()) {
+                // another thread is already asking /oauth2/token for this user
+                Token token = cached.join();
+                if (token != null) {
+                    cacheHits.incrementAndGet();
+                    return token.value();
+                }
+                continue;
+            }
+            Token current = cached == null ? null : cached.join();
+            if (current != null && current.isFresh()) {
+                cacheHits.incrementAndGet();
+                return current.value();
+            }
+            // the grant is sent outside of the map so that no bin lock is held during the request
+            CompletableFuture<Token> mine = new CompletableFuture<>();
+            boolean claimed = cached == null ? cache.putIfAbsent(key, mine) == null : cache.replace(key, cached, mine);
+            if (claimed) {
+                cacheMisses.incrementAndGet();
+                return fetch(key, mine, username, password);
+            }
+        }
+    }
+
+    private static String fetch(String key, CompletableFuture<Token> pending, String username, String password) {
+        Token token;
+        try {
+            token = requestToken(username, password);
+        }
+        catch (RuntimeException e) {
+            cache.remove(key, pending);
+            // pending futures always complete normally, with null when the grant failed
+            pending.complete(null);
+            throw e;
+        }
+        if (token == null) {
+            // failed grants are not cached; threads that waited for it try again themselves
+            cache.remove(key, pending);
+        }
+        pending.complete(token);
+        return token == null ? null : token.value();
     }
 
     public static Response authRequest(String username, String password){
+        return authRequest(RequestSpecs.base(), username, password);
+    }
+
+    /**
+     * The password grant sent with the given base specification, for callers that keep one per thread.
+     */
+    public static Response authRequest(RequestSpecification spec, String username, String password) {
 
-        return given()
+        return given(spec)
                 .auth()
                 .preemptive()
-                .basic("myclientid", "myclientsecret")
+                .basic(CLIENT_ID, CLIENT_SECRET)
             .contentType("application/x-www-form-urlencoded")
                 .formParam("grant_type", "password")
                 .formParam("username", username)
@@ -30,5 +101,57 @@ public class TokenUtil {
                 .when()
                     .post("/oauth2/token");
     }
-    
+
+    public static long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    public static long getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    public static void clearTokenCache() {
+        cache.clear();
+    }
+
+    /**
+     * Exchanges the user's credentials for a new token, bypassing the cache. Returns null when the grant
+     * fails. The response is read with Jackson: a {@code JsonPath} lookup compiles a Groovy script and costs
+     * milliseconds, which adds up when thousands of users log in.
+     */
+    public static Token requestToken(String username, String password) {
+        Response response = authRequest(username, password);
+        JsonNode jsonBody;
+        try {
+            jsonBody = MAPPER.readTree(response.asByteArray());
+        }
+        catch (IOException e) {
+            return null;
+        }
+        String token = jsonBody.path("access_token").asText(null);
+        if (token == null) {
+            // failed grant; callers never cache it
+            return null;
+        }
+        if (!jsonBody.hasNonNull("expires_in")) {
+            // no announced lifetime: hand the token out once and fetch a new one next time
+            return new Token(token, System.nanoTime());
+        }
+        long expiresIn = jsonBody.get("expires_in").asLong();
+        long lifetime = TimeUnit.SECONDS.toNanos(expiresIn);
+        long margin = Math.min(MAX_REFRESH_MARGIN_NANOS, lifetime / 10);
+        return new Token(token, System.nanoTime() + lifetime - margin);
+    }
+
+    /**
+     * An access token and the {@link System#nanoTime()} at which it should be replaced, shortly before it
+     * expires.
+     */
+    public record Token(String value, long refreshAtNanos) {
+
+        public boolean isFresh() {
+            return System.nanoTime() - refreshAtNanos < 0;
+        }
+    }
+
 }
@@ -0,0 +1,74 @@
+package com.learning.async;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hamcrest.Matcher;
+
+import com.learning.validation.StreamingValidator;
+
+/**
+ * Expectations on an {@link AsyncHttp} response, declared like RestAssured's {@code then()} and checked
+ * when the response completes. Body paths are checked by a {@link StreamingValidator} in one streaming pass.
+ * {@link #response()} attaches the check: the returned future completes with the response when every
+ * expectation holds and exceptionally with the {@link AssertionError} otherwise, and the outcome is
+ * recorded in the statistics of the endpoint.
+ */
+public class AsyncExpectations {
+
+    private final AsyncHttp http;
+    private final String endpoint;
+    private final CompletableFuture<AsyncResponse> response;
+    private int expectedStatus = -1;
+    private StreamingValidator validator;
+
+    AsyncExpectations(AsyncHttp http, String endpoint, CompletableFuture<AsyncResponse> response) {
+        this.http = http;
+        this.endpoint = endpoint;
+        this.response = response;
+    }
+
+    public AsyncExpectations statusCode(int expectedStatus) {
+        this.expectedStatus = expectedStatus;
+        return this;
+    }
+
+    public AsyncExpectations body(String path, Matcher<?> matcher) {
+        validator().body(path, matcher);
+        return this;
+    }
+
+    public AsyncExpectations bodyHasItems(String path, Object... items) {
+        validator().bodyHasItems(path, items);
+        return this;
+    }
+
+    public CompletableFuture<AsyncResponse> response() {
+        return response.thenApply(this::check);
+    }
+
+    private AsyncResponse check(AsyncResponse response) {
+        try {
+            if (expectedStatus >= 0 && response.statusCode() != expectedStatus) {
+                throw new AssertionError(String.format("%s: expected status code <%d> but was <%d>", endpoint,
+                        expectedStatus, response.statusCode()));
+            }
+            if (validator != null) {
+                validator.validate(response.body());
+            }
+        }
+        catch (AssertionError | RuntimeException e) {
+            http.stats(endpoint).record(response.getElapsedNanos(), false);
+            throw e;
+        }
+        http.stats(endpoint).record(response.getElapsedNanos(), true);
+        return response;
+    }
+
+    private StreamingValidator validator() {
+        if (validator == null) {
+            validator = new StreamingValidator();
+        }
+        return validator;
+    }
+
+}
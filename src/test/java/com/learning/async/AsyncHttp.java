@@ -0,0 +1,186 @@
+package com.learning.async;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.learning.load.EndpointStats;
+import com.learning.metrics.LatencyRegistry;
+
+/**
+ * Non-blocking request engine behind the {@link #given()} DSL. Requests are multiplexed as HTTP/2 streams
+ * ({@code h2c} upgrade on plain HTTP) over {@code connections} clients, each of which keeps one connection
+ * to the server. The JDK client fails a stream beyond the server's {@code maxConcurrentStreams} instead of
+ * opening another connection, so each connection takes at most {@code streamsPerConnection} requests and
+ * the rest wait in a queue, dispatched as streams complete. No thread waits for a response: completion
+ * callbacks run on a small fixed pool.
+ * <p>
+ * Latency is measured from the moment a request is handed to the engine, queueing included. Every response
+ * is recorded in the {@link LatencyRegistry} like the RestAssured filter does, and in the
+ * {@link EndpointStats} of its endpoint once its expectations are checked.
+ */
+public class AsyncHttp implements AutoCloseable {
+
+    private final URI baseUri;
+    private final Duration timeout;
+    private final int streamsPerConnection;
+    private final ExecutorService callbacks;
+    private final Connection[] connections;
+    private final LatencyRegistry registry;
+    private final Queue<Exchange> waiting = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger nextConnection = new AtomicInteger();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    public AsyncHttp(String baseUri, AsyncSettings settings, LatencyRegistry registry) {
+        this.baseUri = URI.create(baseUri);
+        this.timeout = settings.requestTimeout();
+        this.streamsPerConnection = settings.streamsPerConnection();
+        this.registry = registry;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.callbacks = Executors.newFixedThreadPool(settings.callbackThreads(), r -> {
+            Thread thread = new Thread(r, "async-http-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.connections = new Connection[settings.connections()];
+        for (int i = 0; i < connections.length; i++) {
+            connections[i] = new Connection(HttpClient.newBuilder()
+                    .version(settings.version())
+                    .connectTimeout(timeout)
+                    .executor(callbacks)
+                    .build());
+        }
+    }
+
+    public AsyncRequest given() {
+        return new AsyncRequest(this);
+    }
+
+    /**
+     * Statistics of every endpoint requested so far, by name.
+     */
+    public List<EndpointStats> stats() {
+        return stats.values().stream().sorted(Comparator.comparing(EndpointStats::getName)).toList();
+    }
+
+    /**
+     * The most requests handed to the engine and not yet completed at once, queued ones included.
+     */
+    public int getPeakInFlight() {
+        return peakInFlight.get();
+    }
+
+    @Override
+    public void close() {
+        for (Connection connection : connections) {
+            connection.client.close();
+        }
+        callbacks.shutdownNow();
+    }
+
+    URI resolve(String pathAndQuery) {
+        return baseUri.resolve(pathAndQuery);
+    }
+
+    Duration timeout() {
+        return timeout;
+    }
+
+    EndpointStats stats(String endpoint) {
+        return stats.computeIfAbsent(endpoint, EndpointStats::new);
+    }
+
+    CompletableFuture<AsyncResponse> send(HttpRequest request, String method, String pathTemplate,
+            String endpoint) {
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        Exchange exchange = new Exchange(request, method, pathTemplate, endpoint, System.nanoTime(),
+                new CompletableFuture<>());
+        waiting.add(exchange);
+        dispatch();
+        return exchange.response;
+    }
+
+    /**
+     * Sends waiting exchanges while connections have free streams. Called after every enqueue and every
+     * completion, so an exchange never waits while a stream is free.
+     */
+    private void dispatch() {
+        while (!waiting.isEmpty()) {
+            Connection connection = acquire();
+            if (connection == null) {
+                return;
+            }
+            Exchange exchange = waiting.poll();
+            if (exchange == null) {
+                connection.streams.decrementAndGet();
+                return;
+            }
+            send(connection, exchange);
+        }
+    }
+
+    private Connection acquire() {
+        int first = Math.floorMod(nextConnection.getAndIncrement(), connections.length);
+        for (int i = 0; i < connections.length; i++) {
+            Connection connection = connections[(first + i) % connections.length];
+            for (int streams = connection.streams.get(); streams < streamsPerConnection;
+                    streams = connection.streams.get()) {
+                if (connection.streams.compareAndSet(streams, streams + 1)) {
+                    return connection;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void send(Connection connection, Exchange exchange) {
+        connection.client.sendAsync(exchange.request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, failure) -> {
+                    long elapsedNanos = System.nanoTime() - exchange.startNanos;
+                    connection.streams.decrementAndGet();
+                    inFlight.decrementAndGet();
+                    dispatch();
+                    if (failure != null) {
+                        stats(exchange.endpoint).record(elapsedNanos, false);
+                        exchange.response.completeExceptionally(failure);
+                        return;
+                    }
+                    if (registry != null) {
+                        registry.record(exchange.method, exchange.pathTemplate, response.statusCode(),
+                                elapsedNanos / 1000);
+                    }
+                    exchange.response.complete(new AsyncResponse(exchange.endpoint, response, elapsedNanos));
+                });
+    }
+
+    private static final class Connection {
+
+        private final HttpClient client;
+        private final AtomicInteger streams = new AtomicInteger();
+
+        private Connection(HttpClient client) {
+            this.client = client;
+        }
+
+    }
+
+    private record Exchange(HttpRequest request, String method, String pathTemplate, String endpoint,
+            long startNanos, CompletableFuture<AsyncResponse> response) {
+
+    }
+
+}
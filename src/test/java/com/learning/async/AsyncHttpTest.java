@@ -0,0 +1,120 @@
+package com.learning.async;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.learning.load.EndpointStats;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class AsyncHttpTest {
+
+    private HttpServer server;
+    private AsyncHttp http;
+    private final List<String> requestedUris = new CopyOnWriteArrayList<>();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger peakConcurrent = new AtomicInteger();
+
+    @BeforeEach
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/products", exchange -> {
+            requestedUris.add(exchange.getRequestURI().toString());
+            respond(exchange, 200, "{\"id\":7,\"name\":\"Smart TV\"}");
+        });
+        server.createContext("/slow", exchange -> {
+            peakConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrent.decrementAndGet();
+            respond(exchange, 200, "{}");
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        AsyncSettings settings = new AsyncSettings(1, Duration.ofSeconds(1), Duration.ZERO, Duration.ZERO, false, 1,
+                2, Duration.ofSeconds(5), 2);
+        http = new AsyncHttp("http://localhost:" + server.getAddress().getPort(), settings, null);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        http.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void responseShouldCompleteWhenExpectationsHold() throws Exception {
+        AsyncResponse response = http.given()
+                .queryParam("name", "Smart TV")
+                .get("/products/{id}", 7)
+                .then()
+                .statusCode(200)
+                .body("name", equalTo("Smart TV"))
+                .response()
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(response.json().get("id").asInt()).isEqualTo(7);
+        assertThat(requestedUris).containsExactly("/products/7?name=Smart%20TV");
+        EndpointStats stats = http.stats().get(0);
+        assertThat(stats.getName()).isEqualTo("GET /products/{id}?name=");
+        assertThat(stats.getSuccesses()).isEqualTo(1);
+    }
+
+    @Test
+    public void responseShouldFailWithAssertionErrorWhenExpectationFails() {
+        CompletableFuture<AsyncResponse> response = http.given()
+                .get("/products")
+                .then()
+                .statusCode(200)
+                .body("name", equalTo("Macbook"))
+                .response();
+
+        assertThatThrownBy(() -> response.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+        assertThat(http.stats().get(0).getFailures()).isEqualTo(1);
+    }
+
+    @Test
+    public void requestsBeyondStreamLimitShouldWaitInsteadOfFailing() throws Exception {
+        List<CompletableFuture<AsyncResponse>> responses = IntStream.range(0, 10)
+                .mapToObj(i -> http.given().get("/slow").then().statusCode(200).response())
+                .toList();
+
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        assertThat(peakConcurrent.get()).isLessThanOrEqualTo(2);
+        assertThat(http.getPeakInFlight()).isEqualTo(10);
+        assertThat(http.stats().get(0).getSuccesses()).isEqualTo(10);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+}
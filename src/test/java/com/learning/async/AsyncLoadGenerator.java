@@ -0,0 +1,54 @@
+package com.learning.async;
+
+import java.io.PrintStream;
+
+import com.learning.RequestSpecs;
+import com.learning.TokenPool;
+import com.learning.load.DscommerceScenarios;
+import com.learning.load.LoadReport;
+import com.learning.load.LoadResult;
+import com.learning.load.Warmup;
+import com.learning.load.WarmupReport;
+import com.learning.load.WarmupSettings;
+import com.learning.metrics.LatencyRegistry;
+import com.learning.metrics.LatencyReporting;
+
+/**
+ * Entry point of the asynchronous load generator, for session counts the thread-per-user drivers cannot
+ * reach. The server is warmed up through RestAssured with the same scenarios before the run.
+ *
+ * <pre>
+ * mvn -Pload test-compile exec:java -Dexec.mainClass=com.learning.async.AsyncLoadGenerator -Dload.users=20000 -Dload.thinkTimeMillis=1000
+ * </pre>
+ */
+public class AsyncLoadGenerator {
+
+    // the warm-up runs on blocking RestAssured threads, whatever the session count
+    private static final int WARMUP_THREADS = 4;
+
+    public static void main(String[] args) {
+        AsyncSettings settings = AsyncSettings.fromSystemProperties();
+        PrintStream out = System.out;
+        out.printf("Async sessions against %s: %d sessions over %s, duration %s, think time %s, %s, "
+                + "%d connections x %d streams%n", RequestSpecs.baseUri(), settings.sessions(), settings.rampUp(),
+                settings.duration(), settings.thinkTime(), settings.version(), settings.connections(),
+                settings.streamsPerConnection());
+        TokenPool clients = TokenPool.clients();
+        if (clients != null) {
+            out.printf("Logged in %d clients%n", clients.size());
+        }
+        WarmupReport.print(new Warmup(WarmupSettings.fromSystemProperties(WARMUP_THREADS))
+                .run(DscommerceScenarios.defaults()), out);
+        LatencyReporting.global().start();
+        AsyncLoadResult result;
+        try (AsyncHttp http = new AsyncHttp(RequestSpecs.baseUri(), settings, LatencyRegistry.global())) {
+            result = new AsyncSessionDriver(settings).run(http, AsyncScenarios.defaults());
+        }
+        LoadReport.print(new LoadResult(result.elapsed(), result.endpoints()), out);
+        out.printf("Flows: %d completed, %d failed; peak requests in flight: %d%n", result.flows(),
+                result.failedFlows(), result.peakInFlight());
+        LatencyReporting.global().finish();
+        out.println("HDR logs and summary written to " + LatencyReporting.global().getDirectory());
+    }
+
+}
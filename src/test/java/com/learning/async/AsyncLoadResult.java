@@ -0,0 +1,15 @@
+package com.learning.async;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.learning.load.EndpointStats;
+
+/**
+ * Outcome of an asynchronous run: per-endpoint statistics of every request, the flows completed and
+ * failed across all sessions, and the most requests that were in flight at once.
+ */
+public record AsyncLoadResult(Duration elapsed, List<EndpointStats> endpoints, long flows, long failedFlows,
+        int peakInFlight) {
+
+}
@@ -0,0 +1,144 @@
+package com.learning.async;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.restassured.http.ContentType;
+
+/**
+ * Request specification of the {@link AsyncHttp} engine, written like RestAssured's
+ * {@code given().header(...).body(...).when().post(...)}. The verb methods send the request without
+ * blocking and return a {@link PendingResponse}; a specification is used for one request.
+ * <p>
+ * Path parameters fill the {@code {name}} placeholders of the path in order, and the endpoint is named
+ * after the path template, e.g. {@code GET /products/{id}}. Query parameter names are kept in the
+ * endpoint name ({@code GET /products?name=}) so that searches are reported apart from listings.
+ */
+public class AsyncRequest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final AsyncHttp http;
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private final List<String[]> queryParams = new ArrayList<>();
+    private byte[] body;
+
+    AsyncRequest(AsyncHttp http) {
+        this.http = http;
+    }
+
+    public AsyncRequest header(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    public AsyncRequest auth(String bearerToken) {
+        return header("Authorization", "Bearer " + bearerToken);
+    }
+
+    public AsyncRequest contentType(ContentType contentType) {
+        return header("Content-Type", contentType.toString());
+    }
+
+    public AsyncRequest accept(ContentType contentType) {
+        return header("Accept", contentType.getAcceptHeader());
+    }
+
+    public AsyncRequest queryParam(String name, Object value) {
+        queryParams.add(new String[] { name, String.valueOf(value) });
+        return this;
+    }
+
+    /**
+     * Sets the body: a {@code String} or {@code byte[]} is sent as is, anything else is serialized to JSON,
+     * which also sets the JSON content type unless one is set.
+     */
+    public AsyncRequest body(Object body) {
+        if (body instanceof byte[] bytes) {
+            this.body = bytes;
+        }
+        else if (body instanceof String text) {
+            this.body = text.getBytes(StandardCharsets.UTF_8);
+        }
+        else {
+            try {
+                this.body = MAPPER.writeValueAsBytes(body);
+            }
+            catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Could not serialize request body", e);
+            }
+            headers.putIfAbsent("Content-Type", ContentType.JSON.toString());
+        }
+        return this;
+    }
+
+    public AsyncRequest when() {
+        return this;
+    }
+
+    public PendingResponse get(String path, Object... pathParams) {
+        return send("GET", path, pathParams);
+    }
+
+    public PendingResponse post(String path, Object... pathParams) {
+        return send("POST", path, pathParams);
+    }
+
+    public PendingResponse put(String path, Object... pathParams) {
+        return send("PUT", path, pathParams);
+    }
+
+    public PendingResponse delete(String path, Object... pathParams) {
+        return send("DELETE", path, pathParams);
+    }
+
+    private PendingResponse send(String method, String pathTemplate, Object[] pathParams) {
+        StringBuilder uri = new StringBuilder(expand(pathTemplate, pathParams));
+        StringBuilder endpoint = new StringBuilder(method).append(' ').append(pathTemplate);
+        for (int i = 0; i < queryParams.size(); i++) {
+            String[] param = queryParams.get(i);
+            char separator = i == 0 ? '?' : '&';
+            uri.append(separator).append(encode(param[0])).append('=').append(encode(param[1]));
+            endpoint.append(separator).append(param[0]).append('=');
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(http.resolve(uri.toString()))
+                .timeout(http.timeout())
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        headers.forEach(request::header);
+        return new PendingResponse(http, endpoint.toString(),
+                http.send(request.build(), method, pathTemplate, endpoint.toString()));
+    }
+
+    static String expand(String pathTemplate, Object[] pathParams) {
+        StringBuilder path = new StringBuilder(pathTemplate.length() + 16);
+        int param = 0;
+        int position = 0;
+        for (int open = pathTemplate.indexOf('{'); open >= 0; open = pathTemplate.indexOf('{', position)) {
+            int close = pathTemplate.indexOf('}', open);
+            if (close < 0) {
+                break;
+            }
+            if (param >= pathParams.length) {
+                throw new IllegalArgumentException("Missing path parameter for " + pathTemplate);
+            }
+            path.append(pathTemplate, position, open).append(encode(String.valueOf(pathParams[param++])));
+            position = close + 1;
+        }
+        return path.append(pathTemplate, position, pathTemplate.length()).toString();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.learning.async;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A completed exchange of the {@link AsyncHttp} engine. The body is held as bytes and only parsed when a
+ * scenario extracts a value from it with {@link #json()}.
+ */
+public class AsyncResponse {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String endpoint;
+    private final HttpResponse<byte[]> response;
+    private final long elapsedNanos;
+
+    AsyncResponse(String endpoint, HttpResponse<byte[]> response, long elapsedNanos) {
+        this.endpoint = endpoint;
+        this.response = response;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int statusCode() {
+        return response.statusCode();
+    }
+
+    public String header(String name) {
+        return response.headers().firstValue(name).orElse(null);
+    }
+
+    public byte[] body() {
+        return response.body();
+    }
+
+    public JsonNode json() {
+        try {
+            return MAPPER.readTree(response.body());
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Response of " + endpoint + " is not JSON", e);
+        }
+    }
+
+    /**
+     * Time from sending the request until the whole body was received.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public HttpClient.Version version() {
+        return response.version();
+    }
+
+}
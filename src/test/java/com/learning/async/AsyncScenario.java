@@ -0,0 +1,27 @@
+package com.learning.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.learning.load.Weighted;
+
+/**
+ * A weighted flow of one or more requests run by the {@link AsyncSessionDriver}. The flow starts its first
+ * request and returns a future that completes when the last one is checked; requests after the first are
+ * chained in completion callbacks. Per-request results are reported under their endpoint names, the name
+ * of the scenario only identifies the flow.
+ */
+public record AsyncScenario(String name, int weight, Function<AsyncHttp, CompletableFuture<?>> flow)
+        implements Weighted {
+
+    public AsyncScenario {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Scenario weight must not be negative: " + name);
+        }
+    }
+
+    public CompletableFuture<?> start(AsyncHttp http) {
+        return flow.apply(http);
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.learning.async;
+
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.learning.Fixtures;
+import com.learning.PayloadTemplate;
+import com.learning.TokenPool;
+import com.learning.TokenUtil;
+
+import io.restassured.http.ContentType;
+
+/**
+ * The scenarios of {@link com.learning.load.DscommerceScenarios}, with the same default weights and
+ * {@code load.weight.<key>} overrides, written for the {@link AsyncHttp} engine. {@code productCrud} adds
+ * the admin flow of {@code ProductControllerRA}: insert a product, read, update and delete it, each step
+ * started from the completion of the previous one.
+ */
+public class AsyncScenarios {
+
+    private static final String[] SEARCH_TERMS = { "Macbook", "PC Gamer", "Smart TV", "Rails" };
+    private static final int FIXTURE_PRODUCTS = 25;
+    private static final PayloadTemplate ORDER = Fixtures.newOrderTemplate();
+    private static final Map<String, Object> PRODUCT = Fixtures.newProduct();
+
+    public static List<AsyncScenario> defaults() {
+        return List.of(findAllProducts(), findProductsByName(), findProductById(), insertOrder(), getMe(),
+                productCrud());
+    }
+
+    public static AsyncScenario findAllProducts() {
+        return new AsyncScenario("findAll", weight("findAll", 40),
+                http -> http.given()
+                        .get("/products")
+                        .then()
+                        .statusCode(200)
+                        .response());
+    }
+
+    public static AsyncScenario findProductsByName() {
+        return new AsyncScenario("findByName", weight("findByName", 20),
+                http -> http.given()
+                        .queryParam("name", SEARCH_TERMS[ThreadLocalRandom.current().nextInt(SEARCH_TERMS.length)])
+                        .get("/products")
+                        .then()
+                        .statusCode(200)
+                        .response());
+    }
+
+    public static AsyncScenario findProductById() {
+        return new AsyncScenario("findById", weight("findById", 25), http -> {
+            int id = ThreadLocalRandom.current().nextInt(1, FIXTURE_PRODUCTS + 1);
+            return http.given()
+                    .get("/products/{id}", id)
+                    .then()
+                    .statusCode(200)
+                    .body("id", is(id))
+                    .response();
+        });
+    }
+
+    public static AsyncScenario insertOrder() {
+        return new AsyncScenario("insertOrder", weight("insertOrder", 10),
+                http -> http.given()
+                        .auth(clientToken())
+                        .body(ORDER.render(randomQuantity(), randomQuantity()))
+                        .contentType(ContentType.JSON)
+                        .accept(ContentType.JSON)
+                        .when()
+                        .post("/orders")
+                        .then()
+                        .statusCode(201)
+                        .bodyHasItems("items.productId", 5, 6)
+                        .response());
+    }
+
+    public static AsyncScenario getMe() {
+        return new AsyncScenario("getMe", weight("getMe", 5),
+                http -> http.given()
+                        .auth(clientToken())
+                        .accept(ContentType.JSON)
+                        .get("/users/me")
+                        .then()
+                        .statusCode(200)
+                        .response());
+    }
+
+    public static AsyncScenario productCrud() {
+        return new AsyncScenario("productCrud", weight("productCrud", 5), http -> {
+            String adminToken = TokenUtil.obtainAccessToken(Fixtures.ADMIN_USERNAME, Fixtures.ADMIN_PASSWORD);
+            return http.given()
+                    .auth(adminToken)
+                    .body(PRODUCT)
+                    .post("/products")
+                    .then()
+                    .statusCode(201)
+                    .body("name", equalTo("New product"))
+                    .bodyHasItems("categories.id", 1, 3)
+                    .response()
+                    .thenCompose(created -> {
+                        long id = created.json().get("id").asLong();
+                        return http.given()
+                                .get("/products/{id}", id)
+                                .then()
+                                .statusCode(200)
+                                .response()
+                                .thenCompose(found -> http.given()
+                                        .auth(adminToken)
+                                        .body(PRODUCT)
+                                        .put("/products/{id}", id)
+                                        .then()
+                                        .statusCode(200)
+                                        .response())
+                                .thenCompose(updated -> http.given()
+                                        .auth(adminToken)
+                                        .delete("/products/{id}", id)
+                                        .then()
+                                        .statusCode(204)
+                                        .response());
+                    });
+        });
+    }
+
+    private static int randomQuantity() {
+        return ThreadLocalRandom.current().nextInt(1, 6);
+    }
+
+    /**
+     * A token from the {@link TokenPool#clients() client pool} when one is configured, Maria's otherwise.
+     */
+    private static String clientToken() {
+        TokenPool clients = TokenPool.clients();
+        if (clients != null) {
+            return clients.next();
+        }
+        return TokenUtil.obtainAccessToken(Fixtures.CLIENT_USERNAME, Fixtures.CLIENT_PASSWORD);
+    }
+
+    private static int weight(String key, int defaultWeight) {
+        return Integer.getInteger("load.weight." + key, defaultWeight);
+    }
+
+}
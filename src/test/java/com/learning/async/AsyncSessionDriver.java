@@ -0,0 +1,119 @@
+package com.learning.async;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.learning.load.ScenarioPicker;
+
+/**
+ * Closed-loop driver on the {@link AsyncHttp} engine: each session starts a flow, and the completion of
+ * that flow schedules the session's next one after its think time. A session is a few fields on the heap
+ * rather than a thread, so tens of thousands of them share one scheduler thread and the engine's callback
+ * pool.
+ */
+public class AsyncSessionDriver {
+
+    private final AsyncSettings settings;
+
+    public AsyncSessionDriver(AsyncSettings settings) {
+        this.settings = settings;
+    }
+
+    public AsyncLoadResult run(AsyncHttp http, List<AsyncScenario> scenarios) {
+        ScenarioPicker<AsyncScenario> picker = new ScenarioPicker<>(scenarios);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "async-sessions");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CountDownLatch finished = new CountDownLatch(settings.sessions());
+        LongAdder flows = new LongAdder();
+        LongAdder failedFlows = new LongAdder();
+        long start = System.nanoTime();
+        long deadline = start + settings.duration().toNanos();
+        long rampStepNanos = settings.rampUp().toNanos() / settings.sessions();
+
+        for (int i = 0; i < settings.sessions(); i++) {
+            Session session = new Session(http, picker, scheduler, finished, flows, failedFlows, deadline);
+            scheduler.schedule(session::next, i * rampStepNanos, TimeUnit.NANOSECONDS);
+        }
+        try {
+            // a flow that started just before the deadline may chain several requests, each up to the timeout
+            long grace = settings.requestTimeout().toNanos() * 4;
+            finished.await(settings.rampUp().toNanos() + settings.duration().toNanos() + grace, TimeUnit.NANOSECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler.shutdownNow();
+        return new AsyncLoadResult(Duration.ofNanos(System.nanoTime() - start), http.stats(), flows.sum(),
+                failedFlows.sum(), http.getPeakInFlight());
+    }
+
+    private class Session {
+
+        private final AsyncHttp http;
+        private final ScenarioPicker<AsyncScenario> picker;
+        private final ScheduledExecutorService scheduler;
+        private final CountDownLatch finished;
+        private final LongAdder flows;
+        private final LongAdder failedFlows;
+        private final long deadline;
+
+        Session(AsyncHttp http, ScenarioPicker<AsyncScenario> picker, ScheduledExecutorService scheduler,
+                CountDownLatch finished, LongAdder flows, LongAdder failedFlows, long deadline) {
+            this.http = http;
+            this.picker = picker;
+            this.scheduler = scheduler;
+            this.finished = finished;
+            this.flows = flows;
+            this.failedFlows = failedFlows;
+            this.deadline = deadline;
+        }
+
+        void next() {
+            if (System.nanoTime() - deadline >= 0) {
+                finished.countDown();
+                return;
+            }
+            CompletableFuture<?> flow;
+            try {
+                flow = picker.next(ThreadLocalRandom.current()).start(http);
+            }
+            catch (RuntimeException e) {
+                flow = CompletableFuture.failedFuture(e);
+            }
+            flow.whenComplete((result, failure) -> {
+                flows.increment();
+                if (failure != null) {
+                    failedFlows.increment();
+                }
+                long thinkMillis = thinkMillis();
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(thinkMillis) - deadline >= 0) {
+                    finished.countDown();
+                    return;
+                }
+                // rescheduled rather than called directly, so that flows failing synchronously cannot recurse
+                scheduler.schedule(this::next, thinkMillis, TimeUnit.MILLISECONDS);
+            });
+        }
+
+        private long thinkMillis() {
+            long mean = settings.thinkTime().toMillis();
+            if (mean <= 0) {
+                return 0;
+            }
+            // uniform jitter around the mean keeps sessions from marching in lockstep
+            return ThreadLocalRandom.current().nextLong(mean / 2, mean + mean / 2 + 1);
+        }
+
+    }
+
+}
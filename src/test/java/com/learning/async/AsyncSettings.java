@@ -0,0 +1,57 @@
+package com.learning.async;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Settings of an asynchronous run. The shape of the load uses the {@code load.*} properties of the
+ * closed-loop generator, the engine its own {@code async.*} ones.
+ *
+ * @param sessions        concurrent sessions ({@code load.users}); each has at most one flow in flight
+ * @param duration        how long sessions keep starting flows
+ * @param thinkTime       mean pause of a session between two flows
+ * @param rampUp          sessions start spread evenly over this time instead of all at once
+ * @param http2                negotiate HTTP/2 ({@code h2c} on plain HTTP) and multiplex requests over the
+ *                             connections; with HTTP/1.1 each client opens a connection per request in flight
+ * @param connections          HTTP clients the requests are spread over, one HTTP/2 connection each
+ * @param streamsPerConnection requests in flight per connection; keep it at or below the server's
+ *                             {@code maxConcurrentStreams}, 100 for Tomcat
+ * @param requestTimeout       time after which a request fails
+ * @param callbackThreads      threads running completion callbacks and assertions
+ */
+public record AsyncSettings(int sessions, Duration duration, Duration thinkTime, Duration rampUp, boolean http2,
+        int connections, int streamsPerConnection, Duration requestTimeout, int callbackThreads) {
+
+    public AsyncSettings {
+        if (sessions < 1) {
+            throw new IllegalArgumentException("load.users must be at least 1");
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("load.durationSeconds must be positive");
+        }
+        if (connections < 1 || streamsPerConnection < 1) {
+            throw new IllegalArgumentException("async.connections and async.streamsPerConnection must be at least 1");
+        }
+        if (callbackThreads < 1) {
+            throw new IllegalArgumentException("async.callbackThreads must be at least 1");
+        }
+    }
+
+    public static AsyncSettings fromSystemProperties() {
+        return new AsyncSettings(
+                Integer.getInteger("load.users", 1000),
+                Duration.ofSeconds(Long.getLong("load.durationSeconds", 30)),
+                Duration.ofMillis(Long.getLong("load.thinkTimeMillis", 0)),
+                Duration.ofMillis(Long.getLong("load.rampUpMillis", 1000)),
+                Boolean.parseBoolean(System.getProperty("async.http2", "true")),
+                Integer.getInteger("async.connections", 16),
+                Integer.getInteger("async.streamsPerConnection", 100),
+                Duration.ofSeconds(Long.getLong("async.timeoutSeconds", 30)),
+                Integer.getInteger("async.callbackThreads", Runtime.getRuntime().availableProcessors()));
+    }
+
+    public HttpClient.Version version() {
+        return http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1;
+    }
+
+}
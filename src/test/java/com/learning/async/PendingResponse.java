@@ -0,0 +1,32 @@
+package com.learning.async;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A request in flight. {@link #then()} declares what the response must look like, RestAssured style; the
+ * expectations are checked in the completion callback of the request, not by a waiting thread.
+ */
+public class PendingResponse {
+
+    private final AsyncHttp http;
+    private final String endpoint;
+    private final CompletableFuture<AsyncResponse> response;
+
+    PendingResponse(AsyncHttp http, String endpoint, CompletableFuture<AsyncResponse> response) {
+        this.http = http;
+        this.endpoint = endpoint;
+        this.response = response;
+    }
+
+    public AsyncExpectations then() {
+        return new AsyncExpectations(http, endpoint, response);
+    }
+
+    /**
+     * The response without expectations; any status counts as a success of the endpoint.
+     */
+    public CompletableFuture<AsyncResponse> response() {
+        return then().response();
+    }
+
+}
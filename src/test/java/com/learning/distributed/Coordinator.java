@@ -0,0 +1,167 @@
+package com.learning.distributed;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.learning.RequestSpecs;
+import com.learning.load.DscommerceScenarios;
+import com.learning.load.EndpointStats;
+import com.learning.load.LoadReport;
+import com.learning.metrics.LatencyReportWriter;
+import com.learning.metrics.LatencySummary;
+
+/**
+ * Coordinator of a distributed run. Waits for the configured number of {@link Worker}s, gives each its share
+ * of the users and iterations with the same scenario mix, lets them warm up, starts them together and
+ * merges their histograms. Merging adds the full histograms of the workers, so percentiles of the merged
+ * report are those of all requests, not averages of per-worker percentiles. Several workers on one host
+ * work over loopback:
+ *
+ * <pre>
+ * mvn -Pload test-compile exec:java -Dexec.mainClass=com.learning.distributed.Coordinator -Ddist.workers=3 -Dload.users=60
+ * mvn -Pload exec:java -Dexec.mainClass=com.learning.distributed.Worker -Ddist.coordinator=localhost:7000   # three times
+ * </pre>
+ */
+public class Coordinator implements AutoCloseable {
+
+    private final DistributedSettings settings;
+    private final ServerSocket server;
+
+    public Coordinator(DistributedSettings settings) throws IOException {
+        this.settings = settings;
+        this.server = new ServerSocket(settings.port());
+        server.setSoTimeout(Math.toIntExact(settings.registrationTimeout().toMillis()));
+    }
+
+    public static void main(String[] args) throws IOException {
+        DistributedSettings settings = DistributedSettings.fromSystemProperties();
+        PrintStream out = System.out;
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        settings.scenarios().forEach(key -> weights.put(key, DscommerceScenarios.byKey(key).weight()));
+        try (Coordinator coordinator = new Coordinator(settings)) {
+            out.printf("Coordinating %d workers on port %d against %s: %d users, duration %s, iterations %d, "
+                    + "mix %s%n", settings.workers(), coordinator.getPort(), RequestSpecs.baseUri(), settings.users(),
+                    settings.duration(), settings.iterations(), weights);
+            DistributedResult result = coordinator.run(RequestSpecs.baseUri(), weights);
+            for (WorkerResult worker : result.workers()) {
+                out.printf("Worker %s: %d requests in %.1f s%n", worker.worker(), worker.requests(),
+                        worker.elapsed().toNanos() / 1e9);
+            }
+            LoadReport.print(result.merged(), out);
+            List<LatencySummary> summaries = new ArrayList<>();
+            for (EndpointStats endpoint : result.endpoints()) {
+                summaries.add(LatencySummary.of(endpoint.getName(), LatencySummary.ALL_STATUSES,
+                        endpoint.histogram()));
+            }
+            new LatencyReportWriter(settings.reportDir()).write(summaries);
+            out.println("Merged summary written to " + settings.reportDir());
+        }
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Runs the distributed load and returns the merged result. Fails if a worker disconnects, reports a
+     * failure or stays silent past its {@linkplain DistributedSettings#readyTimeout() warm-up} or
+     * {@linkplain DistributedSettings#resultTimeout() run}; the other workers then see their connection
+     * closed.
+     */
+    public DistributedResult run(String baseUri, Map<String, Integer> weights) throws IOException {
+        List<Connection> workers = new ArrayList<>();
+        try {
+            for (int i = 0; i < settings.workers(); i++) {
+                Connection worker = new Connection(server.accept(), settings.readyTimeout());
+                workers.add(worker);
+                Protocol.readHello(worker.in);
+                Protocol.writePlan(worker.out, plan(i, baseUri, weights));
+            }
+            for (Connection worker : workers) {
+                Protocol.readReady(worker.in);
+            }
+            for (Connection worker : workers) {
+                Protocol.writeStart(worker.out, settings.startDelay().toMillis());
+            }
+            List<WorkerResult> results = new ArrayList<>();
+            for (Connection worker : workers) {
+                worker.setTimeout(settings.resultTimeout());
+                results.add(Protocol.readResult(worker.in));
+            }
+            return merge(results);
+        }
+        catch (SocketTimeoutException e) {
+            throw new IOException("A worker did not answer in time (ready timeout " + settings.readyTimeout()
+                    + ", result timeout " + settings.resultTimeout() + ")", e);
+        }
+        finally {
+            for (Connection worker : workers) {
+                worker.socket.close();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+
+    private Plan plan(int workerIndex, String baseUri, Map<String, Integer> weights) {
+        int workerCount = settings.workers();
+        return new Plan(workerIndex, workerCount, baseUri,
+                Math.toIntExact(DistributedSettings.share(settings.users(), workerIndex, workerCount)),
+                DistributedSettings.share(settings.iterations(), workerIndex, workerCount), settings.duration(),
+                settings.thinkTime(), weights);
+    }
+
+    static DistributedResult merge(List<WorkerResult> results) {
+        Map<String, EndpointStats> merged = new LinkedHashMap<>();
+        Duration elapsed = Duration.ZERO;
+        for (WorkerResult result : results) {
+            for (WorkerResult.Endpoint endpoint : result.endpoints()) {
+                merged.computeIfAbsent(endpoint.name(), EndpointStats::new)
+                        .merge(endpoint.histogram(), endpoint.successes(), endpoint.failures());
+            }
+            if (result.elapsed().compareTo(elapsed) > 0) {
+                elapsed = result.elapsed();
+            }
+        }
+        return new DistributedResult(elapsed, List.copyOf(merged.values()), results);
+    }
+
+    private static final class Connection {
+
+        private final Socket socket;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+
+        private Connection(Socket socket, Duration timeout) throws IOException {
+            this.socket = socket;
+            socket.setTcpNoDelay(true);
+            setTimeout(timeout);
+            in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        /**
+         * Bounds every following read; {@link Duration#ZERO} waits forever.
+         */
+        private void setTimeout(Duration timeout) throws IOException {
+            socket.setSoTimeout(Math.toIntExact(timeout.toMillis()));
+        }
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.learning.distributed;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.learning.load.EndpointStats;
+import com.learning.load.LoadResult;
+
+/**
+ * Outcome of a distributed run: the endpoint statistics of all workers merged, and what each worker sent.
+ * The elapsed time is that of the slowest worker.
+ */
+public record DistributedResult(Duration elapsed, List<EndpointStats> endpoints, List<WorkerResult> workers) {
+
+    public LoadResult merged() {
+        return new LoadResult(elapsed, endpoints);
+    }
+
+}
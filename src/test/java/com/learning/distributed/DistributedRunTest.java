@@ -0,0 +1,145 @@
+package com.learning.distributed;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+import com.learning.load.EndpointStats;
+import com.learning.load.LoadResult;
+
+public class DistributedRunTest {
+
+    private static final int WORKERS = 3;
+
+    private final Map<Integer, Long> startNanos = new ConcurrentHashMap<>();
+    private final Map<Integer, Plan> plans = new ConcurrentHashMap<>();
+
+    @Test
+    public void coordinatorShouldSplitStartTogetherAndMergeLosslessly() throws Exception {
+        DistributedSettings settings = new DistributedSettings(0, WORKERS, 10, 0, Duration.ofSeconds(1),
+                Duration.ZERO, List.of("findAll", "insertOrder"), Duration.ofMillis(200), Duration.ofSeconds(10),
+                Duration.ofSeconds(5), Duration.ofSeconds(5), Path.of("target"));
+        DistributedResult result;
+        try (Coordinator coordinator = new Coordinator(settings)) {
+            List<CompletableFuture<WorkerResult>> workers = new ArrayList<>();
+            for (int i = 0; i < WORKERS; i++) {
+                Worker worker = new Worker("localhost", coordinator.getPort(), "worker-" + i, new SyntheticTask());
+                workers.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return worker.run();
+                    }
+                    catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }));
+            }
+            result = coordinator.run("http://localhost:1", Map.of("findAll", 4, "insertOrder", 1));
+            CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(plans.values()).extracting(Plan::users).containsExactlyInAnyOrder(4, 3, 3);
+        long firstStart = startNanos.values().stream().mapToLong(Long::longValue).min().orElseThrow();
+        long lastStart = startNanos.values().stream().mapToLong(Long::longValue).max().orElseThrow();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(lastStart - firstStart)).isLessThan(100);
+
+        Histogram expected = new Histogram(3);
+        for (int worker = 0; worker < WORKERS; worker++) {
+            for (long micros : latencies(worker)) {
+                expected.recordValue(micros);
+            }
+            expected.recordValue(1_000);
+        }
+        EndpointStats merged = result.endpoints().get(0);
+        Histogram actual = merged.histogram();
+        assertThat(actual.getTotalCount()).isEqualTo(expected.getTotalCount());
+        for (double percentile : new double[] { 50, 90, 99, 99.9, 100 }) {
+            assertThat(actual.getValueAtPercentile(percentile)).isEqualTo(expected.getValueAtPercentile(percentile));
+        }
+        assertThat(merged.getFailures()).isEqualTo(WORKERS);
+        assertThat(result.workers()).extracting(WorkerResult::worker)
+                .containsExactlyInAnyOrder("worker-0", "worker-1", "worker-2");
+    }
+
+    @Test
+    public void coordinatorShouldFailTheRunWhenAWorkerHangs() throws Exception {
+        DistributedSettings settings = new DistributedSettings(0, 1, 1, 0, Duration.ofMillis(100), Duration.ZERO,
+                List.of("findAll"), Duration.ofMillis(50), Duration.ofSeconds(10), Duration.ofMillis(200),
+                Duration.ofMillis(100), Path.of("target"));
+        try (Coordinator coordinator = new Coordinator(settings)) {
+            // registers, then never reports ready
+            Worker hung = new Worker("localhost", coordinator.getPort(), "hung", new WorkerTask() {
+
+                @Override
+                public void prepare(Plan plan) {
+                    LockSupport.park();
+                }
+
+                @Override
+                public LoadResult run(Plan plan) {
+                    throw new AssertionError("never started");
+                }
+
+            });
+            Thread worker = Thread.ofVirtual().start(() -> {
+                try {
+                    hung.run();
+                }
+                catch (IOException e) {
+                    // closed by the coordinator
+                }
+            });
+            try {
+                assertThatThrownBy(() -> coordinator.run("http://localhost:1", Map.of("findAll", 1)))
+                        .isInstanceOf(IOException.class)
+                        .hasMessageContaining("did not answer in time");
+            }
+            finally {
+                worker.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Latencies in very different ranges per worker, so that averaging per-worker percentiles would be wrong.
+     */
+    private static long[] latencies(int worker) {
+        long[] latencies = new long[1000 * (worker + 1)];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = (worker + 1) * 1_000L + i * (worker * 50L + 1);
+        }
+        return latencies;
+    }
+
+    private class SyntheticTask implements WorkerTask {
+
+        @Override
+        public void prepare(Plan plan) {
+            plans.put(plan.workerIndex(), plan);
+        }
+
+        @Override
+        public LoadResult run(Plan plan) {
+            startNanos.put(plan.workerIndex(), System.nanoTime());
+            EndpointStats stats = new EndpointStats("GET /products");
+            for (long micros : latencies(plan.workerIndex())) {
+                stats.record(TimeUnit.MICROSECONDS.toNanos(micros), true);
+            }
+            stats.record(TimeUnit.MILLISECONDS.toNanos(1), false);
+            return new LoadResult(Duration.ofMillis(100), List.of(stats));
+        }
+
+    }
+
+}
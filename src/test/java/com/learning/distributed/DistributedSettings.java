@@ -0,0 +1,89 @@
+package com.learning.distributed;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Settings of the coordinator of a distributed run. The load is described with the {@code load.*}
+ * properties of the closed-loop generator, for the whole cluster; the coordinator splits users and
+ * iterations between the workers.
+ *
+ * @param port                port the workers connect to
+ * @param workers             workers to wait for before starting
+ * @param users               concurrent users across all workers, at least one per worker
+ * @param iterations          total requests across all workers, 0 for no limit
+ * @param duration            how long every worker runs, {@link Duration#ZERO} for no time limit
+ * @param thinkTime           mean pause of a user between two requests
+ * @param scenarios           scenario keys of the mix, weighted by their {@code load.weight.<key>}
+ * @param startDelay          delay between the START message and the start of the load, long enough for
+ *                            the message to reach every worker
+ * @param registrationTimeout how long to wait for all workers to connect
+ * @param warmupTimeout       how long a worker may take to prepare and warm up before it reports ready
+ * @param grace               time allowed on top of what each step should take before a worker that has not
+ *                            answered fails the run
+ * @param reportDir           directory of the merged summary
+ */
+public record DistributedSettings(int port, int workers, int users, long iterations, Duration duration,
+        Duration thinkTime, List<String> scenarios, Duration startDelay, Duration registrationTimeout,
+        Duration warmupTimeout, Duration grace, Path reportDir) {
+
+    public static final int DEFAULT_PORT = 7000;
+
+    public DistributedSettings {
+        if (workers < 1) {
+            throw new IllegalArgumentException("dist.workers must be at least 1");
+        }
+        if (users < workers) {
+            throw new IllegalArgumentException("load.users must be at least dist.workers");
+        }
+        if (duration.isZero() && iterations <= 0) {
+            throw new IllegalArgumentException("Either load.durationSeconds or load.iterations must be set");
+        }
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("dist.scenarios must name at least one scenario");
+        }
+    }
+
+    public static DistributedSettings fromSystemProperties() {
+        return new DistributedSettings(
+                Integer.getInteger("dist.port", DEFAULT_PORT),
+                Integer.getInteger("dist.workers", 2),
+                Integer.getInteger("load.users", 10),
+                Long.getLong("load.iterations", 0),
+                Duration.ofSeconds(Long.getLong("load.durationSeconds", 30)),
+                Duration.ofMillis(Long.getLong("load.thinkTimeMillis", 0)),
+                Arrays.stream(System.getProperty("dist.scenarios", "findAll,findByName,findById,insertOrder")
+                        .split(",")).map(String::trim).filter(key -> !key.isEmpty()).toList(),
+                Duration.ofMillis(Long.getLong("dist.startDelayMillis", 500)),
+                Duration.ofSeconds(Long.getLong("dist.registrationTimeoutSeconds", 120)),
+                // workers warm up for at most warmup.maxSeconds, usually set alike on every machine
+                Duration.ofSeconds(Long.getLong("warmup.maxSeconds", 60)),
+                Duration.ofSeconds(Long.getLong("dist.graceSeconds", 30)),
+                Path.of(System.getProperty("latency.reportDir", "target/latency")));
+    }
+
+    /**
+     * How long to wait for a connected worker to register and report ready.
+     */
+    Duration readyTimeout() {
+        return warmupTimeout.plus(grace);
+    }
+
+    /**
+     * How long to wait for a worker's result once it was told to start; {@link Duration#ZERO}, for no limit,
+     * when only the iterations bound the run.
+     */
+    Duration resultTimeout() {
+        return duration.isZero() ? Duration.ZERO : startDelay.plus(duration).plus(grace);
+    }
+
+    /**
+     * The part of {@code total} assigned to a worker; the remainder goes to the first workers.
+     */
+    static long share(long total, int workerIndex, int workerCount) {
+        return total / workerCount + (workerIndex < total % workerCount ? 1 : 0);
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.learning.distributed;
+
+import java.time.Duration;
+import java.util.Map;
+
+import com.learning.load.LoadSettings;
+
+/**
+ * The share of a distributed run assigned to one worker: its part of the users and iterations, and the
+ * scenario mix, as weights by {@link com.learning.load.DscommerceScenarios#byKey(String) scenario key},
+ * that every worker runs unchanged.
+ */
+public record Plan(int workerIndex, int workerCount, String baseUri, int users, long iterations, Duration duration,
+        Duration thinkTime, Map<String, Integer> weights) {
+
+    public LoadSettings loadSettings() {
+        return new LoadSettings(users, duration, iterations, thinkTime, false);
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.learning.distributed;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Messages exchanged between coordinator and workers over one TCP connection per worker. Each message is a
+ * type byte followed by its fields in {@link DataOutputStream} encoding; histograms travel in HdrHistogram's
+ * compressed encoding, which is lossless.
+ *
+ * <pre>
+ * worker                       coordinator
+ *   HELLO(name)         -->
+ *                       <--    PLAN(share of the run)
+ *   READY               -->    (after warm-up)
+ *                       <--    START(delay), sent to all workers once all are ready
+ *   RESULT(histograms)  -->
+ * </pre>
+ *
+ * A worker that cannot run its plan sends FAILED(message) instead of READY or RESULT.
+ */
+final class Protocol {
+
+    static final byte HELLO = 1;
+    static final byte PLAN = 2;
+    static final byte READY = 3;
+    static final byte START = 4;
+    static final byte RESULT = 5;
+    static final byte FAILED = 6;
+
+    private Protocol() {
+    }
+
+    static void writeHello(DataOutputStream out, String worker) throws IOException {
+        out.writeByte(HELLO);
+        out.writeUTF(worker);
+        out.flush();
+    }
+
+    static String readHello(DataInputStream in) throws IOException {
+        expect(in, HELLO);
+        return in.readUTF();
+    }
+
+    static void writePlan(DataOutputStream out, Plan plan) throws IOException {
+        out.writeByte(PLAN);
+        out.writeInt(plan.workerIndex());
+        out.writeInt(plan.workerCount());
+        out.writeUTF(plan.baseUri());
+        out.writeInt(plan.users());
+        out.writeLong(plan.iterations());
+        out.writeLong(plan.duration().toMillis());
+        out.writeLong(plan.thinkTime().toMillis());
+        out.writeInt(plan.weights().size());
+        for (Map.Entry<String, Integer> weight : plan.weights().entrySet()) {
+            out.writeUTF(weight.getKey());
+            out.writeInt(weight.getValue());
+        }
+        out.flush();
+    }
+
+    static Plan readPlan(DataInputStream in) throws IOException {
+        expect(in, PLAN);
+        int workerIndex = in.readInt();
+        int workerCount = in.readInt();
+        String baseUri = in.readUTF();
+        int users = in.readInt();
+        long iterations = in.readLong();
+        Duration duration = Duration.ofMillis(in.readLong());
+        Duration thinkTime = Duration.ofMillis(in.readLong());
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            weights.put(in.readUTF(), in.readInt());
+        }
+        return new Plan(workerIndex, workerCount, baseUri, users, iterations, duration, thinkTime, weights);
+    }
+
+    static void writeReady(DataOutputStream out) throws IOException {
+        out.writeByte(READY);
+        out.flush();
+    }
+
+    static void readReady(DataInputStream in) throws IOException {
+        expect(in, READY);
+    }
+
+    static void writeStart(DataOutputStream out, long delayMillis) throws IOException {
+        out.writeByte(START);
+        out.writeLong(delayMillis);
+        out.flush();
+    }
+
+    static long readStart(DataInputStream in) throws IOException {
+        expect(in, START);
+        return in.readLong();
+    }
+
+    static void writeResult(DataOutputStream out, WorkerResult result) throws IOException {
+        out.writeByte(RESULT);
+        out.writeUTF(result.worker());
+        out.writeLong(result.elapsed().toNanos());
+        out.writeInt(result.endpoints().size());
+        for (WorkerResult.Endpoint endpoint : result.endpoints()) {
+            out.writeUTF(endpoint.name());
+            out.writeLong(endpoint.successes());
+            out.writeLong(endpoint.failures());
+            ByteBuffer buffer = ByteBuffer.allocate(endpoint.histogram().getNeededByteBufferCapacity());
+            int length = endpoint.histogram().encodeIntoCompressedByteBuffer(buffer);
+            out.writeInt(length);
+            out.write(buffer.array(), 0, length);
+        }
+        out.flush();
+    }
+
+    static WorkerResult readResult(DataInputStream in) throws IOException {
+        expect(in, RESULT);
+        String worker = in.readUTF();
+        Duration elapsed = Duration.ofNanos(in.readLong());
+        List<WorkerResult.Endpoint> endpoints = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            String name = in.readUTF();
+            long successes = in.readLong();
+            long failures = in.readLong();
+            byte[] encoded = new byte[in.readInt()];
+            in.readFully(encoded);
+            try {
+                Histogram histogram = Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(encoded), 0);
+                endpoints.add(new WorkerResult.Endpoint(name, successes, failures, histogram));
+            }
+            catch (DataFormatException e) {
+                throw new IOException("Corrupt histogram of " + name + " from " + worker, e);
+            }
+        }
+        return new WorkerResult(worker, elapsed, endpoints);
+    }
+
+    static void writeFailed(DataOutputStream out, String message) throws IOException {
+        out.writeByte(FAILED);
+        out.writeUTF(message == null ? "unknown error" : message);
+        out.flush();
+    }
+
+    private static void expect(DataInputStream in, byte type) throws IOException {
+        byte actual = in.readByte();
+        if (actual == FAILED) {
+            throw new IOException("Peer failed: " + in.readUTF());
+        }
+        if (actual != type) {
+            throw new IOException("Expected message " + type + " but got " + actual);
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.learning.distributed;
+
+import java.util.List;
+
+import com.learning.RequestSpecs;
+import com.learning.load.ClosedLoopDriver;
+import com.learning.load.DscommerceScenarios;
+import com.learning.load.LoadResult;
+import com.learning.load.Scenario;
+import com.learning.load.Warmup;
+import com.learning.load.WarmupReport;
+import com.learning.load.WarmupSettings;
+
+/**
+ * Runs the worker's share of a distributed run with the {@link ClosedLoopDriver}, after a warm-up with the
+ * same scenarios. The base URI of the plan replaces the worker's own {@code dscommerce.baseUri}.
+ */
+public class ScenarioTask implements WorkerTask {
+
+    private List<Scenario> scenarios;
+
+    @Override
+    public void prepare(Plan plan) {
+        System.setProperty(RequestSpecs.BASE_URI_PROPERTY, plan.baseUri());
+        scenarios = plan.weights().entrySet().stream()
+                .map(weight -> DscommerceScenarios.byKey(weight.getKey()).withWeight(weight.getValue()))
+                .toList();
+        WarmupReport.print(new Warmup(WarmupSettings.fromSystemProperties(plan.users())).run(scenarios), System.out);
+    }
+
+    @Override
+    public LoadResult run(Plan plan) {
+        return new ClosedLoopDriver(plan.loadSettings()).run(scenarios);
+    }
+
+}
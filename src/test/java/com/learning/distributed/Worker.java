@@ -0,0 +1,113 @@
+package com.learning.distributed;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import com.learning.load.EndpointStats;
+import com.learning.load.LoadResult;
+
+/**
+ * Driver process of a distributed run: registers with the {@link Coordinator}, prepares its share of the
+ * run, starts when the coordinator says so and sends back its histograms. The start is a delay relative to
+ * the START message rather than a wall-clock time, so worker clocks need not be synchronized.
+ *
+ * <pre>
+ * mvn -Pload test-compile exec:java -Dexec.mainClass=com.learning.distributed.Worker -Ddist.coordinator=host:7000
+ * </pre>
+ */
+public class Worker {
+
+    private final String host;
+    private final int port;
+    private final String name;
+    private final WorkerTask task;
+
+    public Worker(String host, int port, String name, WorkerTask task) {
+        this.host = host;
+        this.port = port;
+        this.name = name;
+        this.task = task;
+    }
+
+    public static void main(String[] args) throws IOException {
+        String coordinator = System.getProperty("dist.coordinator", "localhost:" + DistributedSettings.DEFAULT_PORT);
+        int colon = coordinator.lastIndexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("dist.coordinator must be host:port, was " + coordinator);
+        }
+        String name = System.getProperty("dist.workerName", defaultName());
+        System.out.printf("Worker %s connecting to %s%n", name, coordinator);
+        WorkerResult result = new Worker(coordinator.substring(0, colon),
+                Integer.parseInt(coordinator.substring(colon + 1)), name, new ScenarioTask()).run();
+        System.out.printf("Sent %d requests over %.1f s to the coordinator%n", result.requests(),
+                result.elapsed().toNanos() / 1e9);
+    }
+
+    /**
+     * Takes part in one distributed run and returns what was sent to the coordinator.
+     */
+    public WorkerResult run() throws IOException {
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            Protocol.writeHello(out, name);
+            Plan plan = Protocol.readPlan(in);
+            try {
+                task.prepare(plan);
+            }
+            catch (RuntimeException e) {
+                Protocol.writeFailed(out, name + " could not prepare: " + e);
+                throw e;
+            }
+            Protocol.writeReady(out);
+            long startAt = System.nanoTime() + Duration.ofMillis(Protocol.readStart(in)).toNanos();
+            for (long remaining = startAt - System.nanoTime(); remaining > 0; remaining = startAt - System.nanoTime()) {
+                LockSupport.parkNanos(remaining);
+            }
+            LoadResult loadResult;
+            try {
+                loadResult = task.run(plan);
+            }
+            catch (RuntimeException e) {
+                Protocol.writeFailed(out, name + " failed: " + e);
+                throw e;
+            }
+            WorkerResult result = toResult(loadResult);
+            Protocol.writeResult(out, result);
+            return result;
+        }
+    }
+
+    private WorkerResult toResult(LoadResult result) {
+        List<WorkerResult.Endpoint> endpoints = result.endpoints().stream()
+                .map(this::toEndpoint)
+                .toList();
+        return new WorkerResult(name, result.elapsed(), endpoints);
+    }
+
+    private WorkerResult.Endpoint toEndpoint(EndpointStats stats) {
+        return new WorkerResult.Endpoint(stats.getName(), stats.getSuccesses(), stats.getFailures(),
+                stats.histogram());
+    }
+
+    private static String defaultName() {
+        try {
+            return InetAddress.getLocalHost().getHostName() + "/" + ManagementFactory.getRuntimeMXBean().getPid();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.learning.distributed;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * What a worker reports back after its run: the full latency histogram of every endpoint, in microseconds,
+ * so that the coordinator can merge them without losing precision.
+ */
+public record WorkerResult(String worker, Duration elapsed, List<Endpoint> endpoints) {
+
+    public record Endpoint(String name, long successes, long failures, Histogram histogram) {
+    }
+
+    public long requests() {
+        return endpoints.stream().mapToLong(endpoint -> endpoint.histogram().getTotalCount()).sum();
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.learning.distributed;
+
+import com.learning.load.LoadResult;
+
+/**
+ * The load a worker runs for its {@link Plan}.
+ */
+public interface WorkerTask {
+
+    /**
+     * Gets ready to run, e.g. warms up the server; called before the worker reports ready, so nothing done
+     * here is measured or delays the synchronized start.
+     */
+    void prepare(Plan plan);
+
+    LoadResult run(Plan plan);
+
+}
@@ -5,22 +5,23 @@ import static io.restassured.matcher.RestAssuredMatchers.*;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.isNotNull;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.assertj.core.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.learning.Fixtures;
+import com.learning.RequestSpecs;
 import com.learning.TokenUtil;
 
 import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
 import net.minidev.json.JSONObject;
 
 public class OrderControllerRA {
 
+    private RequestSpecification spec;
     private String adminUsername, clientUsername, adminPassword, clientPassword;
     private String adminToken, clientToken, invalidToken;
     private Long existingId, nonExistingId, otherId;
@@ -28,7 +29,7 @@ public class OrderControllerRA {
 
     @BeforeEach
     public void setup() {
-        baseURI = "http://localhost:8080";
+        spec = RequestSpecs.base();
 
         adminUsername = "alex@gmail.com";
         adminPassword = "123456";
@@ -37,12 +38,7 @@ public class OrderControllerRA {
         adminToken = TokenUtil.obtainAccessToken(adminUsername, adminPassword);
         clientToken = TokenUtil.obtainAccessToken(clientUsername, clientPassword);
         invalidToken = adminToken + "asda"; // generates invalid token
-        order = new HashMap<>();
-        List<Map<String, Object>> items = new ArrayList<>();
-        Map<String, Object> item1 = Map.of("productId", 5, "quantity", 1);
-        Map<String, Object> item2 = Map.of("productId", 6, "quantity", 4);
-        items.addAll(List.of(item1, item2));
-        order.put("items", items);
+        order = Fixtures.newOrder();
         
     }
 
@@ -50,7 +46,7 @@ public class OrderControllerRA {
     @Test
     public void insertShouldInsertOrderWhenValidDataAndClientLogged(){
         JSONObject json = new JSONObject(order);
-        given()
+        given(spec)
             .header("Content-type", "application/json")
             .header("Authorization", "Bearer " + clientToken)
             .body(json)
@@ -67,7 +63,7 @@ public class OrderControllerRA {
     public void insertShouldReturnUnprocessableEntityWhenZeroItemsAndClientLogged(){
         order.remove("items");
         JSONObject json = new JSONObject(order);
-        given()
+        given(spec)
             .header("Content-type", "application/json")
             .header("Authorization", "Bearer " + clientToken)
             .body(json)
@@ -86,7 +82,7 @@ public class OrderControllerRA {
     @Test
     public void insertShouldReturnUnauthorizedWhenNoUserLogged(){
         JSONObject json = new JSONObject(order);
-        given()
+        given(spec)
             .header("Content-type", "application/json")
             .header("Authorization", "Bearer " + invalidToken)
             .body(json)
@@ -102,7 +98,7 @@ public class OrderControllerRA {
     @Test
     public void insertShouldReturnForbiddenWhenAdminLogged(){
         JSONObject json = new JSONObject(order);
-        given()
+        given(spec)
             .header("Content-type", "application/json")
             .header("Authorization", "Bearer " + adminToken)
             .body(json)
@@ -119,7 +115,7 @@ public class OrderControllerRA {
     @Test
     public void findByIdShouldReturnOrderWhenAdminLogged(){
         existingId = 1L;
-        given()
+        given(spec)
             .header("Content-type", "application/json")
             .header("Authorization", "Bearer " + adminToken)
             .contentType(ContentType.JSON)
@@ -136,7 +132,7 @@ public class OrderControllerRA {
     @Test
     public void findByIdShouldReturnOrderWhenClientLoggedAndSelfOrder(){
         existingId = 1L;
-        given()
+        given(spec)
             .header("Content-type", "application/json")
             .header("Authorization", "Bearer " + clientToken)
             .contentType(ContentType.JSON)
@@ -152,7 +148,7 @@ public class OrderControllerRA {
     public void findByIdShouldReturnForbiddenWhenClientLoggedAndOtherOrder(){
         
         otherId = 2L;
-        given()
+        given(spec)
             .header("Content-type", "application/json")
             .header("Authorization", "Bearer " + clientToken)
             .contentType(ContentType.JSON)
@@ -167,7 +163,7 @@ public class OrderControllerRA {
     public void findByIdShouldReturnNotFoundWhenIdDoesNotExistAndAdminLogged(){
         
         nonExistingId = 100L;
-        given()
+        given(spec)
             .header("Content-type", "application/json")
             .header("Authorization", "Bearer " + adminToken)
             .contentType(ContentType.JSON)
@@ -182,7 +178,7 @@ public class OrderControllerRA {
     public void findByIdShouldReturnNotFoundWhenIdDoesNotExistAndClientLogged(){
         
         nonExistingId = 100L;
-        given()
+        given(spec)
             .header("Content-type", "application/json")
             .header("Authorization", "Bearer " + clientToken)
             .contentType(ContentType.JSON)
@@ -198,7 +194,7 @@ public class OrderControllerRA {
     public void findByIdShouldReturnUnauthorizedWhenNoUserLogged(){
         
         existingId = 1L;
-        given()
+        given(spec)
             .header("Content-type", "application/json")
             .header("Authorization", "Bearer " + invalidToken)
             .contentType(ContentType.JSON)
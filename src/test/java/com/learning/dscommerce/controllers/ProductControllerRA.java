@@ -5,21 +5,26 @@ import static io.restassured.matcher.RestAssuredMatchers.*;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.isNotNull;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.json.simple.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
+import com.learning.Fixtures;
+import com.learning.RequestSpecs;
+import com.learning.ResourceLocks;
 import com.learning.TokenUtil;
+import com.learning.metrics.LatencyBudget;
 
 import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
 
 public class ProductControllerRA {
 
+    private RequestSpecification spec;
     private Long existingProductId, nonExistingProductId, dependentId;
     private String productName;
     private Map<String, Object> product;
@@ -28,9 +33,9 @@ public class ProductControllerRA {
 
     @BeforeEach
     public void setup() {
-        baseURI = "http://localhost:8080";
+        spec = RequestSpecs.base();
 
-        product = new HashMap<>();
+        product = Fixtures.newProduct();
         adminUsername = "alex@gmail.com";
         adminPassword = "123456";
         clientUsername = "maria@gmail.com";
@@ -41,28 +46,15 @@ public class ProductControllerRA {
         existingProductId = 2L;
         nonExistingProductId = 100L;
         dependentId = 1L;
-
-        product.put("name", "New product");
-        product.put("price", 10.0);
-        product.put("imgUrl", "www.imgurl.com");
-        product.put("description", "here is a description");
-        List<Map<String, Object>> categories = new ArrayList<>();
-        Map<String, Object> category1 = new HashMap<>();
-        category1.put("id", 1);
-        Map<String, Object> category2 = new HashMap<>();
-        category2.put("id", 3);
-        categories.add(category1);
-        categories.add(category2);
-        product.put("categories", categories);
-
     }
 
     // Atualização de produto atualiza produto com dados válidos quando logado como admin
     @Test
+    @ResourceLock(value = ResourceLocks.CATALOG, mode = ResourceAccessMode.READ_WRITE)
     public void updateShouldUpdateProductWhenValidDataAndExistingIdAndAdminLogged() {
         JSONObject json = new JSONObject(product);
         existingProductId = 1L;
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .body(json)
@@ -82,7 +74,7 @@ public class ProductControllerRA {
     public void updateShouldReturnNotFoundWhenIdDoesNotExistAndAdminLogged() {
         JSONObject json = new JSONObject(product);
         nonExistingProductId = 100L;
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .body(json)
@@ -102,7 +94,7 @@ public class ProductControllerRA {
         product.replace("name", null );
         JSONObject json = new JSONObject(product);
         existingProductId = 1L;
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .body(json)
@@ -123,7 +115,7 @@ public class ProductControllerRA {
         product.replace("description", null );
         JSONObject json = new JSONObject(product);
         existingProductId = 1L;
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .body(json)
@@ -144,7 +136,7 @@ public class ProductControllerRA {
         product.replace("price", -100.0);
         JSONObject json = new JSONObject(product);
         existingProductId = 1L;
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .body(json)
@@ -165,7 +157,7 @@ public class ProductControllerRA {
         product.replace("price", 0.0);
         JSONObject json = new JSONObject(product);
         existingProductId = 1L;
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .body(json)
@@ -187,7 +179,7 @@ public class ProductControllerRA {
         product.remove("categories");
         JSONObject json = new JSONObject(product);
         existingProductId = 1L;
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .body(json)
@@ -206,7 +198,7 @@ public class ProductControllerRA {
 
         JSONObject json = new JSONObject(product);
         existingProductId = 1L;
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + clientToken)
                 .body(json)
@@ -225,7 +217,7 @@ public class ProductControllerRA {
 
         JSONObject json = new JSONObject(product);
         existingProductId = 1L;
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + invalidToken)
                 .body(json)
@@ -239,9 +231,10 @@ public class ProductControllerRA {
 
     // Deleção de produto deleta produto existente quando logado como admin
     @Test
+    @ResourceLock(value = ResourceLocks.CATALOG, mode = ResourceAccessMode.READ_WRITE)
     public void deleteShouldReturnNoContentWhenIdExistsAndNotConstrainedAndAdminLogged() {
         existingProductId = 25L;
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .contentType(ContentType.JSON)
@@ -256,7 +249,7 @@ public class ProductControllerRA {
     @Test
     public void deleteShouldReturnNotFoundWhenIdDoesNotExistAndAdminLogged() {
 
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .contentType(ContentType.JSON)
@@ -272,7 +265,7 @@ public class ProductControllerRA {
     @Test
     public void deleteShouldReturnBadRequestWhenDependentIdAndAdminLogged() {
 
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .contentType(ContentType.JSON)
@@ -287,7 +280,7 @@ public class ProductControllerRA {
     @Test
     public void deleteShouldReturnForbiddenWhenClientLogged() {
 
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + clientToken)
                 .contentType(ContentType.JSON)
@@ -302,7 +295,7 @@ public class ProductControllerRA {
     @Test
     public void deleteShouldReturnUnauthorizedWhenNoUserLogged() {
 
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + invalidToken)
                 .contentType(ContentType.JSON)
@@ -321,7 +314,7 @@ public class ProductControllerRA {
         product.remove("categories");
         JSONObject json = new JSONObject(product);
 
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .body(json)
@@ -341,7 +334,7 @@ public class ProductControllerRA {
 
         JSONObject json = new JSONObject(product);
 
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + clientToken)
                 .body(json)
@@ -360,7 +353,7 @@ public class ProductControllerRA {
 
         JSONObject json = new JSONObject(product);
 
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + invalidToken)
                 .body(json)
@@ -375,11 +368,12 @@ public class ProductControllerRA {
 
     // Inserção de produto insere produto com dados válidos quando logado como admin
     @Test
+    @ResourceLock(value = ResourceLocks.CATALOG, mode = ResourceAccessMode.READ_WRITE)
     public void insertShouldReturnProductCreatedWhenValidDataAndAdminLogged() {
 
         JSONObject json = new JSONObject(product);
 
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .body(json)
@@ -402,7 +396,7 @@ public class ProductControllerRA {
         product.replace("name", null);
         JSONObject json = new JSONObject(product);
 
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .body(json)
@@ -425,7 +419,7 @@ public class ProductControllerRA {
         product.replace("description", "a");
         JSONObject json = new JSONObject(product);
 
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .body(json)
@@ -448,7 +442,7 @@ public class ProductControllerRA {
         product.replace("price", -20.0);
         JSONObject json = new JSONObject(product);
 
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .body(json)
@@ -471,7 +465,7 @@ public class ProductControllerRA {
         product.replace("price", 0.0);
         JSONObject json = new JSONObject(product);
 
-        given()
+        given(spec)
                 .header("Content-type", "application/json")
                 .header("Authorization", "Bearer " + adminToken)
                 .body(json)
@@ -488,10 +482,11 @@ public class ProductControllerRA {
     // Busca paginada filtra produtos por nome e exibe listagem paginada quando
     // campo nome preenchidos
     @Test
+    @ResourceLock(value = ResourceLocks.CATALOG, mode = ResourceAccessMode.READ)
     public void findAllShouldReturnPageWhenNameInformed() {
         productName = "Macbook Pro";
 
-        given()
+        given(spec)
                 .get("/products?name={productName}", productName)
                 .then()
                 .statusCode(200)
@@ -501,9 +496,10 @@ public class ProductControllerRA {
     // Busca paginada filtra produtos de forma paginada e filtra produtos com preço
     // maior que 2000.0
     @Test
+    @ResourceLock(value = ResourceLocks.CATALOG, mode = ResourceAccessMode.READ)
     public void findAllShouldReturnPageProductsWithPriceGreaterThan2000() {
 
-        given()
+        given(spec)
                 .get("/products")
                 .then()
                 .statusCode(200)
@@ -514,9 +510,11 @@ public class ProductControllerRA {
     // Busca paginada exibe listagem paginada quando campo nome não preenchido e
     // checa se os produtos Macbook Pro e PC Gamer Tera estão contidos
     @Test
+    @ResourceLock(value = ResourceLocks.CATALOG, mode = ResourceAccessMode.READ)
+    @LatencyBudget(percentile = 99.0, maxMillis = 50, warmup = 10, repetitions = 50)
     public void findAllShouldReturnPageWhenNameNotInformed() {
 
-        given()
+        given(spec)
                 .get("/products")
                 .then()
                 .statusCode(200)
@@ -524,9 +522,11 @@ public class ProductControllerRA {
     }
 
     @Test
+    @ResourceLock(value = ResourceLocks.CATALOG, mode = ResourceAccessMode.READ)
+    @LatencyBudget(percentile = 99.0, maxMillis = 50, warmup = 10, repetitions = 50)
     public void findByIdShouldReturnProductWhenIdExists() {
 
-        given()
+        given(spec)
                 .get("/products/{id}", existingProductId)
                 .then()
                 .statusCode(200)
@@ -14,19 +14,22 @@ import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.learning.RequestSpecs;
 import com.learning.TokenUtil;
 
 import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
 
 public class UserControllerRA {
     
 
+    private RequestSpecification spec;
     private String adminUsername, clientUsername, adminPassword, clientPassword;
     private String adminToken, clientToken, invalidToken;
 
     @BeforeEach
     public void setup() {
-        baseURI = "http://localhost:8080";
+        spec = RequestSpecs.base();
 
       
         adminUsername = "alex@gmail.com";
@@ -44,7 +47,7 @@ public class UserControllerRA {
     @Test
     public void getMeShouldReturnUserWhenAdminLogged(){
 
-        given()
+        given(spec)
             .header("Content-type", "application/json")
             .header("Authorization", "Bearer " + adminToken)
             .contentType(ContentType.JSON)
@@ -63,7 +66,7 @@ public class UserControllerRA {
     @Test
     public void getMeShouldReturnUserWhenClientLogged(){
 
-        given()
+        given(spec)
             .header("Content-type", "application/json")
             .header("Authorization", "Bearer " + clientToken)
             .contentType(ContentType.JSON)
@@ -80,7 +83,7 @@ public class UserControllerRA {
     @Test
     public void getMeShouldReturnUnauthorizedWhenNoUserLogged(){
 
-        given()
+        given(spec)
             .header("Content-type", "application/json")
             .header("Authorization", "Bearer " + invalidToken)
             .contentType(ContentType.JSON)
@@ -0,0 +1,158 @@
+package com.learning.dscommerce.standin.repositories;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import com.learning.dscommerce.standin.StandinFixtures;
+import com.learning.dscommerce.standin.entities.Product;
+
+public class ProductRepositoryTest {
+
+    private static final Comparator<Product> BY_PRICE_DESC =
+            Comparator.comparing(Product::price).reversed().thenComparing(Product::id);
+
+    private final ProductRepository repository = new ProductRepository(0);
+
+    @Test
+    public void searchShouldMatchAnyPartOfTheNameIgnoringCase() {
+        ProductRepository.ProductPage page = repository.search("ACBO", 0, 12, null);
+
+        assertThat(page.totalElements()).isEqualTo(1);
+        assertThat(page.content()).extracting(Product::name).containsExactly("Macbook Pro");
+    }
+
+    @Test
+    public void searchShouldReturnEachProductOnceWhenTermOccursTwice() {
+        // "PC Gamer Er" contains "er" twice
+        ProductRepository.ProductPage page = repository.search("er", 0, 100, null);
+
+        assertThat(page.content()).extracting(Product::id).doesNotHaveDuplicates().isSorted();
+        assertThat(page.totalElements()).isEqualTo(page.content().size());
+    }
+
+    @Test
+    public void searchShouldPageAndSortMatches() {
+        ProductRepository.ProductPage page = repository.search("pc gamer", 1, 5, BY_PRICE_DESC);
+
+        assertThat(page.totalElements()).isEqualTo(21);
+        assertThat(page.content()).hasSize(5);
+        assertThat(page.content()).extracting(Product::price).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+        assertThat(page.content().get(0).price()).isLessThanOrEqualTo(2250.0);
+    }
+
+    @Test
+    public void searchWithoutNameShouldListByIdAndCountEverything() {
+        ProductRepository.ProductPage page = repository.search("", 2, 10, null);
+
+        assertThat(page.totalElements()).isEqualTo(25);
+        assertThat(page.content()).extracting(Product::id).containsExactly(21L, 22L, 23L, 24L, 25L);
+    }
+
+    @Test
+    public void updateShouldMoveProductToItsNewName() {
+        Product macbook = repository.findById(3L).orElseThrow();
+
+        repository.update(new Product(3L, "Notebook Air", macbook.description(), macbook.price(),
+                macbook.imgUrl(), macbook.categories()));
+
+        assertThat(repository.search("macbook", 0, 12, null).totalElements()).isZero();
+        assertThat(repository.search("air", 0, 12, null).content()).extracting(Product::id).containsExactly(3L);
+    }
+
+    @Test
+    public void renameKeepingPartOfTheNameShouldStaySearchableByIt() {
+        Product tv = repository.findById(2L).orElseThrow();
+
+        repository.update(new Product(2L, "LG Smart TV", tv.description(), tv.price(), tv.imgUrl(),
+                tv.categories()));
+
+        assertThat(repository.search("smart", 0, 12, null).content()).extracting(Product::id).containsExactly(2L);
+        assertThat(repository.search("tv", 0, 12, null).content()).extracting(Product::id).containsExactly(2L);
+        assertThat(repository.search("lg", 0, 12, null).content()).extracting(Product::id).containsExactly(2L);
+    }
+
+    @Test
+    public void searchShouldSkipNamesHavingTheTermsTrigramsApart() {
+        Product template = StandinFixtures.syntheticProduct(0);
+        // has "abc" and "bcd" but not "abcd"
+        repository.insert(new Product(null, "Abc Xbcd", template.description(), template.price(),
+                template.imgUrl(), template.categories()));
+        Product match = repository.insert(new Product(null, "Abcd Kit", template.description(), template.price(),
+                template.imgUrl(), template.categories()));
+
+        ProductRepository.ProductPage page = repository.search("abcd", 0, 12, null);
+
+        assertThat(page.totalElements()).isEqualTo(1);
+        assertThat(page.content()).extracting(Product::id).containsExactly(match.id());
+    }
+
+    @Test
+    public void shortTermsShouldCountEveryMatchBeyondThePage() {
+        ProductRepository large = new ProductRepository(10_000);
+
+        ProductRepository.ProductPage page = large.search("em", 3, 4, null);
+
+        assertThat(page.totalElements()).isEqualTo(10_000);
+        assertThat(page.content()).extracting(Product::id).containsExactly(38L, 39L, 40L, 41L);
+    }
+
+    @Test
+    public void deleteShouldRemoveProductFromSearches() {
+        repository.deleteById(25L);
+
+        assertThat(repository.search("foo", 0, 12, null).totalElements()).isZero();
+        assertThat(repository.count()).isEqualTo(24);
+    }
+
+    @Test
+    public void syntheticProductsShouldBeSearchable() {
+        ProductRepository large = new ProductRepository(1_000);
+
+        assertThat(large.count()).isEqualTo(1_025);
+        assertThat(large.search("item 1000", 0, 12, null).content()).extracting(Product::id).containsExactly(1000L);
+    }
+
+    @Test
+    public void searchShouldOnlyReturnCurrentMatchesWhileProductsAreRenamed() throws Exception {
+        Product template = StandinFixtures.syntheticProduct(0);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ids.add(repository.insert(template).id());
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<?> writer = executor.submit(() -> {
+                for (int round = 0; round < 200; round++) {
+                    String name = round % 2 == 0 ? "Widget Alpha" : "Widget Beta";
+                    for (Long id : ids) {
+                        repository.update(new Product(id, name, template.description(), template.price(),
+                                template.imgUrl(), template.categories()));
+                    }
+                }
+                running.set(false);
+            });
+            Future<?> reader = executor.submit(() -> {
+                while (running.get()) {
+                    for (Product product : repository.search("alpha", 0, 100, null).content()) {
+                        assertThat(product.name()).isEqualTo("Widget Alpha");
+                    }
+                }
+            });
+            writer.get();
+            reader.get();
+        }
+
+        assertThat(repository.search("widget beta", 0, 100, null).totalElements()).isEqualTo(50);
+        assertThat(repository.search("alpha", 0, 100, null).totalElements()).isZero();
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.learning.dscommerce.standin.services;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.dscommerce.standin.dto.TokenDTO;
+import com.learning.dscommerce.standin.repositories.UserRepository;
+import com.learning.dscommerce.standin.services.exceptions.OAuth2Exception;
+import com.learning.dscommerce.standin.services.exceptions.UnauthorizedException;
+
+public class AuthServiceTest {
+
+    private static final String CLIENT = "Basic "
+            + Base64.getEncoder().encodeToString("myclientid:myclientsecret".getBytes(StandardCharsets.UTF_8));
+
+    private final AuthService hashing = new AuthService(new UserRepository(0), new ObjectMapper(),
+            "myclientid", "myclientsecret", 3600, 1_000);
+
+    @Test
+    public void passwordGrantShouldAcceptHashedPassword() {
+        TokenDTO token = hashing.passwordGrant(CLIENT, "password", "maria@gmail.com", "123456");
+
+        assertThat(hashing.authenticate("Bearer " + token.accessToken()).email()).isEqualTo("maria@gmail.com");
+    }
+
+    @Test
+    public void passwordGrantShouldRejectWrongPasswordAndUnknownUserWhenHashing() {
+        hashing.passwordGrant(CLIENT, "password", "maria@gmail.com", "123456");
+
+        assertThatThrownBy(() -> hashing.passwordGrant(CLIENT, "password", "maria@gmail.com", "1234567"))
+                .isInstanceOf(OAuth2Exception.class);
+        assertThatThrownBy(() -> hashing.passwordGrant(CLIENT, "password", "nobody@gmail.com", "123456"))
+                .isInstanceOf(OAuth2Exception.class);
+    }
+
+    @Test
+    public void authenticateShouldRejectTamperedToken() {
+        TokenDTO token = hashing.passwordGrant(CLIENT, "password", "maria@gmail.com", "123456");
+
+        assertThatThrownBy(() -> hashing.authenticate("Bearer " + token.accessToken() + "asda"))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+}
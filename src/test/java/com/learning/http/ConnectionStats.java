@@ -0,0 +1,24 @@
+package com.learning.http;
+
+/**
+ * Snapshot of the shared connection pool.
+ *
+ * @param leases    connections handed out to requests since start
+ * @param created   connections opened since start; every other lease reused a kept-alive connection
+ * @param leased    connections currently in use
+ * @param available idle connections kept alive in the pool
+ * @param pending   requests waiting for a connection
+ */
+public record ConnectionStats(long leases, long created, int leased, int available, int pending) {
+
+    public long reused() {
+        return Math.max(0, leases - created);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("leases %d, created %d, reused %d, leased %d, idle %d, pending %d", leases, created,
+                reused(), leased, available, pending);
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.learning.http;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * Pooling connection manager that counts leased connections and newly opened sockets, and times the pool
+ * wait, name resolution and connect phases of a call. RestAssured only accepts clients of the Apache
+ * HttpClient 4 classic API, hence the deprecated manager.
+ */
+@SuppressWarnings("deprecation")
+class MeteredConnectionManager extends PoolingClientConnectionManager {
+
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder created = new LongAdder();
+
+    MeteredConnectionManager(SchemeRegistry schemeRegistry) {
+        super(schemeRegistry);
+    }
+
+    @Override
+    protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+        // called from the super constructor: the operator must only touch our fields when connecting
+        return new DefaultClientConnectionOperator(schemeRegistry) {
+
+            @Override
+            public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                    HttpContext context, HttpParams params) throws IOException {
+                long dnsBefore = PhaseTimings.current(Phase.DNS);
+                long start = System.nanoTime();
+                try {
+                    super.openConnection(conn, target, local, context, params);
+                }
+                finally {
+                    long dns = PhaseTimings.current(Phase.DNS) - dnsBefore;
+                    PhaseTimings.add(Phase.CONNECT, System.nanoTime() - start - dns);
+                }
+                created.increment();
+            }
+
+            @Override
+            protected InetAddress[] resolveHostname(String host) throws UnknownHostException {
+                long start = System.nanoTime();
+                try {
+                    return super.resolveHostname(host);
+                }
+                finally {
+                    PhaseTimings.add(Phase.DNS, System.nanoTime() - start);
+                }
+            }
+        };
+    }
+
+    @Override
+    public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+        ClientConnectionRequest request = super.requestConnection(route, state);
+        return new ClientConnectionRequest() {
+
+            @Override
+            public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                    throws InterruptedException, ConnectionPoolTimeoutException {
+                long start = System.nanoTime();
+                ManagedClientConnection connection;
+                try {
+                    connection = request.getConnection(timeout, unit);
+                }
+                finally {
+                    PhaseTimings.add(Phase.POOL, System.nanoTime() - start);
+                }
+                leases.increment();
+                return connection;
+            }
+
+            @Override
+            public void abortRequest() {
+                request.abortRequest();
+            }
+        };
+    }
+
+    ConnectionStats stats() {
+        var pool = getTotalStats();
+        return new ConnectionStats(leases.sum(), created.sum(), pool.getLeased(), pool.getAvailable(),
+                pool.getPending());
+    }
+
+}
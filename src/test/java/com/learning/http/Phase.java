@@ -0,0 +1,34 @@
+package com.learning.http;
+
+/**
+ * Phases of one call through the {@link PooledHttpClient}, in the order they happen. DNS and connect only
+ * happen when the pool opens a new connection; a kept-alive connection goes straight from the pool to the
+ * write. There is no TLS phase: the suites talk plain HTTP, and over HTTPS the handshake would be part of
+ * the connect phase.
+ */
+public enum Phase {
+
+    /** Waiting for a connection from the pool. */
+    POOL("pool"),
+    /** Resolving the host name of a new connection. */
+    DNS("dns"),
+    /** Opening the socket of a new connection, without the name resolution. */
+    CONNECT("connect"),
+    /** Writing the request line, headers and body. */
+    WRITE("write"),
+    /** From the end of the write until the status line and headers are read: the server's think time. */
+    TTFB("ttfb"),
+    /** Reading the response body. */
+    DOWNLOAD("download");
+
+    private final String label;
+
+    Phase(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+}
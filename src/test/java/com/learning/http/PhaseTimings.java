@@ -0,0 +1,88 @@
+package com.learning.http;
+
+import java.util.Arrays;
+
+/**
+ * Per-thread phase times of the call in progress. The classic HttpClient runs a call entirely on the
+ * calling thread, so the hooks of the {@link PooledHttpClient} add to the timings begun by the caller, and
+ * do nothing when no timings were begun. Times of a phase that happens more than once, e.g. on a retry or
+ * a redirect, add up.
+ * <p>
+ * Each thread reuses one instance, so timing a call does not allocate. Timings begun while others are
+ * collecting, e.g. by the latency filter inside a test that times its own calls, share the counters of the
+ * outermost {@link #begin()} and only that one resets them.
+ */
+public class PhaseTimings {
+
+    private static final ThreadLocal<PhaseTimings> CURRENT = new ThreadLocal<>();
+    private static volatile boolean timed;
+
+    private final long[] nanos = new long[Phase.values().length];
+    private final boolean[] happened = new boolean[Phase.values().length];
+    private int depth;
+
+    /**
+     * Whether a client timing the phases exists; until then there is nothing to collect.
+     */
+    public static boolean isTimed() {
+        return timed;
+    }
+
+    static void enable() {
+        timed = true;
+    }
+
+    /**
+     * Starts collecting the phases of the calls made by this thread, until {@link #end()}. The returned
+     * timings are this thread's and are reset by its next outermost {@code begin()}.
+     */
+    public static PhaseTimings begin() {
+        PhaseTimings timings = CURRENT.get();
+        if (timings == null) {
+            timings = new PhaseTimings();
+            CURRENT.set(timings);
+        }
+        if (timings.depth++ == 0) {
+            Arrays.fill(timings.nanos, 0);
+            Arrays.fill(timings.happened, false);
+        }
+        return timings;
+    }
+
+    public static void end() {
+        PhaseTimings timings = CURRENT.get();
+        if (timings != null && timings.depth > 0) {
+            timings.depth--;
+        }
+    }
+
+    static void add(Phase phase, long nanos) {
+        PhaseTimings timings = CURRENT.get();
+        if (timings != null && timings.depth > 0) {
+            timings.nanos[phase.ordinal()] += nanos;
+            timings.happened[phase.ordinal()] = true;
+        }
+    }
+
+    static long current(Phase phase) {
+        PhaseTimings timings = CURRENT.get();
+        return timings == null || timings.depth == 0 ? 0 : timings.nanos[phase.ordinal()];
+    }
+
+    /**
+     * Whether these timings were begun by the outermost {@link #begin()} still open, i.e. only hold the
+     * phases collected since then.
+     */
+    public boolean isOutermost() {
+        return depth == 1;
+    }
+
+    public boolean happened(Phase phase) {
+        return happened[phase.ordinal()];
+    }
+
+    public long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.learning.http;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Connection pool settings, read from {@code http.pool.*} system properties.
+ *
+ * @param enabled     share the pooled client; when false RestAssured opens its own client per request
+ * @param maxTotal    connections across all routes
+ * @param maxPerRoute default connections per host and port
+ * @param routeLimits per-route overrides keyed by {@code host:port}, from
+ *                    {@code http.pool.routeLimits=localhost:8080=100,api:443=20}
+ * @param idleTimeout connections idle longer than this are closed by the evictor
+ */
+public record PoolSettings(boolean enabled, int maxTotal, int maxPerRoute, Map<String, Integer> routeLimits,
+        Duration idleTimeout) {
+
+    public static PoolSettings fromSystemProperties() {
+        return new PoolSettings(
+                Boolean.parseBoolean(System.getProperty("http.pool.enabled", "true")),
+                Integer.getInteger("http.pool.maxTotal", 200),
+                Integer.getInteger("http.pool.maxPerRoute", 100),
+                parseRouteLimits(System.getProperty("http.pool.routeLimits", "")),
+                Duration.ofSeconds(Long.getLong("http.pool.idleSeconds", 30)));
+    }
+
+    static Map<String, Integer> parseRouteLimits(String value) {
+        Map<String, Integer> limits = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Route limit must be host:port=limit but was " + entry);
+            }
+            limits.put(entry.substring(0, separator).trim(), Integer.parseInt(entry.substring(separator + 1).trim()));
+        }
+        return limits;
+    }
+
+}
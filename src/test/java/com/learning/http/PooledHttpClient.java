@@ -0,0 +1,108 @@
+package com.learning.http;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import io.restassured.config.HttpClientConfig;
+
+/**
+ * Keep-alive HTTP client with a bounded connection pool, shared by {@code TokenUtil}, the suites and the
+ * load drivers through {@code RequestSpecs}. Idle and expired connections are evicted in the background.
+ * When enabled, every {@link Phase} of a call is timed into the {@link PhaseTimings} of the calling thread.
+ */
+@SuppressWarnings("deprecation")
+public class PooledHttpClient implements AutoCloseable {
+
+    private static final PooledHttpClient SHARED = new PooledHttpClient(PoolSettings.fromSystemProperties());
+
+    private final PoolSettings settings;
+    private final MeteredConnectionManager connectionManager;
+    private final DefaultHttpClient client;
+    private final HttpClientConfig httpClientConfig;
+    private final ScheduledExecutorService evictor;
+
+    public PooledHttpClient(PoolSettings settings) {
+        this.settings = settings;
+        connectionManager = new MeteredConnectionManager(SchemeRegistryFactory.createDefault());
+        connectionManager.setMaxTotal(settings.maxTotal());
+        connectionManager.setDefaultMaxPerRoute(settings.maxPerRoute());
+        for (Map.Entry<String, Integer> limit : settings.routeLimits().entrySet()) {
+            connectionManager.setMaxPerRoute(new HttpRoute(HttpHost.create(limit.getKey())), limit.getValue());
+        }
+        // created up front rather than on the first call, so that callers know phases are timed before it
+        HttpRequestExecutor executor = settings.enabled() ? new TimedRequestExecutor() : new HttpRequestExecutor();
+        client = new DefaultHttpClient(connectionManager) {
+
+            @Override
+            protected HttpRequestExecutor createRequestExecutor() {
+                return executor;
+            }
+        };
+        // RestAssured reads bodies lazily and never closes unread ones; buffering the entity lets the
+        // connection go back to the pool as soon as the response has arrived, and times the body download
+        client.addResponseInterceptor((response, context) -> {
+            HttpEntity entity = response.getEntity();
+            if (entity != null && entity.isStreaming()) {
+                long start = System.nanoTime();
+                response.setEntity(new BufferedHttpEntity(entity));
+                PhaseTimings.add(Phase.DOWNLOAD, System.nanoTime() - start);
+            }
+        });
+        // the factory always hands out the same instance, so RestAssured never shuts the pool down
+        httpClientConfig = HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(() -> client);
+        evictor = startEvictor();
+    }
+
+    public static PooledHttpClient shared() {
+        return SHARED;
+    }
+
+    public boolean isEnabled() {
+        return settings.enabled();
+    }
+
+    public HttpClientConfig httpClientConfig() {
+        return httpClientConfig;
+    }
+
+    public ConnectionStats stats() {
+        return connectionManager.stats();
+    }
+
+    /**
+     * Stops the evictor and closes every pooled connection. The shared client lives as long as the JVM.
+     */
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+        connectionManager.shutdown();
+    }
+
+    private ScheduledExecutorService startEvictor() {
+        long idleMillis = settings.idleTimeout().toMillis();
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, idleMillis / 2);
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleMillis, TimeUnit.MILLISECONDS);
+        }, period, period, TimeUnit.MILLISECONDS);
+        return evictor;
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.learning.http;
+
+import static io.restassured.RestAssured.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+
+public class PooledHttpClientTest {
+
+    private HttpServer server;
+    private RequestSpecification spec;
+    private PooledHttpClient pool;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/ping", exchange -> {
+            byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(50);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = new byte[64 * 1024];
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        pool = new PooledHttpClient(new PoolSettings(true, 10, 5, Map.of(), Duration.ofSeconds(30)));
+        spec = new RequestSpecBuilder()
+                .setBaseUri("http://localhost:" + server.getAddress().getPort())
+                .setConfig(RestAssured.config().httpClient(pool.httpClientConfig()))
+                .build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void sequentialRequestsShouldReuseOneKeptAliveConnection() {
+        for (int i = 0; i < 10; i++) {
+            given(spec)
+                .get("/ping")
+            .then()
+                .statusCode(200);
+        }
+
+        ConnectionStats stats = pool.stats();
+        assertThat(stats.leases()).isEqualTo(10);
+        assertThat(stats.created()).isEqualTo(1);
+        assertThat(stats.reused()).isEqualTo(9);
+        assertThat(stats.available()).isEqualTo(1);
+    }
+
+    @Test
+    public void phasesShouldBeTimedAndConnectOnlyOnANewConnection() {
+        PhaseTimings first = PhaseTimings.begin();
+        try {
+            given(spec).get("/slow").then().statusCode(200);
+        }
+        finally {
+            PhaseTimings.end();
+        }
+        for (Phase phase : Phase.values()) {
+            assertThat(first.happened(phase)).as(phase.label()).isTrue();
+        }
+
+        PhaseTimings second = PhaseTimings.begin();
+        try {
+            given(spec).get("/slow").then().statusCode(200);
+        }
+        finally {
+            PhaseTimings.end();
+        }
+        assertThat(second.happened(Phase.DNS)).isFalse();
+        assertThat(second.happened(Phase.CONNECT)).isFalse();
+        assertThat(second.happened(Phase.POOL)).isTrue();
+        assertThat(second.nanos(Phase.TTFB)).isGreaterThanOrEqualTo(Duration.ofMillis(50).toNanos());
+        assertThat(second.happened(Phase.DOWNLOAD)).isTrue();
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.learning.http;
+
+import java.io.IOException;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+/**
+ * Request executor that times the write of the request and the wait for the response head into the
+ * {@link PhaseTimings} of the calling thread.
+ */
+class TimedRequestExecutor extends HttpRequestExecutor {
+
+    TimedRequestExecutor() {
+        PhaseTimings.enable();
+    }
+
+    @Override
+    protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection conn, HttpContext context)
+            throws IOException, HttpException {
+        long start = System.nanoTime();
+        try {
+            return super.doSendRequest(request, conn, context);
+        }
+        finally {
+            PhaseTimings.add(Phase.WRITE, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection conn, HttpContext context)
+            throws HttpException, IOException {
+        long start = System.nanoTime();
+        try {
+            return super.doReceiveResponse(request, conn, context);
+        }
+        finally {
+            PhaseTimings.add(Phase.TTFB, System.nanoTime() - start);
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.learning.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+import com.learning.RequestSpecs;
+
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Open-model arrival schedule shared by the open-loop and soak drivers: requests are started at a fixed rate,
+ * regardless of whether earlier ones have completed, each on its own thread with that thread's own request
+ * specification. Arrivals beyond the in-flight limit are dropped rather than queued, so a stalled server
+ * cannot spawn unbounded threads.
+ */
+public class ArrivalSchedule {
+
+    private final long intervalNanos;
+    private final Duration duration;
+    private final int maxInFlight;
+    private final boolean virtualThreads;
+
+    public ArrivalSchedule(long intervalNanos, Duration duration, int maxInFlight, boolean virtualThreads) {
+        this.intervalNanos = intervalNanos;
+        this.duration = duration;
+        this.maxInFlight = maxInFlight;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Runs the schedule over scenarios picked by weight, and returns once every sent request has completed.
+     */
+    public Outcome run(List<Scenario> scenarios, Arrivals arrivals) {
+        ScenarioPicker<Scenario> picker = new ScenarioPicker<>(scenarios);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        SplittableRandom random = new SplittableRandom();
+        // RestAssured specifications are not thread-safe: one per request thread
+        ThreadLocal<RequestSpecification> specs = ThreadLocal.withInitial(RequestSpecs::base);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long scheduled = 0;
+        long dropped = 0;
+
+        try (ExecutorService requests = virtualThreads
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newCachedThreadPool()) {
+            for (long intended = start; intended - end < 0; intended = start + scheduled * intervalNanos) {
+                waitUntil(intended);
+                scheduled++;
+                Scenario scenario = picker.next(random);
+                if (!inFlight.tryAcquire()) {
+                    dropped++;
+                    arrivals.dropped(scenario);
+                    continue;
+                }
+                long intendedStart = intended;
+                requests.submit(() -> {
+                    try {
+                        arrivals.send(specs.get(), scenario, intendedStart);
+                    }
+                    finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return new Outcome(Duration.ofNanos(System.nanoTime() - start), scheduled, dropped);
+    }
+
+    private static void waitUntil(long deadline) {
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * What the driver does with each arrival.
+     */
+    public interface Arrivals {
+
+        /**
+         * Sends the request on the calling request thread; {@code intendedNanos} is the {@link System#nanoTime()}
+         * it was scheduled for.
+         */
+        void send(RequestSpecification spec, Scenario scenario, long intendedNanos);
+
+        /**
+         * An arrival that was not sent because {@code maxInFlight} requests were outstanding.
+         */
+        void dropped(Scenario scenario);
+    }
+
+    public record Outcome(Duration elapsed, long scheduled, long dropped) {
+
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.learning.load;
+
+import java.io.PrintStream;
+import java.util.List;
+
+import com.learning.RequestSpecs;
+import com.learning.http.PooledHttpClient;
+import com.learning.metrics.LatencyReporting;
+
+/**
+ * Entry point of the authorization benchmark: token issuance rate and latency under concurrency, next to
+ * the cost of rejecting bad credentials and tampered tokens. Takes the {@code load.*} settings of the
+ * closed-loop generator and writes the same HDR logs and summary. To make grants CPU-bound like on the
+ * real server, start the stand-in with password hashing:
+ *
+ * <pre>
+ * mvn spring-boot:run -Dspring-boot.run.profiles=standin -Dspring-boot.run.arguments="--dscommerce.standin.password-hash-iterations=10000 --dscommerce.standin.synthetic-clients=500"
+ * mvn -Pload test-compile exec:java -Dexec.mainClass=com.learning.load.AuthBenchmarkGenerator -Dload.users=32 -Dtokens.users=500
+ * </pre>
+ */
+public class AuthBenchmarkGenerator {
+
+    public static void main(String[] args) {
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        PrintStream out = System.out;
+        out.printf("Authorization benchmark against %s: %d users, duration %s, iterations %d%n",
+                RequestSpecs.baseUri(), settings.users(), settings.duration(), settings.iterations());
+        List<Scenario> scenarios = AuthScenarios.defaults();
+        WarmupReport.print(new Warmup(WarmupSettings.fromSystemProperties(settings.users())).run(scenarios), out);
+        LatencyReporting.global().start();
+        LoadResult result = new ClosedLoopDriver(settings).run(scenarios);
+
+        LoadReport.print(result, out);
+        double seconds = result.elapsed().toNanos() / 1e9;
+        // scenarios with weight 0 are left out of the result
+        long issued = result.endpoints().stream()
+                .filter(stats -> stats.getName().equals(AuthScenarios.VALID_GRANT))
+                .mapToLong(EndpointStats::getSuccesses)
+                .sum();
+        out.printf("Tokens issued: %d (%.1f/s)%n", issued, issued / seconds);
+        out.println("Connections: " + PooledHttpClient.shared().stats());
+        LatencyReporting.global().finish();
+        out.println("HDR logs and summary written to " + LatencyReporting.global().getDirectory());
+    }
+
+}
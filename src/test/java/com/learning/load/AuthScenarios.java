@@ -0,0 +1,82 @@
+package com.learning.load;
+
+import static io.restassured.RestAssured.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.learning.Fixtures;
+import com.learning.TokenPool;
+import com.learning.TokenPool.Credentials;
+import com.learning.TokenUtil;
+
+import io.restassured.http.ContentType;
+
+/**
+ * Load scenarios of the authorization and resource servers: password grants with valid and invalid
+ * credentials, and bearer tokens that are valid or tampered with like the {@code invalidToken} of the
+ * {@code *ControllerRA} suites. Grants log in the users configured with the {@code tokens.*} properties of
+ * {@link TokenPool}, or Maria when none are set. Weights can be overridden with {@code auth.weight.<key>}
+ * system properties.
+ */
+public class AuthScenarios {
+
+    public static final String VALID_GRANT = "POST /oauth2/token (valid)";
+
+    private static final String TAMPER_SUFFIX = "asda";
+
+    public static List<Scenario> defaults() {
+        List<Credentials> users = users();
+        return List.of(validGrant(users), invalidGrant(users), validToken(), tamperedToken());
+    }
+
+    public static Scenario validGrant(List<Credentials> users) {
+        return new Scenario(VALID_GRANT, weight("validGrant", 50), 200,
+                spec -> {
+                    Credentials user = pick(users);
+                    return TokenUtil.authRequest(spec, user.username(), user.password());
+                });
+    }
+
+    /**
+     * A known user with a wrong password, which costs the server the same hash as a valid grant.
+     */
+    public static Scenario invalidGrant(List<Credentials> users) {
+        return new Scenario("POST /oauth2/token (invalid)", weight("invalidGrant", 20), 400,
+                spec -> TokenUtil.authRequest(spec, pick(users).username(), "wrong-password"));
+    }
+
+    public static Scenario validToken() {
+        return new Scenario("GET /users/me (valid token)", weight("validToken", 15), 200,
+                spec -> given(spec)
+                        .header("Authorization", "Bearer " + clientToken())
+                        .contentType(ContentType.JSON)
+                        .get("/users/me"));
+    }
+
+    public static Scenario tamperedToken() {
+        return new Scenario("GET /users/me (tampered token)", weight("tamperedToken", 15), 401,
+                spec -> given(spec)
+                        .header("Authorization", "Bearer " + clientToken() + TAMPER_SUFFIX)
+                        .contentType(ContentType.JSON)
+                        .get("/users/me"));
+    }
+
+    private static List<Credentials> users() {
+        List<Credentials> users = TokenPool.credentialsFromSystemProperties();
+        return users.isEmpty() ? List.of(new Credentials(Fixtures.CLIENT_USERNAME, Fixtures.CLIENT_PASSWORD)) : users;
+    }
+
+    private static Credentials pick(List<Credentials> users) {
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+
+    private static String clientToken() {
+        return TokenUtil.obtainAccessToken(Fixtures.CLIENT_USERNAME, Fixtures.CLIENT_PASSWORD);
+    }
+
+    private static int weight(String key, int defaultWeight) {
+        return Integer.getInteger("auth.weight." + key, defaultWeight);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.learning.load;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.learning.RequestSpecs;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Closed-loop load driver: each virtual user issues a request, waits for the response, pauses for the think
+ * time and repeats. Throughput is therefore bounded by the response time of the server.
+ */
+public class ClosedLoopDriver {
+
+    private final LoadSettings settings;
+
+    public ClosedLoopDriver(LoadSettings settings) {
+        this.settings = settings;
+    }
+
+    public LoadResult run(List<Scenario> scenarios) {
+        ScenarioPicker<Scenario> picker = new ScenarioPicker<>(scenarios);
+        Map<Scenario, EndpointStats> stats = new LinkedHashMap<>();
+        for (Scenario scenario : picker.scenarios()) {
+            stats.put(scenario, new EndpointStats(scenario.name()));
+        }
+        AtomicLong remainingIterations = new AtomicLong(settings.iterations() > 0 ? settings.iterations() : Long.MAX_VALUE);
+        long start = System.nanoTime();
+        long deadline = settings.duration().isZero() ? Long.MAX_VALUE : start + settings.duration().toNanos();
+
+        try (ExecutorService users = newUserExecutor()) {
+            for (int i = 0; i < settings.users(); i++) {
+                users.submit(() -> runUser(picker, stats, remainingIterations, deadline));
+            }
+        }
+        return new LoadResult(Duration.ofNanos(System.nanoTime() - start), List.copyOf(stats.values()));
+    }
+
+    private ExecutorService newUserExecutor() {
+        return settings.virtualThreads()
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(settings.users());
+    }
+
+    private void runUser(ScenarioPicker<Scenario> picker, Map<Scenario, EndpointStats> stats,
+            AtomicLong remainingIterations, long deadline) {
+        RequestSpecification spec = RequestSpecs.base();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() - deadline < 0 && remainingIterations.getAndDecrement() > 0) {
+            Scenario scenario = picker.next(random);
+            long begin = System.nanoTime();
+            boolean success;
+            try {
+                Response response = scenario.execute(spec);
+                success = response.statusCode() == scenario.expectedStatus();
+            }
+            catch (RuntimeException e) {
+                success = false;
+            }
+            stats.get(scenario).record(System.nanoTime() - begin, success);
+            if (!think(random)) {
+                return;
+            }
+        }
+    }
+
+    private boolean think(ThreadLocalRandom random) {
+        long mean = settings.thinkTime().toMillis();
+        if (mean <= 0) {
+            return true;
+        }
+        try {
+            // uniform jitter around the mean keeps users from marching in lockstep
+            Thread.sleep(random.nextLong(mean / 2, mean + mean / 2 + 1));
+            return true;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
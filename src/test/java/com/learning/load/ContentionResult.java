@@ -0,0 +1,27 @@
+package com.learning.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of an order contention run and of reading its orders back.
+ *
+ * @param elapsed    how long orders were posted
+ * @param orders     latency and outcome of every {@code POST /orders}; a success is a 201
+ * @param statuses   responses per HTTP status, 0 for requests that failed without one
+ * @param placed     orders answered with 201 and an id
+ * @param verified   placed orders read back with the same client and items
+ * @param missing    placed orders that {@code GET /orders/{id}} did not find
+ * @param mismatched placed orders read back with another client or other items
+ * @param duplicates ids handed out to more than one placed order
+ * @param samples    a few descriptions of failed checks
+ */
+public record ContentionResult(Duration elapsed, EndpointStats orders, Map<Integer, Long> statuses, long placed,
+        long verified, long missing, long mismatched, long duplicates, List<String> samples) {
+
+    public boolean isConsistent() {
+        return verified == placed && missing == 0 && mismatched == 0 && duplicates == 0;
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.learning.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import com.learning.dscommerce.standin.StandinFixtures;
+
+/**
+ * Settings of the order contention scenario, read from {@code contention.*} system properties.
+ *
+ * @param workers            concurrent threads posting orders back to back
+ * @param duration           how long to post orders
+ * @param clients            client identities orders are spread over, logged in as
+ *                           {@code clientEmailPattern} formatted with 1 to {@code clients}
+ * @param clientEmailPattern {@code String.format} pattern of client emails; the stand-in seeds them with
+ *                           {@code dscommerce.standin.synthetic-clients}
+ * @param clientPassword     password shared by all clients
+ * @param hotProducts        ids of the few products every order draws its items from
+ * @param maxQuantity        largest quantity of an item; quantities are uniform from 1
+ * @param verifyThreads      threads fetching the created orders back after the run
+ */
+public record ContentionSettings(int workers, Duration duration, int clients, String clientEmailPattern,
+        String clientPassword, List<Long> hotProducts, int maxQuantity, int verifyThreads) {
+
+    public ContentionSettings {
+        if (workers < 1 || clients < 1 || verifyThreads < 1) {
+            throw new IllegalArgumentException("contention.workers, clients and verifyThreads must be at least 1");
+        }
+        if (hotProducts.isEmpty()) {
+            throw new IllegalArgumentException("contention.hotProducts must name at least one product");
+        }
+        if (maxQuantity < 1) {
+            throw new IllegalArgumentException("contention.maxQuantity must be at least 1");
+        }
+    }
+
+    public static ContentionSettings fromSystemProperties() {
+        return new ContentionSettings(
+                Integer.getInteger("contention.workers", 16),
+                Duration.ofSeconds(Long.getLong("contention.durationSeconds", 30)),
+                Integer.getInteger("contention.clients", 50),
+                System.getProperty("contention.clientEmailPattern", StandinFixtures.SYNTHETIC_CLIENT_EMAIL),
+                System.getProperty("contention.clientPassword", StandinFixtures.DEFAULT_PASSWORD),
+                Arrays.stream(System.getProperty("contention.hotProducts", "1,2,3").split(","))
+                        .map(String::trim)
+                        .map(Long::valueOf)
+                        .toList(),
+                Integer.getInteger("contention.maxQuantity", 3),
+                Integer.getInteger("contention.verifyThreads", 4));
+    }
+
+    public String clientEmail(int client) {
+        return String.format(clientEmailPattern, client);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.learning.load;
+
+import java.io.PrintStream;
+import java.util.List;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Prints pagination crawl results: one summary row per page size and sort, then the median page latency
+ * per page index range, where a rising row means deep offsets cost more than shallow ones. The "failed"
+ * column counts crawlers that could not read their first page and so crawled nothing.
+ */
+public class CrawlReport {
+
+    private static final String HEADER_FORMAT = "%-10s %-12s %8s %8s %10s %10s %12s %9s %9s %9s %7s %7s%n";
+    private static final String ROW_FORMAT = "%-10d %-12s %8d %8d %10.2f %10.2f %12.0f %9.2f %9.2f %9.2f %7d %7d%n";
+
+    public static void print(List<CrawlResult> results, PrintStream out) {
+        out.printf(HEADER_FORMAT, "page size", "sort", "crawlers", "pages", "scan s", "MB", "products/s",
+                "p50 ms", "p99 ms", "max ms", "errors", "failed");
+        for (CrawlResult result : results) {
+            Histogram all = result.allPages();
+            double scanSeconds = result.slowestScan().toNanos() / 1e9;
+            out.printf(ROW_FORMAT, result.pageSize(), result.sort(), result.crawlers(), result.pages(), scanSeconds,
+                    result.bytes() / 1e6, result.products() / scanSeconds, millis(all.getValueAtPercentile(50)),
+                    millis(all.getValueAtPercentile(99)), millis(all.getMaxValue()), result.errors(),
+                    result.failedCrawlers());
+        }
+        if (results.isEmpty()) {
+            return;
+        }
+        int buckets = results.get(0).pageLatencies().size();
+        out.println();
+        out.println("p50 page latency (ms) by page index range, shallowest first:");
+        out.printf("%-10s %-12s", "page size", "sort");
+        for (int i = 0; i < buckets; i++) {
+            out.printf(" %7s", (100 * i / buckets) + "%");
+        }
+        out.printf(" %8s%n", "deep/top");
+        for (CrawlResult result : results) {
+            out.printf("%-10d %-12s", result.pageSize(), result.sort());
+            for (Histogram bucket : result.pageLatencies()) {
+                out.printf(" %7.2f", millis(bucket.getValueAtPercentile(50)));
+            }
+            double first = result.pageLatencies().get(0).getValueAtPercentile(50);
+            double last = result.pageLatencies().get(buckets - 1).getValueAtPercentile(50);
+            out.printf(" %8.1f%n", first == 0 ? 0 : last / first);
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.learning.load;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome of crawling the catalog with one page size and sort.
+ *
+ * @param pageSize       products per page
+ * @param sort           the {@code sort} parameter, {@link CrawlSettings#UNSORTED} for none
+ * @param crawlers       concurrent crawlers
+ * @param scanTimes      time each crawler took to read every page
+ * @param pages          pages fetched by all crawlers
+ * @param products       products received by all crawlers
+ * @param bytes          response body bytes received by all crawlers
+ * @param errors         page requests that failed or did not return 200
+ * @param failedCrawlers crawlers whose first page failed, so that they read nothing else
+ * @param pageLatencies  latency in microseconds of the pages in each page index range, shallowest first
+ */
+public record CrawlResult(int pageSize, String sort, int crawlers, List<Duration> scanTimes, long pages,
+        long products, long bytes, long errors, long failedCrawlers, List<Histogram> pageLatencies) {
+
+    public Duration slowestScan() {
+        return scanTimes.stream().max(Duration::compareTo).orElse(Duration.ZERO);
+    }
+
+    public Histogram allPages() {
+        Histogram all = new Histogram(pageLatencies.get(0).getNumberOfSignificantValueDigits());
+        pageLatencies.forEach(all::add);
+        return all;
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.learning.load;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Settings of a pagination crawl, read from {@code crawl.*} system properties.
+ *
+ * @param pageSizes   page sizes to sweep, from {@code crawl.pageSizes} (comma separated)
+ * @param sorts       {@code sort} parameters to sweep, from {@code crawl.sorts} separated by {@code ;} since a
+ *                    sort may contain a comma ({@code name;price,desc}); {@code none} crawls unsorted
+ * @param crawlers    concurrent crawlers, each scanning the whole catalog
+ * @param name        optional {@code name} filter, empty to crawl everything
+ * @param pageBuckets number of page index ranges the per-page latency is reported in
+ */
+public record CrawlSettings(List<Integer> pageSizes, List<String> sorts, int crawlers, String name, int pageBuckets) {
+
+    public static final String UNSORTED = "none";
+
+    public CrawlSettings {
+        if (crawlers < 1) {
+            throw new IllegalArgumentException("crawl.crawlers must be at least 1");
+        }
+        if (pageBuckets < 1) {
+            throw new IllegalArgumentException("crawl.pageBuckets must be at least 1");
+        }
+    }
+
+    public static CrawlSettings fromSystemProperties() {
+        return new CrawlSettings(
+                Arrays.stream(System.getProperty("crawl.pageSizes", "12,48,200").split(","))
+                        .map(String::trim)
+                        .map(Integer::valueOf)
+                        .toList(),
+                Arrays.stream(System.getProperty("crawl.sorts", UNSORTED + ";name").split(";"))
+                        .map(String::trim)
+                        .toList(),
+                Integer.getInteger("crawl.crawlers", 1),
+                System.getProperty("crawl.name", ""),
+                Integer.getInteger("crawl.pageBuckets", 10));
+    }
+
+}
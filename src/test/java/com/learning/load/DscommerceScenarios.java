@@ -0,0 +1,101 @@
+package com.learning.load;
+
+import static io.restassured.RestAssured.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.learning.Fixtures;
+import com.learning.PayloadTemplate;
+import com.learning.TokenPool;
+import com.learning.TokenUtil;
+
+import io.restassured.http.ContentType;
+
+/**
+ * The request shapes of the {@code *ControllerRA} suites packaged as load scenarios. Default weights model
+ * a read-heavy storefront and can be overridden with {@code load.weight.<key>} system properties.
+ */
+public class DscommerceScenarios {
+
+    private static final String[] SEARCH_TERMS = { "Macbook", "PC Gamer", "Smart TV", "Rails" };
+    private static final int FIXTURE_PRODUCTS = 25;
+    private static final PayloadTemplate ORDER = Fixtures.newOrderTemplate();
+
+    public static List<Scenario> defaults() {
+        return List.of(findAllProducts(), findProductsByName(), findProductById(), insertOrder(), getMe());
+    }
+
+    /**
+     * The scenario of a weight key ({@code findAll}, {@code findByName}, {@code findById},
+     * {@code insertOrder} or {@code getMe}) with its configured weight.
+     */
+    public static Scenario byKey(String key) {
+        return switch (key) {
+            case "findAll" -> findAllProducts();
+            case "findByName" -> findProductsByName();
+            case "findById" -> findProductById();
+            case "insertOrder" -> insertOrder();
+            case "getMe" -> getMe();
+            default -> throw new IllegalArgumentException("Unknown scenario: " + key);
+        };
+    }
+
+    public static Scenario findAllProducts() {
+        return new Scenario("GET /products", weight("findAll", 40), 200,
+                spec -> given(spec)
+                        .get("/products"));
+    }
+
+    public static Scenario findProductsByName() {
+        return new Scenario("GET /products?name=", weight("findByName", 20), 200,
+                spec -> given(spec)
+                        .queryParam("name", SEARCH_TERMS[ThreadLocalRandom.current().nextInt(SEARCH_TERMS.length)])
+                        .get("/products"));
+    }
+
+    public static Scenario findProductById() {
+        return new Scenario("GET /products/{id}", weight("findById", 25), 200,
+                spec -> given(spec)
+                        .get("/products/{id}", ThreadLocalRandom.current().nextInt(1, FIXTURE_PRODUCTS + 1)));
+    }
+
+    public static Scenario insertOrder() {
+        return new Scenario("POST /orders", weight("insertOrder", 10), 201,
+                spec -> given(spec)
+                        .header("Authorization", "Bearer " + clientToken())
+                        .body(ORDER.render(randomQuantity(), randomQuantity()))
+                        .contentType(ContentType.JSON)
+                        .accept(ContentType.JSON)
+                        .post("/orders"));
+    }
+
+    public static Scenario getMe() {
+        return new Scenario("GET /users/me", weight("getMe", 5), 200,
+                spec -> given(spec)
+                        .header("Authorization", "Bearer " + clientToken())
+                        .contentType(ContentType.JSON)
+                        .get("/users/me"));
+    }
+
+    private static int randomQuantity() {
+        return ThreadLocalRandom.current().nextInt(1, 6);
+    }
+
+    /**
+     * A token from the {@link TokenPool#clients() client pool} when one is configured, so orders and profile
+     * reads spread over many principals; Maria's otherwise.
+     */
+    private static String clientToken() {
+        TokenPool clients = TokenPool.clients();
+        if (clients != null) {
+            return clients.next();
+        }
+        return TokenUtil.obtainAccessToken(Fixtures.CLIENT_USERNAME, Fixtures.CLIENT_PASSWORD);
+    }
+
+    private static int weight(String key, int defaultWeight) {
+        return Integer.getInteger("load.weight." + key, defaultWeight);
+    }
+
+}
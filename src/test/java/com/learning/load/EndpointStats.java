@@ -0,0 +1,74 @@
+package com.learning.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latency and outcome counters of one endpoint during a load run. Latencies are recorded in microseconds.
+ * Requests that were never sent, e.g. arrivals an open-model run dropped, count as failures without a latency.
+ */
+public class EndpointStats {
+
+    private final String name;
+    private final Recorder recorder = new Recorder(3);
+    private final Histogram accumulated = new Histogram(3);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public void record(long elapsedNanos, boolean success) {
+        recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        if (success) {
+            successes.increment();
+        }
+        else {
+            failures.increment();
+        }
+    }
+
+    public void recordDropped() {
+        dropped.increment();
+        failures.increment();
+    }
+
+    /**
+     * Adds latencies and outcomes recorded elsewhere, e.g. by another driver process, to these statistics.
+     */
+    public synchronized void merge(Histogram micros, long successes, long failures) {
+        accumulated.add(micros);
+        this.successes.add(successes);
+        this.failures.add(failures);
+    }
+
+    /**
+     * Returns every latency recorded so far. Only one thread may read results at a time.
+     */
+    public synchronized Histogram histogram() {
+        accumulated.add(recorder.getIntervalHistogram());
+        return accumulated.copy();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getSuccesses() {
+        return successes.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+}
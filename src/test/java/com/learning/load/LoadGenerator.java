@@ -0,0 +1,45 @@
+package com.learning.load;
+
+import java.util.List;
+
+import com.learning.RequestSpecs;
+import com.learning.TokenPool;
+import com.learning.http.PooledHttpClient;
+import com.learning.metrics.LatencyReporting;
+import com.learning.recording.Recording;
+
+/**
+ * Entry point of the closed-loop load generator.
+ *
+ * <pre>
+ * mvn -Pload test-compile exec:java -Dload.users=50 -Dload.durationSeconds=60 -Dload.thinkTimeMillis=100
+ * </pre>
+ */
+public class LoadGenerator {
+
+    public static void main(String[] args) {
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        System.out.printf("Closed loop against %s: %d users, duration %s, iterations %d, think time %s%n",
+                RequestSpecs.baseUri(), settings.users(), settings.duration(), settings.iterations(),
+                settings.thinkTime());
+        // started first so that logins are recorded too and a replay can renew their tokens
+        Recording.global().start();
+        TokenPool clients = TokenPool.clients();
+        if (clients != null) {
+            System.out.printf("Logged in %d clients%n", clients.size());
+        }
+        List<Scenario> scenarios = DscommerceScenarios.defaults();
+        WarmupReport.print(new Warmup(WarmupSettings.fromSystemProperties(settings.users())).run(scenarios), System.out);
+        LatencyReporting.global().start();
+        LoadResult result = new ClosedLoopDriver(settings).run(scenarios);
+        LoadReport.print(result, System.out);
+        System.out.println("Connections: " + PooledHttpClient.shared().stats());
+        LatencyReporting.global().finish();
+        if (Recording.global().isEnabled()) {
+            System.out.printf("Recorded %d exchanges to %s%n", Recording.global().finish(),
+                    Recording.global().getFile());
+        }
+        System.out.println("HDR logs and summary written to " + LatencyReporting.global().getDirectory());
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.learning.load;
+
+import java.io.PrintStream;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Prints throughput and latency percentiles per endpoint as a plain-text table. Requests and errors include
+ * the arrivals an open-model run dropped, which are also listed on their own; throughput only counts the
+ * requests that completed.
+ */
+public class LoadReport {
+
+    private static final String HEADER_FORMAT = "%-28s %9s %7s %8s %10s %9s %9s %9s %9s %9s%n";
+    private static final String ROW_FORMAT = "%-28s %9d %7d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n";
+
+    public static void print(LoadResult result, PrintStream out) {
+        double seconds = result.elapsed().toNanos() / 1e9;
+        out.printf("Elapsed: %.1f s%n", seconds);
+        out.printf(HEADER_FORMAT, "endpoint", "requests", "errors", "dropped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms",
+                "max ms");
+        for (EndpointStats stats : result.endpoints()) {
+            Histogram histogram = stats.histogram();
+            long completed = histogram.getTotalCount();
+            out.printf(ROW_FORMAT, stats.getName(), completed + stats.getDropped(), stats.getFailures(),
+                    stats.getDropped(), completed / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+}
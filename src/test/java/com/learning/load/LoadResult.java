@@ -0,0 +1,11 @@
+package com.learning.load;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a load run: the measured wall-clock time and the statistics of every endpoint.
+ */
+public record LoadResult(Duration elapsed, List<EndpointStats> endpoints) {
+
+}
@@ -0,0 +1,37 @@
+package com.learning.load;
+
+import java.time.Duration;
+
+/**
+ * Settings of a closed-loop run, read from {@code load.*} system properties so they can be passed on the
+ * Maven command line.
+ *
+ * @param users          number of concurrent virtual users
+ * @param duration       how long to run, {@link Duration#ZERO} for no time limit
+ * @param iterations     total requests across all users, 0 for no limit
+ * @param thinkTime      mean pause of a user between two requests
+ * @param virtualThreads run each user on a virtual thread instead of a platform thread. Off by default: the
+ *                       blocking RestAssured/HttpClient 4 stack pins virtual threads to their carriers, which
+ *                       caps concurrency at the number of cores
+ */
+public record LoadSettings(int users, Duration duration, long iterations, Duration thinkTime, boolean virtualThreads) {
+
+    public LoadSettings {
+        if (users < 1) {
+            throw new IllegalArgumentException("load.users must be at least 1");
+        }
+        if (duration.isZero() && iterations <= 0) {
+            throw new IllegalArgumentException("Either load.durationSeconds or load.iterations must be set");
+        }
+    }
+
+    public static LoadSettings fromSystemProperties() {
+        return new LoadSettings(
+                Integer.getInteger("load.users", 10),
+                Duration.ofSeconds(Long.getLong("load.durationSeconds", 30)),
+                Long.getLong("load.iterations", 0),
+                Duration.ofMillis(Long.getLong("load.thinkTimeMillis", 0)),
+                Boolean.getBoolean("load.virtualThreads"));
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.learning.load;
+
+import java.util.List;
+
+import com.learning.RequestSpecs;
+import com.learning.TokenPool;
+import com.learning.http.PooledHttpClient;
+import com.learning.metrics.LatencyReporting;
+import com.learning.recording.Recording;
+
+/**
+ * Entry point of the open-model (constant arrival rate) load generator, covering the catalog search and
+ * order creation flows.
+ *
+ * <pre>
+ * mvn -Pload test-compile exec:java -Dexec.mainClass=com.learning.load.OpenLoadGenerator -Dload.rate=200
+ * </pre>
+ */
+public class OpenLoadGenerator {
+
+    // an open-model run has no fixed number of clients to warm up with
+    private static final int WARMUP_THREADS = 4;
+
+    public static void main(String[] args) {
+        OpenLoadSettings settings = OpenLoadSettings.fromSystemProperties();
+        System.out.printf("Open model against %s: %.1f req/s for %s%n", RequestSpecs.baseUri(),
+                settings.ratePerSecond(), settings.duration());
+        // started first so that logins are recorded too and a replay can renew their tokens
+        Recording.global().start();
+        TokenPool clients = TokenPool.clients();
+        if (clients != null) {
+            System.out.printf("Logged in %d clients%n", clients.size());
+        }
+        List<Scenario> scenarios = List.of(DscommerceScenarios.findProductsByName(), DscommerceScenarios.insertOrder());
+        WarmupReport.print(new Warmup(WarmupSettings.fromSystemProperties(WARMUP_THREADS)).run(scenarios), System.out);
+        LatencyReporting.global().start();
+        OpenLoadResult result = new OpenLoopDriver(settings).run(scenarios);
+
+        System.out.printf("Scheduled %d requests, dropped %d over the in-flight limit%n", result.scheduled(),
+                result.dropped());
+        System.out.println("Response time (from intended send time):");
+        LoadReport.print(new LoadResult(result.elapsed(), result.responseTimes()), System.out);
+        System.out.println("Service time (from actual send time):");
+        LoadReport.print(new LoadResult(result.elapsed(), result.serviceTimes()), System.out);
+        System.out.println("Connections: " + PooledHttpClient.shared().stats());
+        LatencyReporting.global().finish();
+        if (Recording.global().isEnabled()) {
+            System.out.printf("Recorded %d exchanges to %s%n", Recording.global().finish(),
+                    Recording.global().getFile());
+        }
+        System.out.println("HDR logs and summary written to " + LatencyReporting.global().getDirectory());
+    }
+
+}
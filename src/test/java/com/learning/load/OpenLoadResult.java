@@ -0,0 +1,15 @@
+package com.learning.load;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of an open-model run. Response times are measured from the intended send time of each request
+ * and therefore include any delay caused by a stalled server or generator; service times are measured from
+ * the moment the request was actually sent. Dropped arrivals are counted as failed requests in the response
+ * times, without a latency, so the error rate shows an overloaded run.
+ */
+public record OpenLoadResult(Duration elapsed, List<EndpointStats> responseTimes, List<EndpointStats> serviceTimes,
+        long scheduled, long dropped) {
+
+}
@@ -0,0 +1,45 @@
+package com.learning.load;
+
+import java.time.Duration;
+
+/**
+ * Settings of an open-model run, read from {@code load.*} system properties.
+ *
+ * @param ratePerSecond  requests started per second, independently of how fast the server answers
+ * @param duration       how long the arrival schedule runs
+ * @param maxInFlight    requests allowed to be outstanding at once; arrivals beyond it are dropped and counted.
+ *                       Defaults to {@value #PLATFORM_MAX_IN_FLIGHT} on platform threads, one thread per
+ *                       outstanding request, and to {@value #VIRTUAL_MAX_IN_FLIGHT} on virtual threads
+ * @param virtualThreads run requests on virtual threads instead of a cached pool of platform threads
+ */
+public record OpenLoadSettings(double ratePerSecond, Duration duration, int maxInFlight, boolean virtualThreads) {
+
+    static final int PLATFORM_MAX_IN_FLIGHT = 1_000;
+    static final int VIRTUAL_MAX_IN_FLIGHT = 10_000;
+
+    public OpenLoadSettings {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("load.rate must be positive");
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("load.durationSeconds must be positive");
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("load.maxInFlight must be at least 1");
+        }
+    }
+
+    public static OpenLoadSettings fromSystemProperties() {
+        boolean virtualThreads = Boolean.getBoolean("load.virtualThreads");
+        return new OpenLoadSettings(
+                Double.parseDouble(System.getProperty("load.rate", "50")),
+                Duration.ofSeconds(Long.getLong("load.durationSeconds", 30)),
+                Integer.getInteger("load.maxInFlight", virtualThreads ? VIRTUAL_MAX_IN_FLIGHT : PLATFORM_MAX_IN_FLIGHT),
+                virtualThreads);
+    }
+
+    public long intervalNanos() {
+        return Math.max(1, Math.round(1e9 / ratePerSecond));
+    }
+
+}
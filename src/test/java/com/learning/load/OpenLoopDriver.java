@@ -0,0 +1,66 @@
+package com.learning.load;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Open-model load driver: requests are started on a fixed {@link ArrivalSchedule}, regardless of whether
+ * earlier requests have completed. Each request's latency is measured from the time it was scheduled to be
+ * sent, which corrects for coordinated omission when the server stalls. Arrivals dropped at the in-flight
+ * limit count as failed requests of their endpoint.
+ */
+public class OpenLoopDriver {
+
+    private final OpenLoadSettings settings;
+
+    public OpenLoopDriver(OpenLoadSettings settings) {
+        this.settings = settings;
+    }
+
+    public OpenLoadResult run(List<Scenario> scenarios) {
+        Map<Scenario, EndpointStats> responseTimes = new LinkedHashMap<>();
+        Map<Scenario, EndpointStats> serviceTimes = new LinkedHashMap<>();
+        for (Scenario scenario : new ScenarioPicker<>(scenarios).scenarios()) {
+            responseTimes.put(scenario, new EndpointStats(scenario.name()));
+            serviceTimes.put(scenario, new EndpointStats(scenario.name()));
+        }
+        ArrivalSchedule schedule = new ArrivalSchedule(settings.intervalNanos(), settings.duration(),
+                settings.maxInFlight(), settings.virtualThreads());
+        ArrivalSchedule.Outcome outcome = schedule.run(scenarios, new ArrivalSchedule.Arrivals() {
+
+            @Override
+            public void send(RequestSpecification spec, Scenario scenario, long intendedNanos) {
+                OpenLoopDriver.send(spec, scenario, intendedNanos, responseTimes.get(scenario),
+                        serviceTimes.get(scenario));
+            }
+
+            @Override
+            public void dropped(Scenario scenario) {
+                responseTimes.get(scenario).recordDropped();
+            }
+        });
+        return new OpenLoadResult(outcome.elapsed(), List.copyOf(responseTimes.values()),
+                List.copyOf(serviceTimes.values()), outcome.scheduled(), outcome.dropped());
+    }
+
+    private static void send(RequestSpecification spec, Scenario scenario, long intendedStart,
+            EndpointStats responseTime, EndpointStats serviceTime) {
+        long actualStart = System.nanoTime();
+        boolean success;
+        try {
+            Response response = scenario.execute(spec);
+            success = response.statusCode() == scenario.expectedStatus();
+        }
+        catch (RuntimeException e) {
+            success = false;
+        }
+        long now = System.nanoTime();
+        responseTime.record(now - intendedStart, success);
+        serviceTime.record(now - actualStart, success);
+    }
+
+}
@@ -0,0 +1,215 @@
+package com.learning.load;
+
+import static io.restassured.RestAssured.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.PayloadTemplate;
+import com.learning.RequestSpecs;
+import com.learning.TokenPool;
+import com.learning.TokenPool.Credentials;
+import com.learning.TokenPool.Handout;
+import com.learning.TokenUtil;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Flash-sale scenario: many clients posting orders for the same few products at once. Workers post back to
+ * back for the configured duration, each order for one or two distinct hot products with random quantities
+ * on behalf of a random client. Afterwards every order answered with 201 is read back with its client's
+ * token, to show orders that were lost, merged or handed the same id under contention.
+ */
+public class OrderContentionDriver {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int MAX_SAMPLES = 10;
+
+    private static final PayloadTemplate ONE_ITEM = PayloadTemplate.compile(
+            Map.of("items", List.of(item(1))), "product1", "quantity1");
+    private static final PayloadTemplate TWO_ITEMS = PayloadTemplate.compile(
+            Map.of("items", List.of(item(1), item(2))), "product1", "quantity1", "product2", "quantity2");
+
+    private final ContentionSettings settings;
+
+    public OrderContentionDriver(ContentionSettings settings) {
+        this.settings = settings;
+    }
+
+    public ContentionResult run() {
+        try (TokenPool tokens = new TokenPool(Credentials.fromPattern(settings.clientEmailPattern(),
+                settings.clients(), settings.clientPassword()), settings.workers(), Handout.RANDOM,
+                TokenUtil::requestToken)) {
+            return run(tokens);
+        }
+    }
+
+    private ContentionResult run(TokenPool tokens) {
+        EndpointStats orders = new EndpointStats("POST /orders");
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        Queue<PlacedOrder> placed = new ConcurrentLinkedQueue<>();
+        long start = System.nanoTime();
+        long deadline = start + settings.duration().toNanos();
+        try (ExecutorService workers = Executors.newFixedThreadPool(settings.workers())) {
+            for (int i = 0; i < settings.workers(); i++) {
+                workers.submit(() -> postOrders(tokens, deadline, orders, statuses, placed));
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+        return verify(elapsed, orders, statusCounts, List.copyOf(placed), tokens);
+    }
+
+    private void postOrders(TokenPool tokens, long deadline, EndpointStats orders, Map<Integer, LongAdder> statuses,
+            Queue<PlacedOrder> placed) {
+        RequestSpecification spec = RequestSpecs.base();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() - deadline < 0) {
+            int client = tokens.nextIndex();
+            Map<Long, Integer> items = pickItems(random);
+            long begin = System.nanoTime();
+            int status = 0;
+            Response response = null;
+            try {
+                response = given(spec)
+                        .header("Authorization", "Bearer " + tokens.token(client))
+                        .contentType(ContentType.JSON)
+                        .accept(ContentType.JSON)
+                        .body(render(items))
+                        .post("/orders");
+                status = response.statusCode();
+            }
+            catch (RuntimeException e) {
+                // counted under status 0
+            }
+            orders.record(System.nanoTime() - begin, status == 201);
+            statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+            if (status == 201) {
+                long id = read(response.asByteArray()).path("id").asLong(-1);
+                placed.add(new PlacedOrder(id, client, items));
+            }
+        }
+    }
+
+    private Map<Long, Integer> pickItems(ThreadLocalRandom random) {
+        List<Long> hot = settings.hotProducts();
+        int count = hot.size() == 1 ? 1 : random.nextInt(1, 3);
+        Map<Long, Integer> items = new HashMap<>();
+        while (items.size() < count) {
+            items.put(hot.get(random.nextInt(hot.size())), random.nextInt(1, settings.maxQuantity() + 1));
+        }
+        return items;
+    }
+
+    private static byte[] render(Map<Long, Integer> items) {
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(items.entrySet());
+        if (entries.size() == 1) {
+            return ONE_ITEM.render(entries.get(0).getKey(), entries.get(0).getValue());
+        }
+        return TWO_ITEMS.render(entries.get(0).getKey(), entries.get(0).getValue(), entries.get(1).getKey(),
+                entries.get(1).getValue());
+    }
+
+    private ContentionResult verify(Duration elapsed, EndpointStats orders, Map<Integer, Long> statuses,
+            List<PlacedOrder> placed, TokenPool tokens) {
+        Set<Long> seen = new HashSet<>();
+        long duplicates = placed.stream().filter(order -> !seen.add(order.id())).count();
+        AtomicLong verified = new AtomicLong();
+        AtomicLong missing = new AtomicLong();
+        AtomicLong mismatched = new AtomicLong();
+        List<String> samples = Collections.synchronizedList(new ArrayList<>());
+        try (ExecutorService verifiers = Executors.newFixedThreadPool(settings.verifyThreads())) {
+            for (PlacedOrder order : placed) {
+                verifiers.submit(() -> {
+                    String problem = check(order, tokens);
+                    if (problem == null) {
+                        verified.incrementAndGet();
+                        return;
+                    }
+                    (problem.startsWith("missing") ? missing : mismatched).incrementAndGet();
+                    if (samples.size() < MAX_SAMPLES) {
+                        samples.add(problem);
+                    }
+                });
+            }
+        }
+        return new ContentionResult(elapsed, orders, statuses, placed.size(), verified.get(), missing.get(),
+                mismatched.get(), duplicates, List.copyOf(samples));
+    }
+
+    /**
+     * Returns what is wrong with the stored order, or null if it is what the client placed.
+     */
+    private String check(PlacedOrder order, TokenPool tokens) {
+        Response response;
+        try {
+            response = given(RequestSpecs.base())
+                    .header("Authorization", "Bearer " + tokens.token(order.client()))
+                    .accept(ContentType.JSON)
+                    .get("/orders/{id}", order.id());
+        }
+        catch (RuntimeException e) {
+            return "mismatched: order " + order.id() + " could not be read: " + e;
+        }
+        if (response.statusCode() == 404) {
+            return "missing: order " + order.id();
+        }
+        if (response.statusCode() != 200) {
+            return "mismatched: order " + order.id() + " answered " + response.statusCode() + " to its client";
+        }
+        // clients may only read their own orders, so a 200 for the placing client's token proves ownership
+        JsonNode stored = read(response.asByteArray());
+        Map<Long, Integer> items = new HashMap<>();
+        for (JsonNode item : stored.path("items")) {
+            items.merge(item.path("productId").asLong(), item.path("quantity").asInt(), Integer::sum);
+        }
+        if (!items.equals(order.items())) {
+            return "mismatched: order " + order.id() + " has items " + items + " instead of " + order.items();
+        }
+        return null;
+    }
+
+    private static JsonNode read(byte[] body) {
+        try {
+            return MAPPER.readTree(body);
+        }
+        catch (IOException e) {
+            return MAPPER.missingNode();
+        }
+    }
+
+    private static Map<String, Object> item(int number) {
+        return Map.of("productId", PayloadTemplate.slot("product" + number),
+                "quantity", PayloadTemplate.slot("quantity" + number));
+    }
+
+    /**
+     * An order answered with 201: its id, the index of the client that placed it and its quantities by product.
+     */
+    private record PlacedOrder(long id, int client, Map<Long, Integer> items) {
+
+    }
+
+}
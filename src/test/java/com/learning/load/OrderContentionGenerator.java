@@ -0,0 +1,45 @@
+package com.learning.load;
+
+import java.io.PrintStream;
+import java.util.List;
+
+import com.learning.RequestSpecs;
+import com.learning.http.PooledHttpClient;
+import com.learning.metrics.LatencyReporting;
+
+/**
+ * Entry point of the order contention scenario. Fails when an order answered with 201 cannot be read back
+ * as it was placed. Against the stand-in, seed the clients first:
+ *
+ * <pre>
+ * mvn spring-boot:run -Dspring-boot.run.profiles=standin -Dspring-boot.run.arguments=--dscommerce.standin.synthetic-clients=50
+ * mvn -Pload test-compile exec:java -Dexec.mainClass=com.learning.load.OrderContentionGenerator -Dcontention.workers=32 -Dcontention.hotProducts=1,2,3
+ * </pre>
+ */
+public class OrderContentionGenerator {
+
+    public static void main(String[] args) {
+        ContentionSettings settings = ContentionSettings.fromSystemProperties();
+        PrintStream out = System.out;
+        out.printf("Order contention against %s: %d workers for %s, %d clients, hot products %s%n",
+                RequestSpecs.baseUri(), settings.workers(), settings.duration(), settings.clients(),
+                settings.hotProducts());
+        LatencyReporting.global().start();
+        ContentionResult result = new OrderContentionDriver(settings).run();
+
+        LoadReport.print(new LoadResult(result.elapsed(), List.of(result.orders())), out);
+        out.printf("Successful orders: %d (%.1f/s)%n", result.orders().getSuccesses(),
+                result.orders().getSuccesses() / (result.elapsed().toNanos() / 1e9));
+        out.println("Responses by status (0 = no response): " + result.statuses());
+        out.printf("Read back: %d of %d placed orders verified, %d missing, %d mismatched, %d duplicate ids%n",
+                result.verified(), result.placed(), result.missing(), result.mismatched(), result.duplicates());
+        result.samples().forEach(sample -> out.println("  " + sample));
+        out.println("Connections: " + PooledHttpClient.shared().stats());
+        LatencyReporting.global().finish();
+        out.println("HDR logs and summary written to " + LatencyReporting.global().getDirectory());
+        if (!result.isConsistent()) {
+            throw new IllegalStateException("Orders were lost or altered under contention");
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.learning.load;
+
+import java.util.List;
+
+import com.learning.RequestSpecs;
+import com.learning.http.PooledHttpClient;
+import com.learning.metrics.LatencyReporting;
+
+/**
+ * Entry point of the pagination crawl benchmark. Start the stand-in with a large catalog to see offsets bite:
+ *
+ * <pre>
+ * mvn spring-boot:run -Dspring-boot.run.profiles=standin -Dspring-boot.run.arguments=--dscommerce.standin.catalog.synthetic-products=100000
+ * mvn -Pload test-compile exec:java -Dexec.mainClass=com.learning.load.PaginationCrawlGenerator -Dcrawl.pageSizes=12,200,2000 -Dcrawl.sorts="none;name;price,desc" -Dcrawl.crawlers=4
+ * </pre>
+ */
+public class PaginationCrawlGenerator {
+
+    public static void main(String[] args) {
+        CrawlSettings settings = CrawlSettings.fromSystemProperties();
+        System.out.printf("Crawling %s/products: page sizes %s, sorts %s, %d crawler(s)%s%n", RequestSpecs.baseUri(),
+                settings.pageSizes(), settings.sorts(), settings.crawlers(),
+                settings.name().isEmpty() ? "" : ", name=" + settings.name());
+        LatencyReporting.global().start();
+        List<CrawlResult> results = new PaginationCrawler(settings).run();
+        CrawlReport.print(results, System.out);
+        System.out.println("Connections: " + PooledHttpClient.shared().stats());
+        LatencyReporting.global().finish();
+        System.out.println("HDR logs and summary written to " + LatencyReporting.global().getDirectory());
+    }
+
+}
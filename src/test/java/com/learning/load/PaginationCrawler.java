@@ -0,0 +1,158 @@
+package com.learning.load;
+
+import static io.restassured.RestAssured.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.RequestSpecs;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Walks every page of {@code GET /products}, for each page size and sort of the settings in turn. Crawlers
+ * of one run start together and each reads the whole catalog, reading {@code totalPages} from their first
+ * page. Page latency is kept per page index range so that pages which get slower the deeper the offset show
+ * up as a trend across the ranges.
+ */
+public class PaginationCrawler {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final CrawlSettings settings;
+
+    public PaginationCrawler(CrawlSettings settings) {
+        this.settings = settings;
+    }
+
+    public List<CrawlResult> run() {
+        List<CrawlResult> results = new ArrayList<>();
+        for (String sort : settings.sorts()) {
+            for (int pageSize : settings.pageSizes()) {
+                results.add(crawl(pageSize, sort));
+            }
+        }
+        return results;
+    }
+
+    private CrawlResult crawl(int pageSize, String sort) {
+        List<Histogram> pageLatencies = new ArrayList<>();
+        for (int i = 0; i < settings.pageBuckets(); i++) {
+            // auto-resizing, so that a page slower than any bound is still recorded
+            pageLatencies.add(new Histogram(3));
+        }
+        AtomicLong pages = new AtomicLong();
+        AtomicLong products = new AtomicLong();
+        AtomicLong bytes = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong failedCrawlers = new AtomicLong();
+        List<Future<Duration>> scans = new ArrayList<>();
+        try (ExecutorService crawlers = Executors.newFixedThreadPool(settings.crawlers())) {
+            for (int i = 0; i < settings.crawlers(); i++) {
+                scans.add(crawlers.submit(() -> scan(pageSize, sort, pageLatencies, pages, products, bytes, errors,
+                        failedCrawlers)));
+            }
+        }
+        List<Duration> scanTimes = new ArrayList<>();
+        for (Future<Duration> scan : scans) {
+            try {
+                scanTimes.add(scan.get());
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while crawling", e);
+            }
+            catch (ExecutionException e) {
+                throw new IllegalStateException("Crawler failed", e.getCause());
+            }
+        }
+        return new CrawlResult(pageSize, sort, settings.crawlers(), scanTimes, pages.get(), products.get(),
+                bytes.get(), errors.get(), failedCrawlers.get(), pageLatencies);
+    }
+
+    /**
+     * Reads every page once. A crawler that cannot read the first page does not know how many pages there
+     * are, so it stops there and counts as failed.
+     */
+    private Duration scan(int pageSize, String sort, List<Histogram> pageLatencies, AtomicLong pages,
+            AtomicLong products, AtomicLong bytes, AtomicLong errors, AtomicLong failedCrawlers) {
+        RequestSpecification spec = RequestSpecs.base();
+        long start = System.nanoTime();
+        int totalPages = 1;
+        for (int page = 0; page < totalPages; page++) {
+            long begin = System.nanoTime();
+            Response response;
+            try {
+                response = request(spec, page, pageSize, sort);
+            }
+            catch (Exception e) {
+                // RestAssured rethrows checked connection errors undeclared
+                errors.incrementAndGet();
+                if (page == 0) {
+                    failedCrawlers.incrementAndGet();
+                    break;
+                }
+                continue;
+            }
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin);
+            byte[] body = response.asByteArray();
+            pages.incrementAndGet();
+            bytes.addAndGet(body.length);
+            if (response.statusCode() != 200) {
+                errors.incrementAndGet();
+                if (page == 0) {
+                    failedCrawlers.incrementAndGet();
+                    break;
+                }
+                continue;
+            }
+            JsonNode json = read(body);
+            if (page == 0) {
+                totalPages = json.path("totalPages").asInt();
+            }
+            products.addAndGet(json.path("numberOfElements").asLong());
+            Histogram bucket = pageLatencies.get((int) ((long) page * pageLatencies.size() / Math.max(1, totalPages)));
+            synchronized (bucket) {
+                bucket.recordValue(micros);
+            }
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private Response request(RequestSpecification spec, int page, int pageSize, String sort) {
+        RequestSpecification request = given(spec)
+                .queryParam("page", page)
+                .queryParam("size", pageSize);
+        if (!settings.name().isEmpty()) {
+            request.queryParam("name", settings.name());
+        }
+        if (!sort.equals(CrawlSettings.UNSORTED)) {
+            request.queryParam("sort", sort);
+        }
+        return request.get("/products");
+    }
+
+    private static JsonNode read(byte[] body) {
+        try {
+            return MAPPER.readTree(body);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.learning.load;
+
+import java.util.function.Function;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * A weighted request shape executed by the load drivers. The name is the endpoint template used to group
+ * results, e.g. {@code GET /products/{id}}.
+ */
+public record Scenario(String name, int weight, int expectedStatus, Function<RequestSpecification, Response> request)
+        implements Weighted {
+
+    public Scenario {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Scenario weight must not be negative: " + name);
+        }
+    }
+
+    public Scenario withWeight(int weight) {
+        return new Scenario(name, weight, expectedStatus, request);
+    }
+
+    public Response execute(RequestSpecification spec) {
+        return request.apply(spec);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.learning.load;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks scenarios proportionally to their weights. Immutable and safe to share between virtual users.
+ */
+public class ScenarioPicker<S extends Weighted> {
+
+    private final List<S> scenarios;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    public ScenarioPicker(List<S> candidates) {
+        scenarios = candidates.stream().filter(s -> s.weight() > 0).toList();
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one scenario must have a positive weight");
+        }
+        cumulativeWeights = new int[scenarios.size()];
+        int sum = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            sum += scenarios.get(i).weight();
+            cumulativeWeights[i] = sum;
+        }
+        totalWeight = sum;
+    }
+
+    public S next(RandomGenerator random) {
+        int ticket = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    public List<S> scenarios() {
+        return scenarios;
+    }
+
+}
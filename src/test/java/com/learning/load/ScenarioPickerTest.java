@@ -0,0 +1,38 @@
+package com.learning.load;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+public class ScenarioPickerTest {
+
+    @Test
+    public void nextShouldPickScenariosProportionallyToWeight() {
+        Scenario heavy = new Scenario("heavy", 3, 200, spec -> null);
+        Scenario light = new Scenario("light", 1, 200, spec -> null);
+        Scenario disabled = new Scenario("disabled", 0, 200, spec -> null);
+        ScenarioPicker<Scenario> picker = new ScenarioPicker<>(List.of(heavy, light, disabled));
+        SplittableRandom random = new SplittableRandom(42);
+
+        Map<String, Integer> picks = new HashMap<>();
+        for (int i = 0; i < 40_000; i++) {
+            picks.merge(picker.next(random).name(), 1, Integer::sum);
+        }
+
+        assertThat(picks).doesNotContainKey("disabled");
+        assertThat(picks.get("heavy") / (double) picks.get("light")).isCloseTo(3.0, within(0.2));
+    }
+
+    @Test
+    public void constructorShouldRejectScenariosWithoutWeight() {
+        Scenario disabled = new Scenario("disabled", 0, 200, spec -> null);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new ScenarioPicker<>(List.of(disabled)));
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.learning.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.learning.RequestSpecs;
+import com.learning.TokenUtil;
+import com.learning.metrics.WarmupDetector;
+import com.learning.recording.Recording;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Warm-up phase run before measuring: the clients send requests round-robin over the endpoints whose latency
+ * is not stable yet, as judged by a {@link WarmupDetector} per endpoint, until every endpoint is stable or
+ * the time limit is reached. Nothing is recorded for the run; callers start their latency reporting once
+ * this returns. A traffic {@link Recording} already started is paused meanwhile, so warm-up requests are not
+ * replayed as traffic, and the tokens cached by {@link TokenUtil} are dropped afterwards so that the grants
+ * of the measured run are recorded for the replay to renew.
+ */
+public class Warmup {
+
+    private final WarmupSettings settings;
+
+    public Warmup(WarmupSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Warms up the given scenarios, or returns an empty result right away when warm-up is disabled.
+     */
+    public WarmupResult run(List<Scenario> scenarios) {
+        if (!settings.enabled() || scenarios.isEmpty()) {
+            return new WarmupResult(Duration.ZERO, List.of());
+        }
+        List<EndpointWarmup> endpoints = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            endpoints.add(new EndpointWarmup(scenario,
+                    new WarmupDetector(settings.batchSize(), settings.windowBatches(), settings.maxCv())));
+        }
+        AtomicInteger next = new AtomicInteger();
+        long start = System.nanoTime();
+        long deadline = start + settings.maxDuration().toNanos();
+        Recording.global().pause();
+        try (ExecutorService clients = Executors.newFixedThreadPool(settings.threads())) {
+            for (int i = 0; i < settings.threads(); i++) {
+                clients.submit(() -> warmUp(endpoints, next, start, deadline));
+            }
+        }
+        finally {
+            Recording.global().resume();
+        }
+        if (Recording.global().isEnabled()) {
+            TokenUtil.clearTokenCache();
+        }
+        List<WarmupResult.Endpoint> results = endpoints.stream()
+                .map(endpoint -> endpoint.result(start))
+                .toList();
+        return new WarmupResult(Duration.ofNanos(System.nanoTime() - start), results);
+    }
+
+    private void warmUp(List<EndpointWarmup> endpoints, AtomicInteger next, long start, long deadline) {
+        RequestSpecification spec = RequestSpecs.base();
+        while (System.nanoTime() - deadline < 0) {
+            EndpointWarmup endpoint = nextPending(endpoints, next);
+            if (endpoint == null) {
+                return;
+            }
+            long begin = System.nanoTime();
+            boolean success;
+            try {
+                Response response = endpoint.scenario.execute(spec);
+                success = response.statusCode() == endpoint.scenario.expectedStatus();
+            }
+            catch (RuntimeException e) {
+                success = false;
+            }
+            long end = System.nanoTime();
+            if (success) {
+                if (endpoint.detector.record((end - begin) / 1000)) {
+                    endpoint.steadyAt.compareAndSet(0, end - start);
+                }
+            }
+            else {
+                endpoint.failures.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * The next endpoint that still needs warming up, or null when all are stable or given up on.
+     */
+    private EndpointWarmup nextPending(List<EndpointWarmup> endpoints, AtomicInteger next) {
+        for (int tries = 0; tries < endpoints.size(); tries++) {
+            EndpointWarmup endpoint = endpoints.get(Math.floorMod(next.getAndIncrement(), endpoints.size()));
+            // an endpoint that keeps failing would never stabilize; leave it to the measured run to report
+            if (!endpoint.detector.isSteady() && endpoint.failures.get() < settings.batchSize()) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    private record EndpointWarmup(Scenario scenario, WarmupDetector detector, AtomicLong steadyAt,
+            AtomicInteger failures) {
+
+        EndpointWarmup(Scenario scenario, WarmupDetector detector) {
+            this(scenario, detector, new AtomicLong(), new AtomicInteger());
+        }
+
+        WarmupResult.Endpoint result(long start) {
+            long steadyNanos = steadyAt.get();
+            Duration duration = Duration.ofNanos(steadyNanos > 0 ? steadyNanos : System.nanoTime() - start);
+            return new WarmupResult.Endpoint(scenario.name(), detector.getSamples(), failures.get(), duration,
+                    detector.isSteady(), detector.getCv());
+        }
+    }
+
+}
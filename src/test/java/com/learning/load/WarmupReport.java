@@ -0,0 +1,27 @@
+package com.learning.load;
+
+import java.io.PrintStream;
+
+/**
+ * Prints how long each endpoint took to reach stable latency during warm-up.
+ */
+public class WarmupReport {
+
+    private static final String HEADER_FORMAT = "%-28s %9s %7s %9s %7s %7s%n";
+    private static final String ROW_FORMAT = "%-28s %9d %7d %9.1f %7.3f %7s%n";
+
+    public static void print(WarmupResult result, PrintStream out) {
+        if (result.endpoints().isEmpty()) {
+            out.println("Warm-up disabled");
+            return;
+        }
+        out.printf("Warm-up took %.1f s%s%n", result.elapsed().toNanos() / 1e9,
+                result.isSteady() ? "" : "; some endpoints never stabilized, expect noisy numbers for them");
+        out.printf(HEADER_FORMAT, "endpoint", "samples", "errors", "warm s", "cv", "steady");
+        for (WarmupResult.Endpoint endpoint : result.endpoints()) {
+            out.printf(ROW_FORMAT, endpoint.name(), endpoint.samples(), endpoint.failures(),
+                    endpoint.duration().toNanos() / 1e9, endpoint.cv(), endpoint.steady() ? "yes" : "no");
+        }
+    }
+
+}
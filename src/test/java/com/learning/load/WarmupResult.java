@@ -0,0 +1,25 @@
+package com.learning.load;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a warm-up phase: its total duration and how each endpoint got there.
+ */
+public record WarmupResult(Duration elapsed, List<Endpoint> endpoints) {
+
+    public boolean isSteady() {
+        return endpoints.stream().allMatch(Endpoint::steady);
+    }
+
+    /**
+     * @param samples  successful warm-up requests
+     * @param failures warm-up requests that failed or returned an unexpected status
+     * @param duration time until latency was stable, or the whole warm-up if it never was
+     * @param cv       coefficient of variation of the last window of batch medians, NaN if no window completed
+     */
+    public record Endpoint(String name, long samples, long failures, Duration duration, boolean steady, double cv) {
+
+    }
+
+}
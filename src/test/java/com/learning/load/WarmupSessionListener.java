@@ -0,0 +1,44 @@
+package com.learning.load;
+
+import java.util.List;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+import com.learning.Fixtures;
+import com.learning.TokenPool.Credentials;
+import com.learning.TokenUtil;
+
+/**
+ * Warms up the server before the RA suites run, so the first test of each class no longer pays for JIT
+ * compilation, connection setup and the first token grants. Runs with the stand-in
+ * ({@code -Ddscommerce.standin=true}) or with {@code -Dwarmup.tests=true}, and only exercises endpoints that
+ * leave the server state alone. Registered through {@code META-INF/services} after the stand-in and before
+ * latency reporting, so warm-up requests are not measured.
+ */
+public class WarmupSessionListener implements LauncherSessionListener {
+
+    private static final int WARMUP_THREADS = 2;
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        if (!Boolean.parseBoolean(System.getProperty("warmup.tests", System.getProperty("dscommerce.standin")))) {
+            return;
+        }
+        List<Scenario> scenarios = List.of(
+                DscommerceScenarios.findAllProducts(),
+                DscommerceScenarios.findProductsByName(),
+                DscommerceScenarios.findProductById(),
+                DscommerceScenarios.getMe(),
+                AuthScenarios.validGrant(List.of(new Credentials(Fixtures.ADMIN_USERNAME, Fixtures.ADMIN_PASSWORD),
+                        new Credentials(Fixtures.CLIENT_USERNAME, Fixtures.CLIENT_PASSWORD))));
+        WarmupResult result = new Warmup(WarmupSettings.fromSystemProperties(WARMUP_THREADS)).run(scenarios);
+        if (!result.endpoints().isEmpty()) {
+            // the suites' tokens are cached from here on
+            TokenUtil.obtainAccessToken(Fixtures.ADMIN_USERNAME, Fixtures.ADMIN_PASSWORD);
+            TokenUtil.obtainAccessToken(Fixtures.CLIENT_USERNAME, Fixtures.CLIENT_PASSWORD);
+        }
+        WarmupReport.print(result, System.out);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.learning.load;
+
+import java.time.Duration;
+
+/**
+ * Settings of the warm-up phase, read from {@code warmup.*} system properties.
+ *
+ * @param enabled       whether to warm up before measuring
+ * @param threads       concurrent warm-up clients
+ * @param batchSize     samples per batch of the steady-state test
+ * @param windowBatches batches the coefficient of variation is computed over
+ * @param maxCv         coefficient of variation at or under which an endpoint is considered warm
+ * @param maxDuration   how long to warm up at most; endpoints still unstable by then are reported as such
+ */
+public record WarmupSettings(boolean enabled, int threads, int batchSize, int windowBatches, double maxCv,
+        Duration maxDuration) {
+
+    public WarmupSettings {
+        if (threads < 1) {
+            throw new IllegalArgumentException("warmup.threads must be at least 1");
+        }
+    }
+
+    /**
+     * @param defaultThreads the concurrency of the run being warmed up for, used unless {@code warmup.threads}
+     *                       is set
+     */
+    public static WarmupSettings fromSystemProperties(int defaultThreads) {
+        return new WarmupSettings(
+                Boolean.parseBoolean(System.getProperty("warmup.enabled", "true")),
+                Integer.getInteger("warmup.threads", defaultThreads),
+                Integer.getInteger("warmup.batchSize", 20),
+                Integer.getInteger("warmup.windowBatches", 5),
+                Double.parseDouble(System.getProperty("warmup.maxCv", "0.1")),
+                Duration.ofSeconds(Long.getLong("warmup.maxSeconds", 60)));
+    }
+
+}
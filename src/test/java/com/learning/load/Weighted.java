@@ -0,0 +1,12 @@
+package com.learning.load;
+
+/**
+ * A named choice with a relative weight, picked by a {@link ScenarioPicker}.
+ */
+public interface Weighted {
+
+    String name();
+
+    int weight();
+
+}
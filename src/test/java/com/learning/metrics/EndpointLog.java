@@ -0,0 +1,103 @@
+package com.learning.metrics;
+
+import java.io.FileNotFoundException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import com.learning.http.Phase;
+
+/**
+ * HDR log of one endpoint. Each sample appends the interval histogram over all responses (untagged), one
+ * per status code (tagged with the code) and one per HTTP client phase (tagged {@code phase:<label>}), and
+ * adds them to the run totals.
+ */
+class EndpointLog {
+
+    private final EndpointRecorder recorder;
+    private final HistogramLogWriter writer;
+    private final Histogram total = new Histogram(EndpointRecorder.SIGNIFICANT_DIGITS);
+    private final Map<Integer, Histogram> totalByStatus = new TreeMap<>();
+    private final Map<Phase, Histogram> totalByPhase = new EnumMap<>(Phase.class);
+
+    EndpointLog(EndpointRecorder recorder, Path file, long baseTimeMillis) {
+        this.recorder = recorder;
+        try {
+            writer = new HistogramLogWriter(file.toFile());
+        }
+        catch (FileNotFoundException e) {
+            throw new UncheckedIOException("Could not create HDR log " + file, e);
+        }
+        writer.outputComment("endpoint: " + recorder.getName() + ", values in microseconds");
+        writer.outputLogFormatVersion();
+        writer.setBaseTime(baseTimeMillis);
+        writer.outputBaseTime(baseTimeMillis);
+        writer.outputLegend();
+    }
+
+    /**
+     * Appends the interval histograms to the log and returns the one over all responses.
+     */
+    Histogram sample() {
+        Histogram interval = recorder.all().getIntervalHistogram();
+        writer.outputIntervalHistogram(interval);
+        total.add(interval);
+        for (int status = 0; status <= EndpointRecorder.maxStatus(); status++) {
+            Recorder statusRecorder = recorder.status(status);
+            if (statusRecorder != null) {
+                Histogram statusInterval = statusRecorder.getIntervalHistogram();
+                statusInterval.setTag(String.valueOf(status));
+                writer.outputIntervalHistogram(statusInterval);
+                totalByStatus.computeIfAbsent(status, s -> new Histogram(EndpointRecorder.SIGNIFICANT_DIGITS))
+                        .add(statusInterval);
+            }
+        }
+        for (Phase phase : Phase.values()) {
+            Recorder phaseRecorder = recorder.phase(phase);
+            if (phaseRecorder != null) {
+                Histogram phaseInterval = phaseRecorder.getIntervalHistogram();
+                phaseInterval.setTag("phase:" + phase.label());
+                writer.outputIntervalHistogram(phaseInterval);
+                totalByPhase.computeIfAbsent(phase, p -> new Histogram(EndpointRecorder.SIGNIFICANT_DIGITS))
+                        .add(phaseInterval);
+            }
+        }
+        return interval;
+    }
+
+    List<LatencySummary> summaries() {
+        List<LatencySummary> summaries = new ArrayList<>();
+        summaries.add(LatencySummary.of(recorder.getName(), LatencySummary.ALL_STATUSES, total));
+        totalByStatus.forEach((status, histogram) ->
+                summaries.add(LatencySummary.of(recorder.getName(), String.valueOf(status), histogram)));
+        return summaries;
+    }
+
+    List<PhaseSummary> phaseSummaries() {
+        List<PhaseSummary> summaries = new ArrayList<>();
+        totalByPhase.forEach((phase, histogram) -> summaries.add(PhaseSummary.of(recorder.getName(), phase,
+                histogram)));
+        return summaries;
+    }
+
+    String name() {
+        return recorder.getName();
+    }
+
+    Histogram total() {
+        return total;
+    }
+
+    void close() {
+        writer.close();
+    }
+
+}
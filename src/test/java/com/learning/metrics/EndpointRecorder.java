@@ -0,0 +1,84 @@
+package com.learning.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.HdrHistogram.Recorder;
+
+import com.learning.http.Phase;
+import com.learning.http.PhaseTimings;
+
+/**
+ * Latency recorders of one endpoint template: one over all responses, one per HTTP status code and one per
+ * {@link Phase} of the HTTP client. Recording does not allocate once the status or phase recorder exists.
+ * Values are in microseconds.
+ */
+public class EndpointRecorder {
+
+    static final int SIGNIFICANT_DIGITS = 3;
+    private static final int MAX_STATUS = 599;
+
+    private final String name;
+    private final Recorder all = new Recorder(SIGNIFICANT_DIGITS);
+    private final AtomicReferenceArray<Recorder> byStatus = new AtomicReferenceArray<>(MAX_STATUS + 1);
+    private final AtomicReferenceArray<Recorder> byPhase = new AtomicReferenceArray<>(Phase.values().length);
+
+    public EndpointRecorder(String name) {
+        this.name = name;
+    }
+
+    public void record(int status, long micros) {
+        all.recordValue(micros);
+        if (status >= 0 && status <= MAX_STATUS) {
+            Recorder recorder = byStatus.get(status);
+            if (recorder == null) {
+                byStatus.compareAndSet(status, null, new Recorder(SIGNIFICANT_DIGITS));
+                recorder = byStatus.get(status);
+            }
+            recorder.recordValue(micros);
+        }
+    }
+
+    /**
+     * Records the phases the call went through; a call on a kept-alive connection has no DNS or connect.
+     */
+    public void recordPhases(PhaseTimings timings) {
+        for (Phase phase : Phase.values()) {
+            if (timings.happened(phase)) {
+                Recorder recorder = byPhase.get(phase.ordinal());
+                if (recorder == null) {
+                    byPhase.compareAndSet(phase.ordinal(), null, new Recorder(SIGNIFICANT_DIGITS));
+                    recorder = byPhase.get(phase.ordinal());
+                }
+                recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(timings.nanos(phase)));
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    Recorder all() {
+        return all;
+    }
+
+    /**
+     * Returns the recorder of the given status code, or {@code null} if no response with it was recorded.
+     */
+    Recorder status(int status) {
+        return byStatus.get(status);
+    }
+
+    /**
+     * Returns the recorder of the given phase, or {@code null} if no call went through it.
+     */
+    Recorder phase(Phase phase) {
+        return byPhase.get(phase.ordinal());
+    }
+
+    static int maxStatus() {
+        return MAX_STATUS;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.learning.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Latency budget of the HTTP calls made by a regular {@code @Test}. On a class, applies to every test method
+ * without its own budget. The test always runs once as usual and its assertions decide its outcome.
+ * <p>
+ * Budgets are opt-in with {@code -Dlatency.budget.enabled=true}, together with latency reporting: the test
+ * body is then also run {@link #warmup()} times unmeasured and {@link #repetitions()} times while its
+ * RestAssured calls are recorded, and the test fails if the given percentile exceeds {@link #maxMillis()}.
+ * Every extra run gets a new test instance with its {@code @BeforeEach} and {@code @AfterEach} methods, but
+ * the server state is not reset, so only put budgets on tests that can run repeatedly against it.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(LatencyBudgetExtension.class)
+public @interface LatencyBudget {
+
+    double percentile() default 99.0;
+
+    double maxMillis();
+
+    int warmup() default 10;
+
+    int repetitions() default 50;
+
+}
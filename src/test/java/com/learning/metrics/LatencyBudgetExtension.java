@@ -0,0 +1,117 @@
+package com.learning.metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+
+/**
+ * Enforces {@link LatencyBudget} when budgets are enabled. Warm-up and all but the last measured repetition
+ * run the test on a new instance between its {@code @BeforeEach} and {@code @AfterEach} methods, like JUnit
+ * would minus extension callbacks; the last one is the regular invocation, so the test outcome is kept.
+ * Warm-up calls are kept out of the {@link LatencyRegistry}.
+ */
+public class LatencyBudgetExtension implements InvocationInterceptor {
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext) throws Throwable {
+        LatencyBudget budget = AnnotationSupport.findAnnotation(extensionContext.getRequiredTestMethod(), LatencyBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(extensionContext.getRequiredTestClass(), LatencyBudget.class))
+                .orElse(null);
+        // measured by the filter latency reporting installs; without it there is nothing to measure
+        if (budget == null || !Boolean.getBoolean("latency.budget.enabled") || !LatencyReporting.global().isStarted()) {
+            invocation.proceed();
+            return;
+        }
+        Class<?> testClass = extensionContext.getRequiredTestClass();
+        Method method = invocationContext.getExecutable();
+        List<Object> arguments = invocationContext.getArguments();
+
+        LatencyCapture.beginWarmup();
+        try {
+            for (int i = 0; i < budget.warmup(); i++) {
+                runWithLifecycle(testClass, method, arguments);
+            }
+        }
+        finally {
+            LatencyCapture.end();
+        }
+        Histogram measured = new Histogram(EndpointRecorder.SIGNIFICANT_DIGITS);
+        LatencyCapture.begin(measured);
+        try {
+            for (int i = 1; i < budget.repetitions(); i++) {
+                runWithLifecycle(testClass, method, arguments);
+            }
+            invocation.proceed();
+        }
+        finally {
+            LatencyCapture.end();
+        }
+        verify(budget, measured);
+    }
+
+    private static void runWithLifecycle(Class<?> testClass, Method method, List<Object> arguments) throws Throwable {
+        Object instance = ReflectionSupport.newInstance(testClass);
+        Throwable failure = null;
+        try {
+            for (Method before : lifecycleMethods(testClass, BeforeEach.class, HierarchyTraversalMode.TOP_DOWN)) {
+                ReflectionSupport.invokeMethod(before, instance);
+            }
+            ReflectionSupport.invokeMethod(method, instance, arguments.toArray());
+        }
+        catch (Throwable t) {
+            failure = t;
+        }
+        for (Method after : lifecycleMethods(testClass, AfterEach.class, HierarchyTraversalMode.BOTTOM_UP)) {
+            try {
+                ReflectionSupport.invokeMethod(after, instance);
+            }
+            catch (Throwable t) {
+                if (failure == null) {
+                    failure = t;
+                }
+                else {
+                    failure.addSuppressed(t);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static List<Method> lifecycleMethods(Class<?> testClass, Class<? extends Annotation> annotation,
+            HierarchyTraversalMode order) {
+        return ReflectionSupport.findMethods(testClass, candidate -> AnnotationSupport.isAnnotated(candidate, annotation),
+                order);
+    }
+
+    private static void verify(LatencyBudget budget, Histogram measured) {
+        if (measured.getTotalCount() == 0) {
+            throw new AssertionError("Latency budget declared but the test made no RestAssured calls");
+        }
+        double actualMillis = measured.getValueAtPercentile(budget.percentile()) / 1000.0;
+        if (actualMillis > budget.maxMillis()) {
+            ByteArrayOutputStream dump = new ByteArrayOutputStream();
+            measured.outputPercentileDistribution(new PrintStream(dump, true, StandardCharsets.UTF_8), 5, 1000.0);
+            throw new AssertionError(String.format(
+                    "p%s latency %.2f ms exceeds budget of %.2f ms over %d calls (warm-up %d). Distribution in ms:%n%s",
+                    budget.percentile(), actualMillis, budget.maxMillis(), measured.getTotalCount(), budget.warmup(),
+                    dump.toString(StandardCharsets.UTF_8)));
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.learning.metrics;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-thread capture of the latencies recorded by {@link LatencyRecordingFilter}, used to measure the calls
+ * made by a single test, or to keep its warm-up calls out of the registry.
+ */
+public class LatencyCapture {
+
+    private static final ThreadLocal<Histogram> ACTIVE = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> WARMUP = new ThreadLocal<>();
+
+    public static void begin(Histogram micros) {
+        ACTIVE.set(micros);
+    }
+
+    /**
+     * Until {@link #end()}, the calls of this thread are neither captured nor recorded into the registry.
+     */
+    public static void beginWarmup() {
+        WARMUP.set(Boolean.TRUE);
+    }
+
+    public static void end() {
+        ACTIVE.remove();
+        WARMUP.remove();
+    }
+
+    static boolean isWarmup() {
+        return WARMUP.get() != null;
+    }
+
+    static void record(long micros) {
+        Histogram histogram = ACTIVE.get();
+        if (histogram != null) {
+            histogram.recordValue(micros);
+        }
+    }
+
+}
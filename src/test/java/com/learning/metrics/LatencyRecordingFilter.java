@@ -0,0 +1,62 @@
+package com.learning.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.learning.http.PhaseTimings;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Times every RestAssured request and records it into a {@link LatencyRegistry} by endpoint template and
+ * status code. Runs after all other filters so that only the HTTP exchange is measured. Requests that fail
+ * without a response are recorded with status 0. When the pooled HTTP client times phases, those of the
+ * exchange are recorded for the endpoint as well, unless the caller collects them around several calls. Warm-up calls of a {@link LatencyCapture} are not recorded.
+ */
+public class LatencyRecordingFilter implements OrderedFilter {
+
+    private final LatencyRegistry registry;
+
+    public LatencyRecordingFilter(LatencyRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+            FilterContext ctx) {
+        if (LatencyCapture.isWarmup()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        PhaseTimings phases = PhaseTimings.isTimed() ? PhaseTimings.begin() : null;
+        // timings begun by the caller may span more calls than this one
+        boolean ownPhases = phases != null && phases.isOutermost();
+        long start = System.nanoTime();
+        int status = 0;
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            status = response.statusCode();
+            return response;
+        }
+        finally {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            if (phases != null) {
+                PhaseTimings.end();
+            }
+            EndpointRecorder recorder = registry.recorder(requestSpec.getMethod(), requestSpec.getUserDefinedPath());
+            recorder.record(status, micros);
+            if (ownPhases) {
+                recorder.recordPhases(phases);
+            }
+            LatencyCapture.record(micros);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.learning.metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Endpoint recorders keyed by HTTP method and path template. Lookups of an already seen method and path
+ * are allocation-free: the raw path as written in the test (e.g. {@code /products?name={productName}}) is
+ * mapped once to the recorder of its canonical endpoint name ({@code GET /products}).
+ */
+public class LatencyRegistry {
+
+    private static final LatencyRegistry GLOBAL = new LatencyRegistry();
+
+    private final Map<String, Map<String, EndpointRecorder>> byMethodAndRawPath = new ConcurrentHashMap<>();
+    private final Map<String, EndpointRecorder> byName = new ConcurrentHashMap<>();
+
+    public static LatencyRegistry global() {
+        return GLOBAL;
+    }
+
+    public void record(String method, String rawPath, int status, long micros) {
+        recorder(method, rawPath).record(status, micros);
+    }
+
+    public EndpointRecorder recorder(String method, String rawPath) {
+        Map<String, EndpointRecorder> byRawPath = byMethodAndRawPath.get(method);
+        if (byRawPath == null) {
+            byRawPath = byMethodAndRawPath.computeIfAbsent(method, m -> new ConcurrentHashMap<>());
+        }
+        EndpointRecorder recorder = byRawPath.get(rawPath);
+        if (recorder == null) {
+            recorder = byRawPath.computeIfAbsent(rawPath, p -> named(endpointName(method, p)));
+        }
+        return recorder;
+    }
+
+    public EndpointRecorder named(String name) {
+        return byName.computeIfAbsent(name, EndpointRecorder::new);
+    }
+
+    public Collection<EndpointRecorder> recorders() {
+        return List.copyOf(byName.values());
+    }
+
+    static String endpointName(String method, String rawPath) {
+        String path = rawPath == null || rawPath.isEmpty() ? "/" : rawPath;
+        int schemeEnd = path.indexOf("://");
+        if (schemeEnd >= 0) {
+            int pathStart = path.indexOf('/', schemeEnd + 3);
+            path = pathStart < 0 ? "/" : path.substring(pathStart);
+        }
+        int queryStart = path.indexOf('?');
+        if (queryStart >= 0) {
+            path = path.substring(0, queryStart);
+        }
+        return method.toUpperCase(Locale.ROOT) + " " + path;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.learning.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyRegistryTest {
+
+    @Test
+    public void recorderShouldGroupRawPathsByEndpointTemplate() {
+        LatencyRegistry registry = new LatencyRegistry();
+
+        EndpointRecorder search = registry.recorder("get", "/products?name={productName}");
+        EndpointRecorder listing = registry.recorder("GET", "/products");
+        EndpointRecorder absolute = registry.recorder("GET", "http://localhost:8080/products");
+
+        assertThat(search.getName()).isEqualTo("GET /products");
+        assertThat(listing).isSameAs(search);
+        assertThat(absolute).isSameAs(search);
+        assertThat(registry.recorder("GET", "/products/{id}").getName()).isEqualTo("GET /products/{id}");
+    }
+
+    @Test
+    public void recordShouldTrackLatencyPerStatusCode() {
+        LatencyRegistry registry = new LatencyRegistry();
+
+        registry.record("GET", "/orders/{id}", 200, 1_500);
+        registry.record("GET", "/orders/{id}", 200, 2_500);
+        registry.record("GET", "/orders/{id}", 404, 700);
+
+        EndpointRecorder recorder = registry.recorder("GET", "/orders/{id}");
+        assertThat(recorder.all().getIntervalHistogram().getTotalCount()).isEqualTo(3);
+        assertThat(recorder.status(200).getIntervalHistogram().getTotalCount()).isEqualTo(2);
+        assertThat(recorder.status(404).getIntervalHistogram().getMaxValue()).isBetween(699L, 701L);
+        assertThat(recorder.status(500)).isNull();
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.learning.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes latency summaries as {@code summary.json} and {@code summary.html} into a report directory, the
+ * HTTP client phases, when there are any, as {@code phases.json}, and the scraped server metrics, when
+ * there are any, as {@code server-metrics.json}.
+ */
+public class LatencyReportWriter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Path directory;
+
+    public LatencyReportWriter(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * The scraped server metrics: the timeline of server intervals and the overhead per endpoint.
+     */
+    public record ServerReport(String url, int failedScrapes, List<ServerOverhead> overhead,
+            List<ServerInterval> timeline) {
+    }
+
+    public void write(List<LatencySummary> summaries) {
+        write(summaries, List.of());
+    }
+
+    /**
+     * Writes the summaries with a table of client-minus-server overhead per endpoint in the HTML.
+     */
+    public void write(List<LatencySummary> summaries, List<ServerOverhead> overhead) {
+        write(summaries, overhead, List.of());
+    }
+
+    /**
+     * Writes the summaries with the overhead and a table of the HTTP client phases per endpoint in the HTML.
+     */
+    public void write(List<LatencySummary> summaries, List<ServerOverhead> overhead, List<PhaseSummary> phases) {
+        try {
+            Files.createDirectories(directory);
+            MAPPER.writeValue(directory.resolve("summary.json").toFile(), summaries);
+            if (!phases.isEmpty()) {
+                MAPPER.writeValue(directory.resolve("phases.json").toFile(), phases);
+            }
+            try (Writer html = Files.newBufferedWriter(directory.resolve("summary.html"), StandardCharsets.UTF_8)) {
+                writeHtml(summaries, overhead, phases, html);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not write latency report to " + directory, e);
+        }
+    }
+
+    public void writeServerMetrics(ServerReport report) {
+        try {
+            Files.createDirectories(directory);
+            MAPPER.writeValue(directory.resolve("server-metrics.json").toFile(), report);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not write server metrics to " + directory, e);
+        }
+    }
+
+    public static List<LatencySummary> read(Path summaryJson) {
+        try {
+            return List.of(MAPPER.readValue(summaryJson.toFile(), LatencySummary[].class));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not read latency report " + summaryJson, e);
+        }
+    }
+
+    private static void writeHtml(List<LatencySummary> summaries, List<ServerOverhead> overhead,
+            List<PhaseSummary> phases, Writer html) throws IOException {
+        html.write("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Latency summary</title>\n");
+        html.write("<style>table{border-collapse:collapse;font-family:monospace}"
+                + "td,th{border:1px solid #999;padding:2px 8px;text-align:right}td:first-child{text-align:left}</style>\n");
+        html.write("</head><body>\n<table>\n<tr><th>endpoint</th><th>status</th><th>count</th><th>mean ms</th>"
+                + "<th>p50 ms</th><th>p90 ms</th><th>p99 ms</th><th>p99.9 ms</th><th>max ms</th></tr>\n");
+        for (LatencySummary s : summaries) {
+            html.write(String.format("<tr><td>%s</td><td>%s</td><td>%d</td><td>%.2f</td><td>%.2f</td><td>%.2f</td>"
+                    + "<td>%.2f</td><td>%.2f</td><td>%.2f</td></tr>%n", escape(s.endpoint()), s.status(), s.count(),
+                    s.mean(), s.p50(), s.p90(), s.p99(), s.p999(), s.max()));
+        }
+        html.write("</table>\n");
+        if (!overhead.isEmpty()) {
+            html.write("<h3>Client minus server</h3>\n<table>\n<tr><th>endpoint</th><th>client count</th>"
+                    + "<th>client mean ms</th><th>server count</th><th>server mean ms</th><th>overhead ms</th></tr>\n");
+            for (ServerOverhead o : overhead) {
+                html.write(String.format("<tr><td>%s</td><td>%d</td><td>%.2f</td><td>%d</td><td>%s</td><td>%s</td>"
+                        + "</tr>%n", escape(o.endpoint()), o.clientCount(), o.clientMean(), o.serverCount(),
+                        format(o.serverMean()), format(o.overhead())));
+            }
+            html.write("</table>\n");
+        }
+        if (!phases.isEmpty()) {
+            html.write("<h3>HTTP client phases</h3>\n<table>\n<tr><th>endpoint</th><th>phase</th><th>count</th>"
+                    + "<th>mean ms</th><th>p50 ms</th><th>p90 ms</th><th>p99 ms</th><th>max ms</th></tr>\n");
+            for (PhaseSummary p : phases) {
+                html.write(String.format("<tr><td>%s</td><td>%s</td><td>%d</td><td>%.3f</td><td>%.3f</td>"
+                        + "<td>%.3f</td><td>%.3f</td><td>%.3f</td></tr>%n", escape(p.endpoint()), p.phase(),
+                        p.count(), p.mean(), p.p50(), p.p90(), p.p99(), p.max()));
+            }
+            html.write("</table>\n");
+        }
+        html.write("</body></html>\n");
+    }
+
+    private static String format(Double millis) {
+        return millis == null ? "-" : String.format("%.2f", millis);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+}
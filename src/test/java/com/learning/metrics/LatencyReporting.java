@@ -0,0 +1,149 @@
+package com.learning.metrics;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+import io.restassured.RestAssured;
+
+/**
+ * Installs the {@link LatencyRecordingFilter} as a global RestAssured filter and writes the results of the
+ * global {@link LatencyRegistry}: one HDR log per endpoint under {@code latency.reportDir} (default
+ * {@code target/latency}), sampled every {@code latency.intervalMillis}, plus a JSON and HTML summary with
+ * the HTTP client phases of every endpoint.
+ * When {@link ServerMetrics} scraping is enabled the server is scraped on the same tick, and the report adds
+ * the server timeline and the client-minus-server overhead per endpoint.
+ */
+public class LatencyReporting {
+
+    private static final LatencyReporting GLOBAL = new LatencyReporting(LatencyRegistry.global(),
+            Path.of(System.getProperty("latency.reportDir", "target/latency")),
+            Long.getLong("latency.intervalMillis", 1000));
+
+    private final LatencyRegistry registry;
+    private final Path directory;
+    private final long intervalMillis;
+    private final Map<EndpointRecorder, EndpointLog> logs = new LinkedHashMap<>();
+    private ScheduledExecutorService sampler;
+    private ServerMetrics serverMetrics;
+    private long startMillis;
+
+    public LatencyReporting(LatencyRegistry registry, Path directory, long intervalMillis) {
+        this.registry = registry;
+        this.directory = directory;
+        this.intervalMillis = intervalMillis;
+    }
+
+    public static LatencyReporting global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Registers the recording filter with RestAssured and starts sampling. Calling it again while started
+     * has no effect.
+     */
+    public synchronized void start() {
+        if (sampler != null) {
+            return;
+        }
+        startMillis = System.currentTimeMillis();
+        serverMetrics = ServerMetrics.fromSystemProperties();
+        if (serverMetrics != null) {
+            serverMetrics.start(startMillis);
+        }
+        RestAssured.filters(new LatencyRecordingFilter(registry));
+        sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "latency-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::sample, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized boolean isStarted() {
+        return sampler != null;
+    }
+
+    /**
+     * Stops sampling, writes the reports and returns the summaries. Returns an empty list if nothing was
+     * recorded, in which case no files are written.
+     */
+    public synchronized List<LatencySummary> finish() {
+        if (sampler == null) {
+            return List.of();
+        }
+        sampler.shutdown();
+        try {
+            sampler.awaitTermination(intervalMillis * 2, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sampler = null;
+        RestAssured.replaceFiltersWith(RestAssured.filters().stream()
+                .filter(filter -> !(filter instanceof LatencyRecordingFilter))
+                .toList());
+        sample();
+
+        List<LatencySummary> summaries = new ArrayList<>();
+        List<PhaseSummary> phases = new ArrayList<>();
+        Map<String, Histogram> totals = new LinkedHashMap<>();
+        synchronized (logs) {
+            logs.values().stream()
+                    .sorted(Comparator.comparing(EndpointLog::name))
+                    .forEach(log -> {
+                        summaries.addAll(log.summaries());
+                        phases.addAll(log.phaseSummaries());
+                        totals.put(log.name(), log.total());
+                        log.close();
+                    });
+            logs.clear();
+        }
+        if (!summaries.isEmpty()) {
+            LatencyReportWriter writer = new LatencyReportWriter(directory);
+            if (serverMetrics == null) {
+                writer.write(summaries, List.of(), phases);
+            }
+            else {
+                List<ServerOverhead> overhead = serverMetrics.overhead(totals);
+                writer.write(summaries, overhead, phases);
+                writer.writeServerMetrics(new LatencyReportWriter.ServerReport(serverMetrics.getUrl().toString(),
+                        serverMetrics.failures(), overhead, serverMetrics.timeline()));
+            }
+        }
+        serverMetrics = null;
+        return summaries;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private void sample() {
+        Map<String, Histogram> intervals = new LinkedHashMap<>();
+        synchronized (logs) {
+            for (EndpointRecorder recorder : registry.recorders()) {
+                intervals.put(recorder.getName(),
+                        logs.computeIfAbsent(recorder, r -> new EndpointLog(r, logFile(r), startMillis)).sample());
+            }
+        }
+        if (serverMetrics != null) {
+            serverMetrics.sample(startMillis, intervals);
+        }
+    }
+
+    private Path logFile(EndpointRecorder recorder) {
+        directory.toFile().mkdirs();
+        String fileName = recorder.getName().replaceAll("[^A-Za-z0-9{}.-]+", "_") + ".hlog";
+        return directory.resolve(fileName);
+    }
+
+}
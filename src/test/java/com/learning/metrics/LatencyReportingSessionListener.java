@@ -0,0 +1,30 @@
+package com.learning.metrics;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+/**
+ * Records the latency of every RestAssured call made during a JUnit run and writes the reports when the
+ * run ends. Registered through {@code META-INF/services}; disable with {@code -Dlatency.enabled=false}.
+ */
+public class LatencyReportingSessionListener implements LauncherSessionListener {
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        if (enabled()) {
+            LatencyReporting.global().start();
+        }
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        if (enabled()) {
+            LatencyReporting.global().finish();
+        }
+    }
+
+    private static boolean enabled() {
+        return Boolean.parseBoolean(System.getProperty("latency.enabled", "true"));
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.learning.metrics;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Percentile summary of one endpoint, over all responses ({@code status = "all"}) or for one status code.
+ * Latencies are in milliseconds.
+ */
+public record LatencySummary(String endpoint, String status, long count, double mean, double p50, double p90,
+        double p99, double p999, double max) {
+
+    public static final String ALL_STATUSES = "all";
+
+    public static LatencySummary of(String endpoint, String status, Histogram micros) {
+        return new LatencySummary(endpoint, status, micros.getTotalCount(), micros.getMean() / 1000.0,
+                millis(micros.getValueAtPercentile(50)), millis(micros.getValueAtPercentile(90)),
+                millis(micros.getValueAtPercentile(99)), millis(micros.getValueAtPercentile(99.9)),
+                millis(micros.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+}
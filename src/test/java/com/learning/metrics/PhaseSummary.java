@@ -0,0 +1,20 @@
+package com.learning.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import com.learning.http.Phase;
+
+/**
+ * Percentile summary of one {@link Phase} of the calls to one endpoint. {@code count} is the number of
+ * calls that went through the phase, e.g. how many opened a new connection. Times are in milliseconds.
+ */
+public record PhaseSummary(String endpoint, String phase, long count, double mean, double p50, double p90,
+        double p99, double max) {
+
+    public static PhaseSummary of(String endpoint, Phase phase, Histogram micros) {
+        return new PhaseSummary(endpoint, phase.label(), micros.getTotalCount(), micros.getMean() / 1000.0,
+                micros.getValueAtPercentile(50) / 1000.0, micros.getValueAtPercentile(90) / 1000.0,
+                micros.getValueAtPercentile(99) / 1000.0, micros.getMaxValue() / 1000.0);
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.learning.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parser for the Prometheus text exposition format as served by {@code /actuator/prometheus}. Comments,
+ * {@code HELP} and {@code TYPE} lines are skipped; each remaining line is one sample with its labels. Only
+ * samples whose metric name starts with one of the given prefixes are kept, so a scrape allocates little
+ * for the families the harness does not look at.
+ */
+public final class PrometheusText {
+
+    public record Sample(String name, Map<String, String> labels, double value) {
+
+        public String label(String name) {
+            return labels.get(name);
+        }
+
+    }
+
+    private PrometheusText() {
+    }
+
+    public static List<Sample> parse(String text, List<String> prefixes) {
+        List<Sample> samples = new ArrayList<>();
+        int lineStart = 0;
+        while (lineStart < text.length()) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = text.length();
+            }
+            if (lineEnd > lineStart && text.charAt(lineStart) != '#' && wanted(text, lineStart, prefixes)) {
+                samples.add(parseLine(text.substring(lineStart, lineEnd).trim()));
+            }
+            lineStart = lineEnd + 1;
+        }
+        return samples;
+    }
+
+    private static boolean wanted(String text, int lineStart, List<String> prefixes) {
+        if (prefixes.isEmpty()) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (text.startsWith(prefix, lineStart)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static Sample parseLine(String line) {
+        int nameEnd = 0;
+        while (nameEnd < line.length() && line.charAt(nameEnd) != '{' && line.charAt(nameEnd) != ' ') {
+            nameEnd++;
+        }
+        String name = line.substring(0, nameEnd);
+        Map<String, String> labels = Collections.emptyMap();
+        int position = nameEnd;
+        if (position < line.length() && line.charAt(position) == '{') {
+            labels = new LinkedHashMap<>();
+            position = parseLabels(line, position + 1, labels);
+        }
+        String rest = line.substring(position).trim();
+        int valueEnd = rest.indexOf(' ');
+        // an optional timestamp may follow the value
+        String value = valueEnd < 0 ? rest : rest.substring(0, valueEnd);
+        return new Sample(name, labels, parseValue(value, line));
+    }
+
+    /**
+     * Reads {@code key="value"} pairs up to the closing brace and returns the position after it.
+     */
+    private static int parseLabels(String line, int position, Map<String, String> labels) {
+        while (position < line.length()) {
+            char c = line.charAt(position);
+            if (c == '}') {
+                return position + 1;
+            }
+            if (c == ',' || c == ' ') {
+                position++;
+                continue;
+            }
+            int equals = line.indexOf('=', position);
+            if (equals < 0 || equals + 1 >= line.length() || line.charAt(equals + 1) != '"') {
+                throw new IllegalArgumentException("Malformed labels in sample: " + line);
+            }
+            String key = line.substring(position, equals).trim();
+            StringBuilder value = new StringBuilder();
+            position = equals + 2;
+            while (position < line.length() && line.charAt(position) != '"') {
+                char v = line.charAt(position);
+                if (v == '\\' && position + 1 < line.length()) {
+                    char escaped = line.charAt(++position);
+                    value.append(escaped == 'n' ? '\n' : escaped);
+                }
+                else {
+                    value.append(v);
+                }
+                position++;
+            }
+            labels.put(key, value.toString());
+            position++;
+        }
+        throw new IllegalArgumentException("Unterminated labels in sample: " + line);
+    }
+
+    private static double parseValue(String value, String line) {
+        return switch (value) {
+            case "+Inf" -> Double.POSITIVE_INFINITY;
+            case "-Inf" -> Double.NEGATIVE_INFINITY;
+            case "NaN" -> Double.NaN;
+            default -> {
+                try {
+                    yield Double.parseDouble(value);
+                }
+                catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Malformed value in sample: " + line, e);
+                }
+            }
+        };
+    }
+
+}
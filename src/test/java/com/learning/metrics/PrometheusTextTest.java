@@ -0,0 +1,71 @@
+package com.learning.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+public class PrometheusTextTest {
+
+    private static final String SCRAPE = """
+            # HELP http_server_requests_seconds
+            # TYPE http_server_requests_seconds summary
+            http_server_requests_seconds_count{exception="none",method="GET",outcome="SUCCESS",status="200",uri="/products/{id}",} 8.0
+            http_server_requests_seconds_sum{exception="none",method="GET",outcome="SUCCESS",status="200",uri="/products/{id}",} 0.04
+            http_server_requests_seconds_count{exception="none",method="GET",outcome="CLIENT_ERROR",status="404",uri="/products/{id}",} 2.0
+            http_server_requests_seconds_sum{exception="none",method="GET",outcome="CLIENT_ERROR",status="404",uri="/products/{id}",} 0.01
+            jvm_gc_pause_seconds_count{action="end of minor GC",cause="G1 Evacuation Pause",gc="G1 Young Generation",} 3.0
+            jvm_gc_pause_seconds_sum{action="end of minor GC",cause="G1 Evacuation Pause",gc="G1 Young Generation",} 0.012
+            tomcat_threads_busy_threads{name="http-nio-8080",} 4.0
+            jvm_memory_used_bytes{area="heap",id="G1 Eden Space",} 1.2E7
+            jvm_memory_used_bytes{area="nonheap",id="Metaspace",} 3.0E7
+            jvm_buffer_count_buffers{id="direct",} 10.0
+            """;
+
+    @Test
+    public void parseShouldReadLabelsValuesAndEscapes() {
+        List<PrometheusText.Sample> samples = PrometheusText.parse(
+                "a{path=\"C:\\\\tmp\",quote=\"say \\\"hi\\\"\"} 1.5 1700000000000\nb +Inf\nc NaN\n", List.of());
+
+        assertThat(samples).extracting(PrometheusText.Sample::name).containsExactly("a", "b", "c");
+        assertThat(samples.get(0).labels()).isEqualTo(Map.of("path", "C:\\tmp", "quote", "say \"hi\""));
+        assertThat(samples.get(0).value()).isEqualTo(1.5);
+        assertThat(samples.get(1).value()).isInfinite();
+        assertThat(samples.get(2).value()).isNaN();
+    }
+
+    @Test
+    public void parseShouldKeepOnlyWantedFamilies() {
+        List<PrometheusText.Sample> samples = PrometheusText.parse(SCRAPE, ServerSnapshot.PREFIXES);
+
+        assertThat(samples).hasSize(9).noneMatch(sample -> sample.name().startsWith("jvm_buffer"));
+    }
+
+    @Test
+    public void intervalShouldPairClientAndServerTimesOfEndpoint() {
+        ServerSnapshot before = ServerSnapshot.of(0, List.of());
+        ServerSnapshot after = ServerSnapshot.of(1000, PrometheusText.parse(SCRAPE, ServerSnapshot.PREFIXES));
+        Histogram client = new Histogram(3);
+        for (int i = 0; i < 10; i++) {
+            client.recordValue(8_000);
+        }
+
+        ServerInterval interval = ServerMetrics.interval(before, after, Map.of("GET /products/{id}", client));
+
+        ServerInterval.Endpoint endpoint = interval.endpoints().get("GET /products/{id}");
+        assertThat(endpoint.serverCount()).isEqualTo(10);
+        assertThat(endpoint.serverMean()).isCloseTo(5.0, within(1e-9));
+        assertThat(endpoint.clientMean()).isCloseTo(8.0, within(0.01));
+        assertThat(interval.gcPauses()).isEqualTo(3);
+        assertThat(interval.gcPauseMillis()).isCloseTo(12.0, within(1e-9));
+        assertThat(interval.busyThreads()).isEqualTo(4.0);
+        assertThat(interval.poolPending()).isNull();
+        assertThat(interval.poolAcquireMillis()).isNull();
+        assertThat(interval.heapUsedBytes()).isEqualTo(1.2E7);
+        assertThat(interval.liveThreads()).isNull();
+    }
+
+}
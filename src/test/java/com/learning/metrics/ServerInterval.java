@@ -0,0 +1,22 @@
+package com.learning.metrics;
+
+import java.util.Map;
+
+/**
+ * Server-side metrics over one latency sampling interval, next to the client latencies of the same
+ * interval. {@code offsetMillis} is the end of the interval relative to the start of the run, the time base
+ * of the HDR logs. Times are in milliseconds; gauges are read at the end of the interval, and values the
+ * server does not publish are {@code null}.
+ */
+public record ServerInterval(long offsetMillis, double gcPauses, double gcPauseMillis, Double busyThreads,
+        Double currentThreads, Double poolActive, Double poolPending, Double poolAcquireMillis,
+        Double executorQueued, Double processCpu, Double heapUsedBytes, Double liveDataBytes, Double liveThreads,
+        Double loadedClasses, Double openConnections, Map<String, Endpoint> endpoints) {
+
+    /**
+     * Requests completed during the interval and their mean latency as seen by the client and the server.
+     */
+    public record Endpoint(long clientCount, Double clientMean, long serverCount, Double serverMean) {
+    }
+
+}
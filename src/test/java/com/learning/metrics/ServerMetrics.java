@@ -0,0 +1,163 @@
+package com.learning.metrics;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import com.learning.RequestSpecs;
+
+/**
+ * Scrapes the Prometheus endpoint of the server under test on every latency sample, so each server interval
+ * covers the same wall-clock window as the client interval histograms. Enabled with {@code metrics.url}, or
+ * with {@code metrics.scrape=true} for {@code /actuator/prometheus} under the base URI; test runs against
+ * the in-process stand-in scrape it by default. The scrape uses its own HTTP client, outside the RestAssured
+ * filters and connection pool, and a failed scrape only makes the next interval longer.
+ */
+public class ServerMetrics {
+
+    private final URI url;
+    private final HttpClient client;
+    private final Duration timeout;
+    private final List<ServerInterval> timeline = new ArrayList<>();
+    private final Map<String, Histogram> clientSincePrevious = new LinkedHashMap<>();
+    private ServerSnapshot first;
+    private ServerSnapshot previous;
+    private int failures;
+
+    public ServerMetrics(URI url, Duration timeout) {
+        this.url = url;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    /**
+     * Returns the scraper configured by system properties, or {@code null} when scraping is disabled.
+     */
+    public static ServerMetrics fromSystemProperties() {
+        String url = System.getProperty("metrics.url");
+        boolean scrape = Boolean.parseBoolean(System.getProperty("metrics.scrape",
+                String.valueOf(url != null || Boolean.getBoolean("dscommerce.standin"))));
+        if (!scrape) {
+            return null;
+        }
+        return new ServerMetrics(URI.create(url != null ? url : RequestSpecs.baseUri() + "/actuator/prometheus"),
+                Duration.ofMillis(Long.getLong("metrics.timeoutMillis", 2000)));
+    }
+
+    public URI getUrl() {
+        return url;
+    }
+
+    /**
+     * Takes the snapshot the first interval and the run totals are measured from.
+     */
+    public void start(long startMillis) {
+        first = scrape(startMillis);
+        previous = first;
+    }
+
+    /**
+     * Scrapes the server and appends the interval since the previous successful scrape, paired with the
+     * client intervals sampled at the same moment, keyed by endpoint name.
+     */
+    void sample(long startMillis, Map<String, Histogram> clientIntervals) {
+        // after a failed scrape the next server interval is longer, so the client intervals are merged to match
+        clientIntervals.forEach((endpoint, micros) -> clientSincePrevious
+                .computeIfAbsent(endpoint, e -> new Histogram(EndpointRecorder.SIGNIFICANT_DIGITS)).add(micros));
+        ServerSnapshot current = scrape(startMillis);
+        if (current == null) {
+            return;
+        }
+        if (first == null) {
+            first = current;
+        }
+        else {
+            timeline.add(interval(previous, current, clientSincePrevious));
+        }
+        previous = current;
+        clientSincePrevious.clear();
+    }
+
+    /**
+     * Scrapes the server for its own metrics only, with no client latencies to pair them with. Returns the
+     * interval since the previous successful scrape, or {@code null} when this scrape failed.
+     */
+    public ServerInterval poll(long startMillis) {
+        int intervals = timeline.size();
+        sample(startMillis, Map.of());
+        return timeline.size() > intervals ? timeline.get(timeline.size() - 1) : null;
+    }
+
+    /**
+     * Client-minus-server mean latency per endpoint over the whole run, from the client totals and the
+     * server counters between the first and the last scrape.
+     */
+    List<ServerOverhead> overhead(Map<String, Histogram> clientTotals) {
+        List<ServerOverhead> overhead = new ArrayList<>();
+        if (first == null || previous == null) {
+            return overhead;
+        }
+        clientTotals.forEach((endpoint, micros) -> overhead.add(ServerOverhead.of(endpoint, micros.getTotalCount(),
+                micros.getMean() / 1000.0, previous.request(endpoint).minus(first.request(endpoint)))));
+        return overhead;
+    }
+
+    List<ServerInterval> timeline() {
+        return timeline;
+    }
+
+    int failures() {
+        return failures;
+    }
+
+    static ServerInterval interval(ServerSnapshot from, ServerSnapshot to, Map<String, Histogram> clientIntervals) {
+        Map<String, ServerInterval.Endpoint> endpoints = new LinkedHashMap<>();
+        clientIntervals.forEach((endpoint, micros) -> {
+            ServerSnapshot.Timer server = to.request(endpoint).minus(from.request(endpoint));
+            long clientCount = micros.getTotalCount();
+            if (clientCount > 0 || server.count() > 0) {
+                endpoints.put(endpoint, new ServerInterval.Endpoint(clientCount,
+                        clientCount == 0 ? null : micros.getMean() / 1000.0, Math.round(server.count()),
+                        server.meanMillis()));
+            }
+        });
+        ServerSnapshot.Timer gc = to.gcPauses().minus(from.gcPauses());
+        return new ServerInterval(to.atMillis(), gc.count(), gc.seconds() * 1000, to.busyThreads(),
+                to.currentThreads(), to.poolActive(), to.poolPending(),
+                to.poolAcquire().minus(from.poolAcquire()).meanMillis(), to.executorQueued(), to.processCpu(),
+                to.heapUsedBytes(), to.liveDataBytes(), to.liveThreads(), to.loadedClasses(), to.openConnections(),
+                endpoints);
+    }
+
+    private ServerSnapshot scrape(long startMillis) {
+        HttpRequest request = HttpRequest.newBuilder(url).timeout(timeout).GET().build();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            long offsetMillis = System.currentTimeMillis() - startMillis;
+            if (response.statusCode() != 200) {
+                failures++;
+                return null;
+            }
+            return ServerSnapshot.of(offsetMillis, PrometheusText.parse(response.body(), ServerSnapshot.PREFIXES));
+        }
+        catch (IOException | IllegalArgumentException e) {
+            failures++;
+            return null;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures++;
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.learning.metrics;
+
+/**
+ * Client latency of an endpoint over a run against the time the server spent on the same requests, in
+ * milliseconds. The overhead is what the server timer does not see: network, connection handling, the
+ * container's queueing before the request reaches Spring MVC, and the client itself.
+ */
+public record ServerOverhead(String endpoint, long clientCount, double clientMean, long serverCount,
+        Double serverMean, Double overhead) {
+
+    static ServerOverhead of(String endpoint, long clientCount, double clientMean, ServerSnapshot.Timer server) {
+        Double serverMean = server.meanMillis();
+        return new ServerOverhead(endpoint, clientCount, clientMean, Math.round(server.count()), serverMean,
+                serverMean == null ? null : clientMean - serverMean);
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.learning.metrics;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The server-side metrics of one scrape that the harness correlates with its client latencies. Counters
+ * (requests, GC pauses, pool acquisitions) are cumulative and only meaningful as the difference of two
+ * snapshots; gauges are {@code null} when the server does not publish them, e.g. the Hikari pool metrics
+ * of the stand-in, which has no database. The JVM gauges (heap, live data after the last major GC, threads,
+ * classes) and open connections are what a soak run watches for leaks.
+ */
+record ServerSnapshot(long atMillis, Map<String, Timer> requests, Timer gcPauses, Double busyThreads,
+        Double currentThreads, Double maxThreads, Double poolActive, Double poolPending, Timer poolAcquire,
+        Double executorQueued, Double processCpu, Double heapUsedBytes, Double liveDataBytes, Double liveThreads,
+        Double loadedClasses, Double openConnections) {
+
+    static final List<String> PREFIXES = List.of("http_server_requests_seconds_", "jvm_gc_pause_seconds_",
+            "tomcat_threads_", "hikaricp_connections", "executor_queued_tasks", "process_cpu_usage",
+            "jvm_memory_used_bytes", "jvm_gc_live_data_size_bytes", "jvm_threads_live_threads",
+            "jvm_classes_loaded_classes", "tomcat_connections_current_connections");
+
+    /**
+     * Cumulative count and total seconds of a Micrometer timer, summed over the label combinations that
+     * belong together.
+     */
+    record Timer(double count, double seconds) {
+
+        static final Timer NONE = new Timer(0, 0);
+
+        Timer plus(Timer other) {
+            return new Timer(count + other.count, seconds + other.seconds);
+        }
+
+        Timer minus(Timer earlier) {
+            return new Timer(count - earlier.count, seconds - earlier.seconds);
+        }
+
+        Double meanMillis() {
+            return count <= 0 ? null : seconds * 1000 / count;
+        }
+
+    }
+
+    static ServerSnapshot of(long atMillis, List<PrometheusText.Sample> samples) {
+        Map<String, double[]> requests = new HashMap<>();
+        double[] gc = new double[2];
+        double[] acquire = new double[2];
+        Gauges gauges = new Gauges();
+        for (PrometheusText.Sample sample : samples) {
+            switch (sample.name()) {
+                case "http_server_requests_seconds_count" -> requests.computeIfAbsent(endpoint(sample),
+                        e -> new double[2])[0] += sample.value();
+                case "http_server_requests_seconds_sum" -> requests.computeIfAbsent(endpoint(sample),
+                        e -> new double[2])[1] += sample.value();
+                case "jvm_gc_pause_seconds_count" -> gc[0] += sample.value();
+                case "jvm_gc_pause_seconds_sum" -> gc[1] += sample.value();
+                case "hikaricp_connections_acquire_seconds_count" -> acquire[0] += sample.value();
+                case "hikaricp_connections_acquire_seconds_sum" -> acquire[1] += sample.value();
+                case "tomcat_threads_busy_threads" -> gauges.busyThreads = add(gauges.busyThreads, sample);
+                case "tomcat_threads_current_threads" -> gauges.currentThreads = add(gauges.currentThreads, sample);
+                case "tomcat_threads_config_max_threads" -> gauges.maxThreads = add(gauges.maxThreads, sample);
+                case "hikaricp_connections_active" -> gauges.poolActive = add(gauges.poolActive, sample);
+                case "hikaricp_connections_pending" -> gauges.poolPending = add(gauges.poolPending, sample);
+                case "executor_queued_tasks" -> gauges.executorQueued = add(gauges.executorQueued, sample);
+                case "process_cpu_usage" -> gauges.processCpu = sample.value();
+                case "jvm_memory_used_bytes" -> {
+                    if ("heap".equals(sample.label("area"))) {
+                        gauges.heapUsed = add(gauges.heapUsed, sample);
+                    }
+                }
+                case "jvm_gc_live_data_size_bytes" -> gauges.liveData = sample.value();
+                case "jvm_threads_live_threads" -> gauges.liveThreads = sample.value();
+                case "jvm_classes_loaded_classes" -> gauges.loadedClasses = sample.value();
+                case "tomcat_connections_current_connections" -> gauges.openConnections =
+                        add(gauges.openConnections, sample);
+                default -> {
+                }
+            }
+        }
+        Map<String, Timer> timers = new HashMap<>();
+        requests.forEach((endpoint, timer) -> timers.put(endpoint, new Timer(timer[0], timer[1])));
+        return new ServerSnapshot(atMillis, timers, new Timer(gc[0], gc[1]), gauges.busyThreads,
+                gauges.currentThreads, gauges.maxThreads, gauges.poolActive, gauges.poolPending,
+                new Timer(acquire[0], acquire[1]), gauges.executorQueued, gauges.processCpu, gauges.heapUsed,
+                gauges.liveData, gauges.liveThreads, gauges.loadedClasses, gauges.openConnections);
+    }
+
+    /**
+     * The server timer of an endpoint, named like the client side: method and URI template.
+     */
+    Timer request(String endpoint) {
+        return requests.getOrDefault(endpoint, Timer.NONE);
+    }
+
+    private static String endpoint(PrometheusText.Sample sample) {
+        return sample.label("method") + " " + sample.label("uri");
+    }
+
+    private static Double add(Double sum, PrometheusText.Sample sample) {
+        return sum == null ? sample.value() : sum + sample.value();
+    }
+
+    private static class Gauges {
+        Double busyThreads;
+        Double currentThreads;
+        Double maxThreads;
+        Double poolActive;
+        Double poolPending;
+        Double executorQueued;
+        Double processCpu;
+        Double heapUsed;
+        Double liveData;
+        Double liveThreads;
+        Double loadedClasses;
+        Double openConnections;
+    }
+
+}
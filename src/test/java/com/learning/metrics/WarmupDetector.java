@@ -0,0 +1,94 @@
+package com.learning.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Steady-state test for the latency of one endpoint. Samples are grouped into batches and the median of
+ * each batch is kept; latency is considered stable once the coefficient of variation (standard deviation
+ * over mean) of the last {@code windowBatches} medians drops to {@code maxCv} and the oldest and newest of
+ * them differ by no more than that fraction of their mean, since latency that is still falling slowly can
+ * vary little within one window. Batch medians rather than raw samples make the test insensitive to the
+ * long tail that latencies always have, while a JIT compilation, cold cache or new connection still moves a
+ * whole batch. Once steady, the detector stays steady. Safe to use from several threads.
+ */
+public class WarmupDetector {
+
+    private final int batchSize;
+    private final double maxCv;
+    private final long[] batch;
+    private final double[] medians;
+    private int batchFill;
+    private long batches;
+    private long samples;
+    private double cv = Double.NaN;
+    private boolean steady;
+
+    public WarmupDetector(int batchSize, int windowBatches, double maxCv) {
+        if (batchSize < 1 || windowBatches < 2) {
+            throw new IllegalArgumentException("Need batches of at least 1 sample and a window of at least 2 batches");
+        }
+        this.batchSize = batchSize;
+        this.maxCv = maxCv;
+        this.batch = new long[batchSize];
+        this.medians = new double[windowBatches];
+    }
+
+    /**
+     * Adds a latency sample and returns whether latency is stable.
+     */
+    public synchronized boolean record(long micros) {
+        samples++;
+        if (steady) {
+            return true;
+        }
+        batch[batchFill++] = micros;
+        if (batchFill < batchSize) {
+            return false;
+        }
+        Arrays.sort(batch);
+        medians[(int) (batches++ % medians.length)] = batchSize % 2 == 1
+                ? batch[batchSize / 2]
+                : (batch[batchSize / 2 - 1] + batch[batchSize / 2]) / 2.0;
+        batchFill = 0;
+        if (batches >= medians.length) {
+            cv = coefficientOfVariation(medians);
+            steady = cv <= maxCv && drift() <= maxCv;
+        }
+        return steady;
+    }
+
+    public synchronized boolean isSteady() {
+        return steady;
+    }
+
+    public synchronized long getSamples() {
+        return samples;
+    }
+
+    /**
+     * The coefficient of variation of the last full window, or NaN before the first window is complete.
+     */
+    public synchronized double getCv() {
+        return cv;
+    }
+
+    /**
+     * Difference between the newest and oldest median of the window, relative to the window mean.
+     */
+    private double drift() {
+        double newest = medians[(int) ((batches - 1) % medians.length)];
+        double oldest = medians[(int) (batches % medians.length)];
+        double mean = Arrays.stream(medians).average().orElse(0);
+        return mean == 0 ? 0 : Math.abs(newest - oldest) / mean;
+    }
+
+    private static double coefficientOfVariation(double[] values) {
+        double mean = Arrays.stream(values).average().orElse(0);
+        if (mean == 0) {
+            return 0;
+        }
+        double variance = Arrays.stream(values).map(value -> (value - mean) * (value - mean)).sum() / values.length;
+        return Math.sqrt(variance) / mean;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.learning.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class WarmupDetectorTest {
+
+    @Test
+    public void detectorShouldBeSteadyAfterOneWindowOfStableLatency() {
+        WarmupDetector detector = new WarmupDetector(10, 5, 0.1);
+
+        for (int i = 0; i < 49; i++) {
+            assertThat(detector.record(1_000)).isFalse();
+        }
+
+        assertThat(detector.record(1_000)).isTrue();
+        assertThat(detector.getCv()).isZero();
+    }
+
+    @Test
+    public void detectorShouldWaitUntilLatencyStopsFalling() {
+        WarmupDetector detector = new WarmupDetector(10, 5, 0.1);
+        Random random = new Random(42);
+
+        // cold: latency falls from 50 ms towards 5 ms over 200 samples
+        for (int i = 0; i < 200; i++) {
+            detector.record(5_000 + 45_000L * (200 - i) / 200);
+        }
+        assertThat(detector.isSteady()).isFalse();
+
+        long warmSamples = 0;
+        while (!detector.isSteady() && warmSamples < 1_000) {
+            detector.record(5_000 + random.nextInt(500));
+            warmSamples++;
+        }
+        assertThat(detector.isSteady()).isTrue();
+        assertThat(warmSamples).isLessThanOrEqualTo(50);
+    }
+
+    @Test
+    public void detectorShouldIgnoreOccasionalOutliers() {
+        WarmupDetector detector = new WarmupDetector(20, 5, 0.1);
+
+        for (int i = 0; i < 100; i++) {
+            // a 200 ms pause every 10th request barely moves the batch medians
+            detector.record(i % 10 == 0 ? 200_000 : 2_000 + i % 7 * 10);
+        }
+
+        assertThat(detector.isSteady()).isTrue();
+    }
+
+}
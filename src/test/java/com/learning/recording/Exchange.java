@@ -0,0 +1,29 @@
+package com.learning.recording;
+
+import java.util.List;
+
+/**
+ * One recorded HTTP exchange: what was sent, when and from which thread, and how the server answered.
+ * Response bodies are not kept, except for the token a password grant issued, which replays need to map
+ * recorded tokens to fresh ones.
+ *
+ * @param offsetNanos    start of the request, relative to the start of the recording
+ * @param lane           the recording thread, numbered from 0; replays send a lane's requests in order
+ * @param method         HTTP method
+ * @param template       endpoint template, e.g. {@code /products/{id}}
+ * @param uri            path and raw query as sent
+ * @param contentType    request content type, empty if none
+ * @param headers        request headers other than the content type
+ * @param body           request body, empty if none
+ * @param status         response status, 0 if the request failed without a response
+ * @param durationMicros time until the response was received
+ * @param issuedToken    the access token of a successful {@code /oauth2/token} response, empty otherwise
+ */
+public record Exchange(long offsetNanos, int lane, String method, String template, String uri, String contentType,
+        List<Header> headers, byte[] body, int status, long durationMicros, String issuedToken) {
+
+    public record Header(String name, String value) {
+
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.learning.recording;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import io.restassured.RestAssured;
+
+/**
+ * Records the RestAssured traffic of a test run or load run into the file named by the
+ * {@code recording.file} system property. Does nothing when the property is not set.
+ */
+public class Recording {
+
+    private static final Recording GLOBAL = new Recording(System.getProperty("recording.file"));
+
+    private final Path file;
+    private RecordingWriter writer;
+    private RecordingFilter filter;
+
+    public Recording(String file) {
+        this.file = file == null || file.isBlank() ? null : Path.of(file);
+    }
+
+    public static Recording global() {
+        return GLOBAL;
+    }
+
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Registers the recording filter with RestAssured. Calling it again while started has no effect.
+     */
+    public synchronized void start() {
+        if (file == null || writer != null) {
+            return;
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Cannot create " + file.getParent(), e);
+        }
+        writer = new RecordingWriter(file);
+        filter = new RecordingFilter(writer);
+        RestAssured.filters(filter);
+    }
+
+    /**
+     * Stops recording until {@link #resume()}, e.g. while warming up. Does nothing when not started.
+     */
+    public synchronized void pause() {
+        if (filter != null) {
+            filter.setPaused(true);
+        }
+    }
+
+    public synchronized void resume() {
+        if (filter != null) {
+            filter.setPaused(false);
+        }
+    }
+
+    /**
+     * Removes the filter and closes the file. Returns the number of recorded exchanges.
+     */
+    public synchronized long finish() {
+        if (writer == null) {
+            return 0;
+        }
+        RecordingFilter installed = filter;
+        RestAssured.replaceFiltersWith(RestAssured.filters().stream()
+                .filter(candidate -> candidate != installed)
+                .toList());
+        writer.close();
+        long exchanges = writer.getExchanges();
+        writer = null;
+        filter = null;
+        return exchanges;
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.learning.recording;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.RequestSpecs;
+
+import io.restassured.authentication.PreemptiveBasicAuthScheme;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Records every RestAssured exchange into a {@link RecordingWriter}. Each calling thread gets its own lane so
+ * a replay can reproduce the original concurrency. Only requests to the API under test, at
+ * {@link RequestSpecs#baseUri()}, are recorded. Runs just outside the latency filter. Nothing is
+ * recorded while {@linkplain #setPaused(boolean) paused}, e.g. during a warm-up.
+ */
+public class RecordingFilter implements OrderedFilter {
+
+    private static final String TOKEN_PATH = "/oauth2/token";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final RecordingWriter writer;
+    private final long startNanos = System.nanoTime();
+    private final AtomicInteger nextLane = new AtomicInteger();
+    private final ThreadLocal<Integer> lane = ThreadLocal.withInitial(nextLane::getAndIncrement);
+    private volatile boolean paused;
+
+    public RecordingFilter(RecordingWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+            FilterContext ctx) {
+        if (paused || !requestSpec.getURI().startsWith(RequestSpecs.baseUri())) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        long start = System.nanoTime();
+        int status = 0;
+        String issuedToken = "";
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            status = response.statusCode();
+            if (status == 200 && requestSpec.getUserDefinedPath().equals(TOKEN_PATH)) {
+                issuedToken = accessToken(response);
+            }
+            return response;
+        }
+        finally {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            writer.append(new Exchange(start - startNanos, lane.get(), requestSpec.getMethod(),
+                    requestSpec.getUserDefinedPath(), pathAndQuery(requestSpec.getURI()),
+                    nullToEmpty(requestSpec.getContentType()), headers(requestSpec), body(requestSpec), status,
+                    micros, issuedToken));
+        }
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+
+    private static String pathAndQuery(String uri) {
+        URI parsed = URI.create(uri);
+        return parsed.getRawQuery() == null ? parsed.getRawPath() : parsed.getRawPath() + "?" + parsed.getRawQuery();
+    }
+
+    private static List<Exchange.Header> headers(FilterableRequestSpecification requestSpec) {
+        List<Exchange.Header> headers = new ArrayList<>();
+        for (Header header : requestSpec.getHeaders()) {
+            if (!header.getName().equalsIgnoreCase("Content-Type")) {
+                headers.add(new Exchange.Header(header.getName(), header.getValue()));
+            }
+        }
+        // preemptive basic auth is applied after the filters, so it is not among the headers yet
+        if (requestSpec.getAuthenticationScheme() instanceof PreemptiveBasicAuthScheme basic) {
+            headers.add(new Exchange.Header("Authorization", "Basic " + basic.generateAuthToken()));
+        }
+        return headers;
+    }
+
+    private static byte[] body(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            Map<String, String> form = requestSpec.getFormParams();
+            return form.isEmpty() ? new byte[0] : urlEncode(form).getBytes(StandardCharsets.UTF_8);
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (body instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            return MAPPER.writeValueAsBytes(body);
+        }
+        catch (IOException e) {
+            throw new IllegalArgumentException("Cannot record body " + body, e);
+        }
+    }
+
+    private static String urlEncode(Map<String, String> form) {
+        return form.entrySet().stream()
+                .map(param -> URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(param.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String accessToken(Response response) {
+        try {
+            return MAPPER.readTree(response.asByteArray()).path("access_token").asText("");
+        }
+        catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.learning.recording;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a recording written by {@link RecordingWriter}. Stops at the end of the file or at the first record
+ * whose length was not written yet, i.e. one that was still being appended.
+ */
+public class RecordingReader {
+
+    public static List<Exchange> readAll(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Recordings over 2 GB are not supported: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < RecordingWriter.HEADER_BYTES || buffer.getInt() != RecordingWriter.MAGIC) {
+                throw new IllegalArgumentException("Not a recording: " + file);
+            }
+            int version = buffer.getInt();
+            if (version != RecordingWriter.VERSION) {
+                throw new IllegalArgumentException("Unsupported recording version " + version + ": " + file);
+            }
+            List<Exchange> exchanges = new ArrayList<>();
+            while (buffer.remaining() >= 4) {
+                int length = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    break;
+                }
+                exchanges.add(read(buffer));
+            }
+            return exchanges;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Cannot read recording " + file, e);
+        }
+    }
+
+    private static Exchange read(MappedByteBuffer buffer) {
+        long offsetNanos = buffer.getLong();
+        int lane = buffer.getInt();
+        int status = buffer.getInt();
+        long durationMicros = buffer.getLong();
+        String method = string(buffer);
+        String template = string(buffer);
+        String uri = string(buffer);
+        String contentType = string(buffer);
+        String issuedToken = string(buffer);
+        int headerCount = buffer.getInt();
+        List<Exchange.Header> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(new Exchange.Header(string(buffer), string(buffer)));
+        }
+        byte[] body = new byte[buffer.getInt()];
+        buffer.get(body);
+        return new Exchange(offsetNanos, lane, method, template, uri, contentType, List.copyOf(headers), body, status,
+                durationMicros, issuedToken);
+    }
+
+    private static String string(MappedByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.learning.recording;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+/**
+ * Records every RestAssured exchange of a JUnit run when {@code -Drecording.file} is set. Registered through
+ * {@code META-INF/services}. The requests of the suites' warm-up are left out.
+ */
+public class RecordingSessionListener implements LauncherSessionListener {
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        Recording.global().start();
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        long exchanges = Recording.global().finish();
+        if (Recording.global().isEnabled()) {
+            System.out.printf("Recorded %d exchanges to %s%n", exchanges, Recording.global().getFile());
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.learning.recording;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Appends exchanges to a binary recording through memory-mapped regions of the file, so recording costs a
+ * copy into memory rather than a write call per request. The file starts with a magic number and version;
+ * each exchange follows as a length-prefixed record. Safe to use from several threads without locking: each
+ * thread encodes into its own buffer and reserves its slice of the file with a single atomic add, so records
+ * appear in the order they were reserved rather than by time.
+ * <p>
+ * A record's length is written after its body, and unwritten parts of the file read as zeros, so a recording
+ * cut short by a crash is readable up to the first record that was not complete.
+ */
+public class RecordingWriter implements AutoCloseable {
+
+    static final int MAGIC = 0x44535243; // "DSRC"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    private static final int DEFAULT_REGION_BYTES = 16 << 20;
+    private static final int INITIAL_BUFFER_BYTES = 4096;
+    // set in the position once closed, so that later reservations see a negative position
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final FileChannel channel;
+    private final int regionBytes;
+    private final Map<Long, MappedByteBuffer> regions = new ConcurrentHashMap<>();
+    private final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_BUFFER_BYTES));
+    private final AtomicLong position = new AtomicLong(HEADER_BYTES);
+    private final AtomicLong written = new AtomicLong(HEADER_BYTES);
+    private final LongAdder exchanges = new LongAdder();
+
+    public RecordingWriter(Path file) {
+        this(file, DEFAULT_REGION_BYTES);
+    }
+
+    RecordingWriter(Path file, int regionBytes) {
+        this.regionBytes = regionBytes;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Cannot create recording " + file, e);
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION);
+        write(0, header.array(), 0, HEADER_BYTES);
+    }
+
+    /**
+     * Appends an exchange; exchanges that complete after {@link #close()} are dropped.
+     */
+    public void append(Exchange exchange) {
+        ByteBuffer record = encode(exchange);
+        int bytes = record.position();
+        long start = position.getAndAdd(bytes);
+        if (start < 0) {
+            return;
+        }
+        try {
+            write(start + 4, record.array(), 4, bytes - 4);
+            // the length goes last: until it is there, the record reads as the end of the recording
+            write(start, record.array(), 0, 4);
+            exchanges.increment();
+        }
+        finally {
+            written.addAndGet(bytes);
+        }
+    }
+
+    public long getExchanges() {
+        return exchanges.sum();
+    }
+
+    /**
+     * Waits for the appends in progress, flushes the mapped regions and trims the file to the recorded
+     * exchanges.
+     */
+    @Override
+    public synchronized void close() {
+        long end = position.getAndAdd(CLOSED);
+        if (end < 0) {
+            return;
+        }
+        while (written.get() != end) {
+            Thread.onSpinWait();
+        }
+        try {
+            regions.values().forEach(MappedByteBuffer::force);
+            regions.clear();
+            channel.truncate(end);
+            channel.close();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Cannot close recording", e);
+        }
+    }
+
+    /**
+     * Encodes the record, length prefix included, into this thread's buffer.
+     */
+    private ByteBuffer encode(Exchange exchange) {
+        byte[] method = utf8(exchange.method());
+        byte[] template = utf8(exchange.template());
+        byte[] uri = utf8(exchange.uri());
+        byte[] contentType = utf8(exchange.contentType());
+        byte[] issuedToken = utf8(exchange.issuedToken());
+        byte[][] headers = new byte[exchange.headers().size() * 2][];
+        int length = 8 + 4 + 4 + 8 + string(method) + string(template) + string(uri) + string(contentType)
+                + string(issuedToken) + 4 + 4 + exchange.body().length;
+        for (int i = 0; i < exchange.headers().size(); i++) {
+            headers[2 * i] = utf8(exchange.headers().get(i).name());
+            headers[2 * i + 1] = utf8(exchange.headers().get(i).value());
+            length += string(headers[2 * i]) + string(headers[2 * i + 1]);
+        }
+        ByteBuffer record = buffers.get();
+        if (record.capacity() < 4 + length) {
+            record = ByteBuffer.allocate(Math.max(4 + length, record.capacity() * 2));
+            buffers.set(record);
+        }
+        record.clear();
+        record.putInt(length)
+                .putLong(exchange.offsetNanos())
+                .putInt(exchange.lane())
+                .putInt(exchange.status())
+                .putLong(exchange.durationMicros());
+        put(record, method);
+        put(record, template);
+        put(record, uri);
+        put(record, contentType);
+        put(record, issuedToken);
+        record.putInt(exchange.headers().size());
+        for (byte[] header : headers) {
+            put(record, header);
+        }
+        record.putInt(exchange.body().length).put(exchange.body());
+        return record;
+    }
+
+    /**
+     * Copies bytes to the given file position, across as many regions as they span.
+     */
+    private void write(long filePosition, byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            long index = filePosition / regionBytes;
+            int regionOffset = (int) (filePosition % regionBytes);
+            int chunk = Math.min(length, regionBytes - regionOffset);
+            region(index).put(regionOffset, bytes, offset, chunk);
+            filePosition += chunk;
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    private MappedByteBuffer region(long index) {
+        MappedByteBuffer region = regions.get(index);
+        if (region == null) {
+            // mapping the same region twice is harmless; both map the same pages of the file
+            region = map(index);
+            MappedByteBuffer raced = regions.putIfAbsent(index, region);
+            if (raced != null) {
+                region = raced;
+            }
+        }
+        return region;
+    }
+
+    private MappedByteBuffer map(long index) {
+        try {
+            return channel.map(MapMode.READ_WRITE, index * regionBytes, regionBytes);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Cannot grow recording", e);
+        }
+    }
+
+    private static void put(ByteBuffer record, byte[] bytes) {
+        record.putInt(bytes.length).put(bytes);
+    }
+
+    private static int string(byte[] bytes) {
+        return 4 + bytes.length;
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
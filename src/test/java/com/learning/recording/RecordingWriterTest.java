@@ -0,0 +1,115 @@
+package com.learning.recording;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RecordingWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void readerShouldReturnExchangesAsWritten() {
+        Path file = directory.resolve("recording.bin");
+        Exchange grant = exchange(0, "POST", "/oauth2/token", "grant_type=password&username=maria%40gmail.com", 200,
+                "abc.def.ghi");
+        Exchange order = exchange(1, "POST", "/orders", "{\"items\":[{\"productId\":1,\"quantity\":2}]}", 201, "");
+
+        try (RecordingWriter writer = new RecordingWriter(file)) {
+            writer.append(grant);
+            writer.append(order);
+        }
+
+        List<Exchange> exchanges = RecordingReader.readAll(file);
+        assertThat(exchanges).hasSize(2);
+        assertThat(exchanges.get(0)).usingRecursiveComparison().isEqualTo(grant);
+        assertThat(exchanges.get(1)).usingRecursiveComparison().isEqualTo(order);
+    }
+
+    @Test
+    public void writerShouldMapNewRegionsAsTheRecordingGrows() {
+        Path file = directory.resolve("recording.bin");
+
+        try (RecordingWriter writer = new RecordingWriter(file, 256)) {
+            for (int i = 0; i < 100; i++) {
+                writer.append(exchange(i, "GET", "/products/{id}", "", 200, ""));
+            }
+            // larger than a whole region
+            writer.append(exchange(100, "PUT", "/products/{id}", "x".repeat(1_000), 200, ""));
+        }
+
+        List<Exchange> exchanges = RecordingReader.readAll(file);
+        assertThat(exchanges).hasSize(101);
+        assertThat(exchanges).extracting(Exchange::lane).startsWith(0, 1, 2).endsWith(99, 100);
+        assertThat(exchanges.get(100).body()).hasSize(1_000);
+    }
+
+    @Test
+    public void readerShouldStopAtAPartlyWrittenExchange() throws Exception {
+        Path file = directory.resolve("recording.bin");
+        try (RecordingWriter writer = new RecordingWriter(file)) {
+            writer.append(exchange(0, "GET", "/products", "", 200, ""));
+            writer.append(exchange(1, "GET", "/products", "", 200, ""));
+        }
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.setLength(raw.length() - 5);
+        }
+
+        assertThat(RecordingReader.readAll(file)).extracting(Exchange::lane).containsExactly(0);
+    }
+
+    @Test
+    public void recordingThatWasNeverClosedShouldBeReadableUpToItsLastExchange() {
+        Path file = directory.resolve("recording.bin");
+        RecordingWriter writer = new RecordingWriter(file, 4096);
+        writer.append(exchange(0, "GET", "/products", "", 200, ""));
+        writer.append(exchange(1, "GET", "/products", "", 200, ""));
+
+        // the rest of the mapped region reads as zeros, like after a crash
+        assertThat(RecordingReader.readAll(file)).extracting(Exchange::lane).containsExactly(0, 1);
+        writer.close();
+    }
+
+    @Test
+    public void concurrentAppendsShouldAllBeRecorded() throws Exception {
+        Path file = directory.resolve("recording.bin");
+        int threads = 8;
+        int perThread = 500;
+
+        try (RecordingWriter writer = new RecordingWriter(file, 4096)) {
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                for (int t = 0; t < threads; t++) {
+                    int lane = t;
+                    executor.submit(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            writer.append(exchange(lane, "GET", "/products/{id}", "", 200, ""));
+                        }
+                    });
+                }
+            }
+            assertThat(writer.getExchanges()).isEqualTo(threads * perThread);
+        }
+
+        List<Exchange> exchanges = RecordingReader.readAll(file);
+        assertThat(exchanges).hasSize(threads * perThread);
+        assertThat(exchanges).extracting(Exchange::uri).containsOnly("/products/1");
+    }
+
+    private static Exchange exchange(int lane, String method, String template, String body, int status,
+            String issuedToken) {
+        return new Exchange(lane * 1_000_000L, lane, method, template, template.replace("{id}", "1"),
+                body.isEmpty() ? "" : "application/json",
+                List.of(new Exchange.Header("Authorization", "Bearer token"), new Exchange.Header("Accept", "*/*")),
+                body.getBytes(StandardCharsets.UTF_8), status, 1_500, issuedToken);
+    }
+
+}
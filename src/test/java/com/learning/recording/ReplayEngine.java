@@ -0,0 +1,193 @@
+package com.learning.recording;
+
+import static io.restassured.RestAssured.*;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+import com.learning.RequestSpecs;
+import com.learning.TokenUtil;
+import com.learning.load.EndpointStats;
+
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Re-issues a recording: one thread per recorded lane sends that lane's requests in their original order,
+ * each one at its recorded offset divided by the speed, so the replay has the concurrency and bursts of the
+ * original traffic. Everything a request needs is prepared before the clock starts.
+ * <p>
+ * Bearer tokens issued during the recording are no longer valid on a restarted server, so each one is
+ * replaced by a token freshly issued to the same credentials. Tokens derived from them, like the tampered
+ * {@code invalidToken} of the RA suites, keep their alteration.
+ */
+public class ReplayEngine {
+
+    private static final String TOKEN_PATH = "/oauth2/token";
+    private static final String BEARER = "Bearer ";
+    private static final String FORM = "application/x-www-form-urlencoded";
+
+    private final ReplaySettings settings;
+
+    public ReplayEngine(ReplaySettings settings) {
+        this.settings = settings;
+    }
+
+    public ReplayResult run(List<Exchange> exchanges) {
+        Map<String, String> tokens = refreshTokens(exchanges);
+        Map<String, EndpointStats> responseTimes = new LinkedHashMap<>();
+        Map<String, EndpointStats> serviceTimes = new LinkedHashMap<>();
+        Map<Integer, List<Request>> lanes = new TreeMap<>();
+        long recordedNanos = 0;
+        for (Exchange exchange : exchanges.stream().sorted(Comparator.comparingLong(Exchange::offsetNanos)).toList()) {
+            String endpoint = exchange.method() + " " + exchange.template();
+            EndpointStats responseTime = responseTimes.computeIfAbsent(endpoint, EndpointStats::new);
+            EndpointStats serviceTime = serviceTimes.computeIfAbsent(endpoint, EndpointStats::new);
+            lanes.computeIfAbsent(exchange.lane(), lane -> new ArrayList<>())
+                    .add(new Request(exchange, dueNanos(exchange.offsetNanos()), headers(exchange, tokens),
+                            responseTime, serviceTime));
+            recordedNanos = Math.max(recordedNanos, exchange.offsetNanos() + exchange.durationMicros() * 1000);
+        }
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, lanes.size()))) {
+            for (List<Request> lane : lanes.values()) {
+                executor.submit(() -> replayLane(lane, start));
+            }
+        }
+        return new ReplayResult(Duration.ofNanos(System.nanoTime() - start), Duration.ofNanos(recordedNanos),
+                lanes.size(), exchanges.size(), tokens.size(), List.copyOf(responseTimes.values()),
+                List.copyOf(serviceTimes.values()));
+    }
+
+    private long dueNanos(long offsetNanos) {
+        return settings.isMaxSpeed() ? 0 : (long) (offsetNanos / settings.speed());
+    }
+
+    private void replayLane(List<Request> lane, long start) {
+        RequestSpecification spec = RequestSpecs.base();
+        for (Request request : lane) {
+            long due = start + request.dueNanos;
+            waitUntil(due);
+            long actualStart = System.nanoTime();
+            boolean success;
+            try {
+                success = send(spec, request).statusCode() == request.exchange.status();
+            }
+            catch (RuntimeException e) {
+                success = false;
+            }
+            long now = System.nanoTime();
+            // at maximum speed a request is due when its lane gets to it
+            long intended = settings.isMaxSpeed() ? actualStart : due;
+            request.responseTime.record(now - intended, success);
+            request.serviceTime.record(now - actualStart, success);
+        }
+    }
+
+    private static Response send(RequestSpecification spec, Request request) {
+        Exchange exchange = request.exchange;
+        RequestSpecification call = given(spec)
+                .urlEncodingEnabled(false)
+                .headers(request.headers);
+        if (!exchange.contentType().isEmpty()) {
+            call.contentType(exchange.contentType());
+        }
+        if (exchange.body().length > 0 && exchange.contentType().startsWith(FORM)) {
+            // RestAssured only encodes form bodies given as text
+            call.body(new String(exchange.body(), StandardCharsets.UTF_8));
+        }
+        else if (exchange.body().length > 0) {
+            call.body(exchange.body());
+        }
+        return call.request(exchange.method(), exchange.uri());
+    }
+
+    /**
+     * Maps every token issued during the recording to one issued now to the same credentials.
+     */
+    private static Map<String, String> refreshTokens(List<Exchange> exchanges) {
+        Map<String, String> byCredentials = new HashMap<>();
+        Map<String, String> tokens = new HashMap<>();
+        for (Exchange exchange : exchanges) {
+            if (exchange.issuedToken().isEmpty() || !exchange.template().equals(TOKEN_PATH)) {
+                continue;
+            }
+            Map<String, String> form = parseForm(new String(exchange.body(), StandardCharsets.UTF_8));
+            String username = form.get("username");
+            String password = form.get("password");
+            if (username == null || password == null) {
+                continue;
+            }
+            String fresh = byCredentials.computeIfAbsent(username + "\n" + password, key -> {
+                TokenUtil.Token token = TokenUtil.requestToken(username, password);
+                return token == null ? null : token.value();
+            });
+            if (fresh != null) {
+                tokens.put(exchange.issuedToken(), fresh);
+            }
+        }
+        return tokens;
+    }
+
+    private static Headers headers(Exchange exchange, Map<String, String> tokens) {
+        List<Header> headers = new ArrayList<>(exchange.headers().size());
+        for (Exchange.Header header : exchange.headers()) {
+            String value = header.value();
+            if (header.name().equalsIgnoreCase("Authorization") && value.startsWith(BEARER)) {
+                value = BEARER + replaceToken(value.substring(BEARER.length()), tokens);
+            }
+            headers.add(new Header(header.name(), value));
+        }
+        return new Headers(headers);
+    }
+
+    private static String replaceToken(String token, Map<String, String> tokens) {
+        String fresh = tokens.get(token);
+        if (fresh != null) {
+            return fresh;
+        }
+        for (Map.Entry<String, String> issued : tokens.entrySet()) {
+            if (token.startsWith(issued.getKey())) {
+                return issued.getValue() + token.substring(issued.getKey().length());
+            }
+        }
+        return token;
+    }
+
+    private static Map<String, String> parseForm(String body) {
+        Map<String, String> form = new HashMap<>();
+        for (String pair : body.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                form.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return form;
+    }
+
+    private static void waitUntil(long deadline) {
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private record Request(Exchange exchange, long dueNanos, Headers headers, EndpointStats responseTime,
+            EndpointStats serviceTime) {
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.learning.recording;
+
+import java.io.PrintStream;
+import java.util.List;
+
+import com.learning.RequestSpecs;
+import com.learning.http.PooledHttpClient;
+import com.learning.load.LoadReport;
+import com.learning.load.LoadResult;
+import com.learning.metrics.LatencyReporting;
+
+/**
+ * Entry point of the replay engine. Record a test or load run first, then replay it against any server at
+ * the original speed, a multiple of it, or as fast as possible:
+ *
+ * <pre>
+ * mvn test -Pstandin -Drecording.file=target/recording/ra.bin
+ * mvn -Pload test-compile exec:java -Dexec.mainClass=com.learning.recording.ReplayGenerator -Dreplay.file=target/recording/ra.bin -Dreplay.speed=10
+ * </pre>
+ */
+public class ReplayGenerator {
+
+    public static void main(String[] args) {
+        ReplaySettings settings = ReplaySettings.fromSystemProperties();
+        PrintStream out = System.out;
+        List<Exchange> exchanges = RecordingReader.readAll(settings.file());
+        out.printf("Replaying %d exchanges from %s against %s at %s%n", exchanges.size(), settings.file(),
+                RequestSpecs.baseUri(), settings.isMaxSpeed() ? "maximum speed" : settings.speed() + "x");
+        LatencyReporting.global().start();
+        ReplayResult result = new ReplayEngine(settings).run(exchanges);
+
+        out.printf("Replayed %d exchanges on %d lanes in %.1f s (recorded in %.1f s), refreshed %d tokens%n",
+                result.exchanges(), result.lanes(), result.elapsed().toNanos() / 1e9,
+                result.recorded().toNanos() / 1e9, result.refreshedTokens());
+        out.println("Status differing from the recording: " + result.statusMismatches());
+        out.println("Response time (from due time):");
+        LoadReport.print(new LoadResult(result.elapsed(), result.responseTimes()), out);
+        out.println("Service time (from actual send time):");
+        LoadReport.print(new LoadResult(result.elapsed(), result.serviceTimes()), out);
+        out.println("Connections: " + PooledHttpClient.shared().stats());
+        LatencyReporting.global().finish();
+        out.println("HDR logs and summary written to " + LatencyReporting.global().getDirectory());
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.learning.recording;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.learning.load.EndpointStats;
+
+/**
+ * Outcome of a replay. Like in an open-model run, response times are measured from the time a request was
+ * due and service times from the time it was actually sent; a request counts as failed when its status
+ * differs from the recorded one.
+ */
+public record ReplayResult(Duration elapsed, Duration recorded, int lanes, long exchanges, int refreshedTokens,
+        List<EndpointStats> responseTimes, List<EndpointStats> serviceTimes) {
+
+    public long statusMismatches() {
+        return responseTimes.stream().mapToLong(EndpointStats::getFailures).sum();
+    }
+
+}
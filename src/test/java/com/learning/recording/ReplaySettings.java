@@ -0,0 +1,33 @@
+package com.learning.recording;
+
+import java.nio.file.Path;
+
+/**
+ * Settings of a replay, read from {@code replay.*} system properties.
+ *
+ * @param file  the recording to replay
+ * @param speed how much faster than recorded to send, e.g. 1 for the original timing and 10 for ten times
+ *              faster; 0 sends as fast as each lane can, still one request at a time per lane
+ */
+public record ReplaySettings(Path file, double speed) {
+
+    public ReplaySettings {
+        if (speed < 0) {
+            throw new IllegalArgumentException("replay.speed must not be negative");
+        }
+    }
+
+    public static ReplaySettings fromSystemProperties() {
+        String file = System.getProperty("replay.file", System.getProperty("recording.file"));
+        if (file == null) {
+            throw new IllegalArgumentException("replay.file must be set");
+        }
+        String speed = System.getProperty("replay.speed", "1");
+        return new ReplaySettings(Path.of(file), speed.equalsIgnoreCase("max") ? 0 : Double.parseDouble(speed));
+    }
+
+    public boolean isMaxSpeed() {
+        return speed == 0;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.learning.regression;
+
+/**
+ * Comparison of one endpoint between the baseline and candidate runs. Latencies are in milliseconds and
+ * throughput in requests per second; changes are relative to the baseline. Throughput fields are null when
+ * either run logged too few intervals to compare them.
+ *
+ * @param probabilitySlower probability that a candidate request is slower than a baseline request; 0.5 means
+ *                          no shift
+ */
+public record EndpointVerdict(String endpoint, long baselineCount, long candidateCount, double baselineP50,
+        double candidateP50, double p50Change, double baselineP99, double candidateP99, double probabilitySlower,
+        double latencyPValue, boolean latencyRegression, Double baselineThroughput, Double candidateThroughput,
+        Double throughputChange, Double throughputPValue, boolean throughputRegression) {
+
+    public boolean isRegression() {
+        return latencyRegression || throughputRegression;
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.learning.regression;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+/**
+ * One-sided Mann-Whitney U test of whether candidate values tend to be larger than baseline values. It
+ * compares ranks, not means, so a few outliers cannot fake or hide a shift, and it makes no assumption about
+ * the shape of the distributions, which for latencies are always skewed. Ties, which histograms are made of,
+ * get their average rank and the variance is corrected for them; the p-value uses the normal approximation
+ * with continuity correction, which is accurate for the sample sizes of a benchmark run.
+ */
+public class MannWhitney {
+
+    /**
+     * @param u                  U statistic of the candidate sample
+     * @param probabilityGreater probability that a random candidate value exceeds a random baseline value,
+     *                           counting ties as half; 0.5 means no shift
+     * @param pValue             probability of a shift at least this large if both came from the same
+     *                           distribution
+     */
+    public record Result(long baselineCount, long candidateCount, double u, double probabilityGreater,
+            double pValue) {
+
+    }
+
+    public static Result candidateGreater(Histogram baseline, Histogram candidate) {
+        TreeMap<Long, long[]> groups = new TreeMap<>();
+        addCounts(groups, baseline, 0);
+        addCounts(groups, candidate, 1);
+        return test(groups);
+    }
+
+    public static Result candidateGreater(double[] baseline, double[] candidate) {
+        TreeMap<Double, long[]> groups = new TreeMap<>();
+        Arrays.stream(baseline).forEach(value -> groups.computeIfAbsent(value, v -> new long[2])[0]++);
+        Arrays.stream(candidate).forEach(value -> groups.computeIfAbsent(value, v -> new long[2])[1]++);
+        return test(groups);
+    }
+
+    private static void addCounts(TreeMap<Long, long[]> groups, Histogram histogram, int sample) {
+        for (HistogramIterationValue value : histogram.recordedValues()) {
+            groups.computeIfAbsent(value.getValueIteratedTo(), v -> new long[2])[sample] +=
+                    value.getCountAtValueIteratedTo();
+        }
+    }
+
+    /**
+     * @param groups counts of baseline and candidate values per distinct value, in ascending value order
+     */
+    private static Result test(Map<?, long[]> groups) {
+        double baselineCount = 0;
+        double candidateCount = 0;
+        for (long[] counts : groups.values()) {
+            baselineCount += counts[0];
+            candidateCount += counts[1];
+        }
+        if (baselineCount == 0 || candidateCount == 0) {
+            return new Result((long) baselineCount, (long) candidateCount, Double.NaN, Double.NaN, Double.NaN);
+        }
+        double total = baselineCount + candidateCount;
+        double candidateRanks = 0;
+        double ties = 0;
+        double ranked = 0;
+        for (long[] counts : groups.values()) {
+            double tied = counts[0] + counts[1];
+            double averageRank = ranked + (tied + 1) / 2;
+            candidateRanks += counts[1] * averageRank;
+            ties += tied * tied * tied - tied;
+            ranked += tied;
+        }
+        double u = candidateRanks - candidateCount * (candidateCount + 1) / 2;
+        double mean = baselineCount * candidateCount / 2;
+        double variance = baselineCount * candidateCount / 12 * ((total + 1) - ties / (total * (total - 1)));
+        double pValue = variance <= 0 ? 0.5 : 1 - normalCdf((u - mean - 0.5) / Math.sqrt(variance));
+        return new Result((long) baselineCount, (long) candidateCount, u, u / (baselineCount * candidateCount),
+                pValue);
+    }
+
+    static double normalCdf(double z) {
+        return 0.5 * erfc(-z / Math.sqrt(2));
+    }
+
+    /**
+     * Complementary error function with a fractional error under 1.2e-7 (Numerical Recipes, erfcc).
+     */
+    private static double erfc(double x) {
+        double z = Math.abs(x);
+        double t = 1 / (1 + 0.5 * z);
+        double r = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? r : 2 - r;
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.learning.regression;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+public class MannWhitneyTest {
+
+    @Test
+    public void testShouldRankCompletelySeparatedSamples() {
+        MannWhitney.Result result = MannWhitney.candidateGreater(new double[] { 1, 2, 3, 4, 5 },
+                new double[] { 6, 7, 8, 9, 10 });
+
+        assertThat(result.u()).isEqualTo(25);
+        assertThat(result.probabilityGreater()).isEqualTo(1);
+        // the exact one-sided p-value is 1/252
+        assertThat(result.pValue()).isBetween(0.003, 0.01);
+    }
+
+    @Test
+    public void testShouldGiveTiesHalfCredit() {
+        MannWhitney.Result result = MannWhitney.candidateGreater(new double[] { 1, 2, 3 }, new double[] { 3, 4, 5 });
+
+        assertThat(result.u()).isEqualTo(8.5);
+        assertThat(result.probabilityGreater()).isCloseTo(8.5 / 9, within(1e-9));
+    }
+
+    @Test
+    public void testShouldFindShiftOfHistogramsButNotNoise() {
+        Random random = new Random(7);
+        Histogram baseline = new Histogram(3);
+        Histogram sameServer = new Histogram(3);
+        Histogram slowerServer = new Histogram(3);
+        for (int i = 0; i < 5_000; i++) {
+            long noise = (long) (Math.abs(random.nextGaussian()) * 2_000);
+            baseline.recordValue(10_000 + noise);
+            sameServer.recordValue(10_000 + (long) (Math.abs(random.nextGaussian()) * 2_000));
+            slowerServer.recordValue(10_600 + (long) (Math.abs(random.nextGaussian()) * 2_000));
+        }
+
+        assertThat(MannWhitney.candidateGreater(baseline, slowerServer).pValue()).isLessThan(1e-6);
+        assertThat(MannWhitney.candidateGreater(baseline, sameServer).pValue()).isGreaterThan(0.01);
+        assertThat(MannWhitney.candidateGreater(slowerServer, baseline).pValue()).isGreaterThan(0.99);
+    }
+
+    @Test
+    public void normalCdfShouldMatchKnownQuantiles() {
+        assertThat(MannWhitney.normalCdf(0)).isCloseTo(0.5, within(1e-7));
+        assertThat(MannWhitney.normalCdf(1.959964)).isCloseTo(0.975, within(1e-6));
+        assertThat(MannWhitney.normalCdf(-2.326348)).isCloseTo(0.01, within(1e-6));
+    }
+
+}
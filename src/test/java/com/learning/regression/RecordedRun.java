@@ -0,0 +1,102 @@
+package com.learning.regression;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+
+/**
+ * The endpoints of a latency report directory as written by
+ * {@link com.learning.metrics.LatencyReporting}: per endpoint, the latency histogram over all responses and
+ * the request rate of every logged interval.
+ */
+public class RecordedRun {
+
+    private static final String ENDPOINT_COMMENT = "#endpoint: ";
+
+    /**
+     * @param throughput requests per second of each logged interval
+     */
+    public record Endpoint(String name, Histogram latency, double[] throughput) {
+
+    }
+
+    /**
+     * Reads every {@code .hlog} file of the directory, by endpoint name.
+     */
+    public static Map<String, Endpoint> load(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("No latency report directory at " + directory);
+        }
+        Map<String, Endpoint> endpoints = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".hlog")).toList()) {
+                Endpoint endpoint = read(file);
+                endpoints.put(endpoint.name(), endpoint);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not list " + directory, e);
+        }
+        return endpoints;
+    }
+
+    static Endpoint read(Path file) throws IOException {
+        String name = endpointName(file);
+        Histogram latency = new Histogram(3);
+        List<Double> throughput = new ArrayList<>();
+        HistogramLogReader reader;
+        try {
+            reader = new HistogramLogReader(file.toFile());
+        }
+        catch (FileNotFoundException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            EncodableHistogram interval;
+            while ((interval = reader.nextIntervalHistogram()) != null) {
+                // tagged intervals hold single status codes; the untagged one covers all responses
+                if (interval.getTag() != null || !(interval instanceof Histogram histogram)) {
+                    continue;
+                }
+                latency.add(histogram);
+                double seconds = (histogram.getEndTimeStamp() - histogram.getStartTimeStamp()) / 1000.0;
+                if (seconds > 0) {
+                    throughput.add(histogram.getTotalCount() / seconds);
+                }
+            }
+        }
+        finally {
+            reader.close();
+        }
+        return new Endpoint(name, latency, throughput.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    /**
+     * The endpoint name from the comment the log starts with, or the file name for logs without one.
+     */
+    private static String endpointName(Path file) throws IOException {
+        try (BufferedReader lines = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String first = lines.readLine();
+            if (first != null && first.startsWith(ENDPOINT_COMMENT)) {
+                int end = first.lastIndexOf(", values in");
+                return first.substring(ENDPOINT_COMMENT.length(), end < 0 ? first.length() : end);
+            }
+        }
+        String fileName = file.getFileName().toString();
+        return fileName.substring(0, fileName.length() - ".hlog".length());
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.learning.regression;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Compares a load run against a stored baseline and fails when any endpoint regressed significantly. Both
+ * runs are latency report directories as written by the load generators; keep a copy of one as the baseline.
+ * The verdict is written as JSON next to the candidate report, and the Maven goal fails on a regression:
+ *
+ * <pre>
+ * cp -r target/latency baselines/v1
+ * mvn -Pload test-compile exec:java -Dload.users=20 -Dload.durationSeconds=60
+ * mvn -Pregression test-compile exec:java -Dregression.baseline=baselines/v1
+ * </pre>
+ */
+public class RegressionCheck {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final String HEADER_FORMAT = "%-28s %9s %9s %8s %7s %9s %9s %8s %9s %s%n";
+    private static final String ROW_FORMAT = "%-28s %9.2f %9.2f %+7.1f%% %7.2f %9.2g %9s %8s %9s %s%n";
+
+    public static void main(String[] args) {
+        RegressionSettings settings = RegressionSettings.fromSystemProperties();
+        PrintStream out = System.out;
+        out.printf("Comparing %s against baseline %s (alpha %s, minimum effect %.0f%%)%n", settings.candidate(),
+                settings.baseline(), settings.alpha(), settings.minEffect() * 100);
+        RegressionVerdict verdict = new RunComparison(settings)
+                .compare(RecordedRun.load(settings.baseline()), RecordedRun.load(settings.candidate()));
+
+        print(verdict, out);
+        write(verdict, settings.verdict());
+        out.println("Verdict written to " + settings.verdict());
+        if (verdict.isRegression()) {
+            throw new IllegalStateException("Significant regression against " + settings.baseline());
+        }
+    }
+
+    static void print(RegressionVerdict verdict, PrintStream out) {
+        out.printf(HEADER_FORMAT, "endpoint", "base p50", "cand p50", "p50 chg", "P(slow)", "p-value", "base rps",
+                "rps chg", "p-value", "verdict");
+        for (EndpointVerdict endpoint : verdict.endpoints()) {
+            out.printf(ROW_FORMAT, endpoint.endpoint(), endpoint.baselineP50(), endpoint.candidateP50(),
+                    endpoint.p50Change() * 100, endpoint.probabilitySlower(), endpoint.latencyPValue(),
+                    format("%.1f", endpoint.baselineThroughput()), percent(endpoint.throughputChange()),
+                    format("%.2g", endpoint.throughputPValue()), verdict(endpoint));
+        }
+        verdict.onlyInBaseline().forEach(name -> out.println("Only in baseline: " + name));
+        verdict.onlyInCandidate().forEach(name -> out.println("Only in candidate: " + name));
+        out.println("Verdict: " + verdict.verdict());
+    }
+
+    private static String verdict(EndpointVerdict endpoint) {
+        if (endpoint.latencyRegression() && endpoint.throughputRegression()) {
+            return "LATENCY+THROUGHPUT REGRESSION";
+        }
+        if (endpoint.latencyRegression()) {
+            return "LATENCY REGRESSION";
+        }
+        return endpoint.throughputRegression() ? "THROUGHPUT REGRESSION" : "ok";
+    }
+
+    private static String format(String format, Double value) {
+        return value == null ? "-" : String.format(format, value);
+    }
+
+    private static String percent(Double change) {
+        return change == null ? "-" : String.format("%+.1f%%", change * 100);
+    }
+
+    private static void write(RegressionVerdict verdict, Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            MAPPER.writeValue(file.toFile(), verdict);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not write verdict to " + file, e);
+        }
+    }
+
+}
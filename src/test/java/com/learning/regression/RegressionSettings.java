@@ -0,0 +1,34 @@
+package com.learning.regression;
+
+import java.nio.file.Path;
+
+/**
+ * Settings of a regression check, read from {@code regression.*} system properties.
+ *
+ * @param baseline     latency report directory of the stored baseline run
+ * @param candidate    latency report directory of the run under test
+ * @param verdict      where to write the machine-readable verdict
+ * @param alpha        significance level of the one-sided tests
+ * @param minEffect    smallest relative change that counts as a regression, e.g. 0.05 for 5 %; with many
+ *                     samples even a negligible shift is significant
+ * @param minIntervals logged intervals each run needs per endpoint before throughput is compared
+ */
+public record RegressionSettings(Path baseline, Path candidate, Path verdict, double alpha, double minEffect,
+        int minIntervals) {
+
+    public static RegressionSettings fromSystemProperties() {
+        String baseline = System.getProperty("regression.baseline");
+        if (baseline == null) {
+            throw new IllegalArgumentException("regression.baseline must be set");
+        }
+        Path candidate = Path.of(System.getProperty("regression.candidate", "target/latency"));
+        return new RegressionSettings(
+                Path.of(baseline),
+                candidate,
+                Path.of(System.getProperty("regression.verdict", candidate.resolve("verdict.json").toString())),
+                Double.parseDouble(System.getProperty("regression.alpha", "0.01")),
+                Double.parseDouble(System.getProperty("regression.minEffect", "0.05")),
+                Integer.getInteger("regression.minIntervals", 5));
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.learning.regression;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Outcome of a regression check, written as {@code verdict.json}. Endpoints only present in one of the runs
+ * are listed but not judged.
+ */
+public record RegressionVerdict(String baseline, String candidate, double alpha, double minEffect,
+        List<EndpointVerdict> endpoints, List<String> onlyInBaseline, List<String> onlyInCandidate) {
+
+    @JsonProperty("verdict")
+    public String verdict() {
+        return isRegression() ? "regression" : "pass";
+    }
+
+    public boolean isRegression() {
+        return endpoints.stream().anyMatch(EndpointVerdict::isRegression);
+    }
+
+}
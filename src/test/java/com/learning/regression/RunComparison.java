@@ -0,0 +1,86 @@
+package com.learning.regression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Compares the endpoints of two recorded runs. An endpoint regressed in latency when a one-sided
+ * {@link MannWhitney} test finds candidate latencies larger at the significance level and its median grew by
+ * at least the minimum effect; it regressed in throughput when the per-interval request rates are lower by
+ * the same rules, measured on the mean rate.
+ */
+public class RunComparison {
+
+    private final RegressionSettings settings;
+
+    public RunComparison(RegressionSettings settings) {
+        this.settings = settings;
+    }
+
+    public RegressionVerdict compare(Map<String, RecordedRun.Endpoint> baseline,
+            Map<String, RecordedRun.Endpoint> candidate) {
+        List<EndpointVerdict> endpoints = new ArrayList<>();
+        List<String> onlyInBaseline = new ArrayList<>();
+        for (RecordedRun.Endpoint before : baseline.values()) {
+            RecordedRun.Endpoint after = candidate.get(before.name());
+            if (after == null) {
+                onlyInBaseline.add(before.name());
+            }
+            else {
+                endpoints.add(compare(before, after));
+            }
+        }
+        List<String> onlyInCandidate = candidate.keySet().stream()
+                .filter(name -> !baseline.containsKey(name))
+                .toList();
+        return new RegressionVerdict(settings.baseline().toString(), settings.candidate().toString(),
+                settings.alpha(), settings.minEffect(), endpoints, onlyInBaseline, onlyInCandidate);
+    }
+
+    private EndpointVerdict compare(RecordedRun.Endpoint before, RecordedRun.Endpoint after) {
+        Histogram baselineLatency = before.latency();
+        Histogram candidateLatency = after.latency();
+        MannWhitney.Result latency = MannWhitney.candidateGreater(baselineLatency, candidateLatency);
+        double baselineP50 = millis(baselineLatency.getValueAtPercentile(50));
+        double candidateP50 = millis(candidateLatency.getValueAtPercentile(50));
+        double p50Change = change(baselineP50, candidateP50);
+        boolean latencyRegression = latency.pValue() < settings.alpha() && p50Change >= settings.minEffect();
+
+        Double baselineThroughput = null;
+        Double candidateThroughput = null;
+        Double throughputChange = null;
+        Double throughputPValue = null;
+        boolean throughputRegression = false;
+        if (before.throughput().length >= settings.minIntervals()
+                && after.throughput().length >= settings.minIntervals()) {
+            baselineThroughput = mean(before.throughput());
+            candidateThroughput = mean(after.throughput());
+            throughputChange = change(baselineThroughput, candidateThroughput);
+            // a throughput regression is the baseline rates being the larger ones
+            throughputPValue = MannWhitney.candidateGreater(after.throughput(), before.throughput()).pValue();
+            throughputRegression = throughputPValue < settings.alpha() && -throughputChange >= settings.minEffect();
+        }
+        return new EndpointVerdict(before.name(), latency.baselineCount(), latency.candidateCount(), baselineP50,
+                candidateP50, p50Change, millis(baselineLatency.getValueAtPercentile(99)),
+                millis(candidateLatency.getValueAtPercentile(99)), latency.probabilityGreater(), latency.pValue(),
+                latencyRegression, baselineThroughput, candidateThroughput, throughputChange, throughputPValue,
+                throughputRegression);
+    }
+
+    private static double change(double baseline, double candidate) {
+        return baseline == 0 ? 0 : (candidate - baseline) / baseline;
+    }
+
+    private static double mean(double[] values) {
+        return Arrays.stream(values).average().orElse(0);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.learning.regression;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RunComparisonTest {
+
+    @TempDir
+    Path directory;
+
+    private final Random random = new Random(3);
+
+    @Test
+    public void comparisonShouldFlagSlowerEndpointOnly() throws Exception {
+        Path baseline = run("baseline");
+        Path candidate = run("candidate");
+        writeLog(baseline, "GET /products", 10, 200, 5_000);
+        writeLog(baseline, "GET /products/{id}", 10, 200, 5_000);
+        writeLog(candidate, "GET /products", 10, 200, 5_000);
+        writeLog(candidate, "GET /products/{id}", 10, 200, 6_500);
+
+        RegressionVerdict verdict = compare(baseline, candidate);
+
+        assertThat(verdict.isRegression()).isTrue();
+        assertThat(verdict.endpoints()).extracting(EndpointVerdict::endpoint, EndpointVerdict::latencyRegression)
+                .containsExactly(tuple("GET /products", false), tuple("GET /products/{id}", true));
+    }
+
+    @Test
+    public void comparisonShouldFlagLowerThroughput() throws Exception {
+        Path baseline = run("baseline");
+        Path candidate = run("candidate");
+        writeLog(baseline, "POST /orders", 10, 200, 5_000);
+        writeLog(candidate, "POST /orders", 10, 150, 5_000);
+
+        EndpointVerdict orders = compare(baseline, candidate).endpoints().get(0);
+
+        assertThat(orders.latencyRegression()).isFalse();
+        assertThat(orders.throughputRegression()).isTrue();
+        assertThat(orders.throughputChange()).isCloseTo(-0.25, within(0.02));
+    }
+
+    @Test
+    public void comparisonShouldListEndpointsMissingFromEitherRun() throws Exception {
+        Path baseline = run("baseline");
+        Path candidate = run("candidate");
+        writeLog(baseline, "GET /products", 10, 200, 5_000);
+        writeLog(baseline, "DELETE /products/{id}", 10, 20, 5_000);
+        writeLog(candidate, "GET /products", 10, 200, 5_000);
+        writeLog(candidate, "GET /users/me", 10, 20, 5_000);
+
+        RegressionVerdict verdict = compare(baseline, candidate);
+
+        assertThat(verdict.verdict()).isEqualTo("pass");
+        assertThat(verdict.onlyInBaseline()).containsExactly("DELETE /products/{id}");
+        assertThat(verdict.onlyInCandidate()).containsExactly("GET /users/me");
+    }
+
+    private RegressionVerdict compare(Path baseline, Path candidate) {
+        RegressionSettings settings = new RegressionSettings(baseline, candidate, candidate.resolve("verdict.json"),
+                0.01, 0.05, 5);
+        return new RunComparison(settings).compare(RecordedRun.load(baseline), RecordedRun.load(candidate));
+    }
+
+    private Path run(String name) throws Exception {
+        return Files.createDirectory(directory.resolve(name));
+    }
+
+    /**
+     * Writes one-second intervals of {@code requestsPerInterval} latencies around {@code medianMicros}, laid
+     * out like the logs of {@link com.learning.metrics.LatencyReporting}.
+     */
+    private void writeLog(Path run, String endpoint, int intervals, int requestsPerInterval, long medianMicros)
+            throws Exception {
+        HistogramLogWriter writer = new HistogramLogWriter(
+                run.resolve(endpoint.replaceAll("[^A-Za-z0-9{}.-]+", "_") + ".hlog").toFile());
+        writer.outputComment("endpoint: " + endpoint + ", values in microseconds");
+        writer.outputLogFormatVersion();
+        writer.setBaseTime(0);
+        writer.outputBaseTime(0);
+        writer.outputLegend();
+        for (int i = 0; i < intervals; i++) {
+            Histogram interval = new Histogram(3);
+            for (int r = 0; r < requestsPerInterval; r++) {
+                interval.recordValue(medianMicros + (long) (random.nextGaussian() * medianMicros / 10));
+            }
+            interval.setStartTimeStamp(i * 1000L);
+            interval.setEndTimeStamp((i + 1) * 1000L);
+            writer.outputIntervalHistogram(interval);
+            Histogram ok = interval.copy();
+            ok.setTag("200");
+            writer.outputIntervalHistogram(ok);
+        }
+        writer.close();
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.learning.seed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.LongFunction;
+
+import com.learning.Fixtures;
+import com.learning.TokenPool;
+import com.learning.TokenUtil;
+import com.learning.async.AsyncHttp;
+import com.learning.async.AsyncResponse;
+import com.learning.seed.CatalogGenerator.Item;
+import com.learning.seed.CatalogGenerator.Order;
+import com.learning.seed.CatalogGenerator.Product;
+
+import io.restassured.http.ContentType;
+
+/**
+ * Seeds a running server through its API with the {@link AsyncHttp} engine, keeping {@code batchSize}
+ * requests in flight. Products are inserted with the admin token; the ids the server assigns replace the
+ * generated ones in the orders, which are then inserted with client tokens, from the
+ * {@link TokenPool#clients() client pool} when one is configured and Maria's otherwise.
+ * <p>
+ * The API has no endpoints for categories or users: categories {@code 1..categories} must already exist,
+ * and orders belong to the logged-in clients rather than the generated users, with the moment and status
+ * the server gives them.
+ */
+class ApiSeeder {
+
+    private final CatalogGenerator generator;
+    private final SeedSettings settings;
+    private final AsyncHttp http;
+
+    ApiSeeder(CatalogGenerator generator, SeedSettings settings, AsyncHttp http) {
+        this.generator = generator;
+        this.settings = settings;
+        this.http = http;
+    }
+
+    void seed(SeedProgress progress) {
+        String adminToken = TokenUtil.obtainAccessToken(Fixtures.ADMIN_USERNAME, Fixtures.ADMIN_PASSWORD);
+        long[] productIds = new long[Math.toIntExact(settings.products())];
+        send("products", settings.products(), progress, number -> {
+            Product product = generator.product(number);
+            return http.given()
+                    .auth(adminToken)
+                    .body(productBody(product))
+                    .post("/products")
+                    .then()
+                    .statusCode(201)
+                    .response()
+                    .thenAccept(created -> productIds[(int) number - 1] = created.json().get("id").asLong());
+        });
+
+        TokenPool clients = TokenPool.clients();
+        String clientToken = clients == null
+                ? TokenUtil.obtainAccessToken(Fixtures.CLIENT_USERNAME, Fixtures.CLIENT_PASSWORD)
+                : null;
+        send("orders", settings.orders(), progress, number -> {
+            Order order = generator.order(number, productNumber -> productIds[(int) productNumber - 1]);
+            List<Map<String, Object>> items = new ArrayList<>(order.items().size());
+            for (Item item : order.items()) {
+                // a product whose insert failed has no server id
+                if (item.productId() != 0) {
+                    items.add(Map.of("productId", item.productId(), "quantity", item.quantity()));
+                }
+            }
+            if (items.isEmpty()) {
+                return CompletableFuture.failedFuture(new IllegalStateException("No product of order " + number));
+            }
+            return http.given()
+                    .auth(clients == null ? clientToken : clients.next())
+                    .body(Map.of("items", items))
+                    .accept(ContentType.JSON)
+                    .post("/orders")
+                    .then()
+                    .statusCode(201)
+                    .response()
+                    .thenApply(AsyncResponse::statusCode);
+        });
+    }
+
+    private void send(String table, long count, SeedProgress progress, LongFunction<CompletableFuture<?>> request) {
+        progress.begin(table, count);
+        Semaphore inFlight = new Semaphore(settings.batchSize());
+        try {
+            for (long number = 1; number <= count; number++) {
+                inFlight.acquire();
+                CompletableFuture<?> sent;
+                try {
+                    sent = request.apply(number);
+                }
+                catch (RuntimeException e) {
+                    sent = CompletableFuture.failedFuture(e);
+                }
+                sent.whenComplete((result, failure) -> {
+                    if (failure == null) {
+                        progress.add(1);
+                    }
+                    else {
+                        progress.failed(1);
+                    }
+                    inFlight.release();
+                });
+            }
+            // every request has completed once all permits are back
+            inFlight.acquire(settings.batchSize());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while seeding " + table, e);
+        }
+        progress.end();
+    }
+
+    private static Map<String, Object> productBody(Product product) {
+        return Map.of(
+                "name", product.name(),
+                "description", product.description(),
+                "price", product.price(),
+                "imgUrl", product.imgUrl(),
+                "categories", product.categoryIds().stream().map(id -> Map.of("id", id)).toList());
+    }
+
+}
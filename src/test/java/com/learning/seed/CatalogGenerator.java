@@ -0,0 +1,227 @@
+package com.learning.seed;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of catalog and order data. Every row is computed from the seed and its own id,
+ * never from the rows before it, so any range of ids can be generated on any thread, streamed without
+ * being kept in memory, and generated again identically.
+ * <p>
+ * Product names combine a brand, a product noun of the category and sometimes a line suffix, e.g.
+ * {@code Nimbus Headphones Pro 420}. Brands and suffixes are drawn from a Zipf distribution, so a
+ * {@code ?name=} search for a popular brand matches many products and one for a rare brand few, as in a
+ * real catalog. None of the words appear in the fixture products the {@code *ControllerRA} suites search
+ * for. Order items pick products by Zipfian popularity; the most popular products are spread over the id
+ * range rather than being the lowest ids.
+ */
+public class CatalogGenerator {
+
+    static final String[] BRANDS = { "Nimbus", "Orion", "Vertex", "Zenith", "Aurora", "Summit", "Atlas", "Pioneer",
+            "Lumen", "Quantum", "Falcon", "Titan", "Helix", "Polar", "Cobalt", "Sierra", "Everest", "Harbor", "Juniper",
+            "Kestrel", "Meridian", "Obsidian", "Quartz", "Redwood", "Solstice", "Tundra", "Umbra", "Willow", "Yarrow",
+            "Zephyr" };
+    private static final String[][] NOUNS = {
+            { "Cookbook", "Novel", "Handbook", "Anthology", "Biography", "Field Guide", "Poetry Collection" },
+            { "Headphones", "Speaker", "Monitor", "Camera", "Tablet", "Router", "Soundbar", "Projector" },
+            { "Laptop", "Keyboard", "Mouse", "Workstation", "Notebook", "SSD", "Docking Station" } };
+    private static final String[] GENERIC_NOUNS = { "Kit", "Set", "Bundle", "Accessory", "Organizer" };
+    private static final String[] SUFFIXES = { "Pro", "Max", "Mini", "Ultra", "Lite", "Plus", "Air", "Classic",
+            "Studio", "Sport" };
+    private static final String[] CATEGORY_NAMES = { "Books", "Electronics", "Computers", "Home", "Garden", "Toys",
+            "Sports", "Music", "Kitchen", "Office" };
+    private static final double[] CATEGORY_BASE_PRICES = { 45, 380, 1400, 120, 60, 35, 150, 90, 75, 110 };
+    private static final String[] FIRST_NAMES = { "Ana", "Bruno", "Carla", "Diego", "Elena", "Felipe", "Gabriela",
+            "Hugo", "Isabel", "Jorge", "Karen", "Lucas", "Marina", "Nicolas", "Olivia", "Pedro", "Rafaela", "Samuel",
+            "Tatiana", "Vitor" };
+    private static final String[] LAST_NAMES = { "Almeida", "Barbosa", "Cardoso", "Duarte", "Esteves", "Ferreira",
+            "Gomes", "Honorato", "Lima", "Martins", "Nogueira", "Oliveira", "Pereira", "Ribeiro", "Souza", "Teixeira" };
+    private static final Instant FIRST_ORDER = Instant.parse("2023-01-01T00:00:00Z");
+    private static final long ORDER_SPAN_SECONDS = 365L * 24 * 3600;
+
+    private static final long PRODUCT_STREAM = 1;
+    private static final long USER_STREAM = 2;
+    private static final long ORDER_STREAM = 3;
+
+    public record Category(long id, String name) {
+    }
+
+    public record Product(long id, String name, String description, double price, String imgUrl,
+            List<Long> categoryIds) {
+    }
+
+    public record User(long id, String name, String email, String phone, LocalDate birthDate) {
+    }
+
+    public record Order(long id, Instant moment, int status, long clientId, List<Item> items) {
+    }
+
+    public record Item(long productId, int quantity, double price) {
+    }
+
+    private final long seed;
+    private final int categories;
+    private final long products;
+    private final long users;
+    private final int maxItemsPerOrder;
+    private final Zipf brands;
+    private final Zipf suffixes;
+    private final Zipf categoryPopularity;
+    private final Zipf productPopularity;
+    private final Zipf buyerActivity;
+    private final long popularityStride;
+
+    public CatalogGenerator(SeedSettings settings) {
+        this.seed = settings.seed();
+        this.categories = settings.categories();
+        this.products = settings.products();
+        this.users = settings.users();
+        this.maxItemsPerOrder = settings.maxItemsPerOrder();
+        this.brands = new Zipf(BRANDS.length, 1.0);
+        this.suffixes = new Zipf(SUFFIXES.length, 1.2);
+        this.categoryPopularity = new Zipf(categories, 0.8);
+        this.productPopularity = new Zipf(Math.max(1, products), settings.zipfExponent());
+        this.buyerActivity = new Zipf(Math.max(1, users), 0.6);
+        this.popularityStride = coprimeStride(Math.max(1, products), seed);
+    }
+
+    public Category category(long id) {
+        int index = (int) (id - 1);
+        String name = index < CATEGORY_NAMES.length ? CATEGORY_NAMES[index] : "Category " + id;
+        return new Category(id, name);
+    }
+
+    public Product product(long id) {
+        SplittableRandom random = random(PRODUCT_STREAM, id);
+        long primary = categoryPopularity.sample(random);
+        List<Long> categoryIds = new ArrayList<>(2);
+        categoryIds.add(primary);
+        if (categories > 1 && random.nextInt(5) == 0) {
+            long secondary = 1 + random.nextLong(categories - 1);
+            categoryIds.add(secondary >= primary ? secondary + 1 : secondary);
+        }
+        int categoryIndex = (int) (primary - 1);
+        String[] nouns = categoryIndex < NOUNS.length ? NOUNS[categoryIndex] : GENERIC_NOUNS;
+        String brand = BRANDS[(int) brands.sample(random) - 1];
+        String noun = nouns[random.nextInt(nouns.length)];
+        StringBuilder name = new StringBuilder(brand).append(' ').append(noun);
+        if (random.nextBoolean()) {
+            name.append(' ').append(SUFFIXES[(int) suffixes.sample(random) - 1]);
+        }
+        name.append(' ').append(100 + random.nextInt(900));
+        double basePrice = CATEGORY_BASE_PRICES[categoryIndex % CATEGORY_BASE_PRICES.length];
+        // log-normal around the category's typical price
+        double price = Math.max(0.99, Math.round(basePrice * Math.exp(0.5 * random.nextGaussian()) * 100) / 100.0);
+        String description = String.format("%s %s by %s, generated for load tests.", noun,
+                name.substring(brand.length() + noun.length() + 2), brand);
+        return new Product(id, name.toString(), description, price,
+                String.format("https://img.dscommerce.test/products/%d.jpg", id), List.copyOf(categoryIds));
+    }
+
+    public User user(long id) {
+        SplittableRandom random = random(USER_STREAM, id);
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String phone = String.format("9%08d", random.nextInt(100_000_000));
+        LocalDate birthDate = LocalDate.of(1950, 1, 1).plusDays(random.nextInt(55 * 365));
+        return new User(id, name, String.format("user%d@seed.dscommerce.test", id), phone, birthDate);
+    }
+
+    /**
+     * An order of the generated users over the generated products. {@code productIds} maps a product number
+     * ({@code 1..products}) to the id the product has in the target, for when ids are assigned by the server.
+     */
+    public Order order(long id, ProductIds productIds) {
+        SplittableRandom random = random(ORDER_STREAM, id);
+        Instant moment = FIRST_ORDER.plusSeconds(random.nextLong(ORDER_SPAN_SECONDS));
+        int status = orderStatus(random);
+        long clientId = buyerActivity.sample(random);
+        int itemCount = 1 + random.nextInt(Math.min(maxItemsPerOrder, (int) Math.min(Integer.MAX_VALUE, products)));
+        List<Item> items = new ArrayList<>(itemCount);
+        long[] chosen = new long[itemCount];
+        while (items.size() < itemCount) {
+            long number = popularProduct(random);
+            if (contains(chosen, items.size(), number)) {
+                continue;
+            }
+            chosen[items.size()] = number;
+            items.add(new Item(productIds.id(number), 1 + random.nextInt(5), product(number).price()));
+        }
+        return new Order(id, moment, status, clientId, items);
+    }
+
+    /**
+     * Product number ({@code 1..products}) of the given popularity rank: rank 1 is the best seller.
+     */
+    long productOfRank(long rank) {
+        return Math.floorMod((rank - 1) * popularityStride, Math.max(1, products)) + 1;
+    }
+
+    /**
+     * Maps product numbers to the ids of the products in the target.
+     */
+    @FunctionalInterface
+    public interface ProductIds {
+
+        ProductIds SAME = number -> number;
+
+        long id(long number);
+
+    }
+
+    private long popularProduct(SplittableRandom random) {
+        return productOfRank(productPopularity.sample(random));
+    }
+
+    /**
+     * Ordinal of {@code OrderStatus}: most orders of the past year are delivered.
+     */
+    private static int orderStatus(SplittableRandom random) {
+        int ticket = random.nextInt(100);
+        if (ticket < 8) {
+            return 0;
+        }
+        if (ticket < 20) {
+            return 1;
+        }
+        if (ticket < 30) {
+            return 2;
+        }
+        return ticket < 95 ? 3 : 4;
+    }
+
+    private SplittableRandom random(long stream, long id) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + stream * 0xC2B2AE3D27D4EB4FL + id);
+    }
+
+    private static boolean contains(long[] values, int length, long value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A multiplier coprime to {@code n}, so that multiplying ranks by it permutes {@code 0..n-1}.
+     */
+    private static long coprimeStride(long n, long seed) {
+        if (n == 1) {
+            return 1;
+        }
+        long stride = Math.floorMod(new SplittableRandom(seed).nextLong(), n - 1) + 1;
+        while (gcd(stride, n) != 1) {
+            stride = stride % (n - 1) + 1;
+        }
+        return stride;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.learning.seed;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.learning.seed.CatalogGenerator.Item;
+import com.learning.seed.CatalogGenerator.Order;
+import com.learning.seed.CatalogGenerator.Product;
+
+public class CatalogGeneratorTest {
+
+    private static SeedSettings settings(long seed, long products) {
+        return new SeedSettings(seed, 3, products, 100, 1_000, 4, 1.0, SeedSettings.Mode.SQL, Path.of("seed.sql"),
+                500, 1);
+    }
+
+    @Test
+    public void sameSeedShouldGenerateSameRowsInAnyOrder() {
+        CatalogGenerator first = new CatalogGenerator(settings(42, 1_000));
+        CatalogGenerator second = new CatalogGenerator(settings(42, 1_000));
+
+        assertThat(second.order(500, CatalogGenerator.ProductIds.SAME))
+                .isEqualTo(first.order(500, CatalogGenerator.ProductIds.SAME));
+        for (long id = 1_000; id >= 1; id--) {
+            assertThat(second.product(id)).isEqualTo(first.product(id));
+        }
+        assertThat(new CatalogGenerator(settings(7, 1_000)).product(1)).isNotEqualTo(first.product(1));
+    }
+
+    @Test
+    public void productsShouldPassTheApiValidation() {
+        CatalogGenerator generator = new CatalogGenerator(settings(42, 5_000));
+
+        for (long id = 1; id <= 5_000; id++) {
+            Product product = generator.product(id);
+            assertThat(product.name()).hasSizeBetween(3, 80);
+            assertThat(product.description()).hasSizeGreaterThanOrEqualTo(10);
+            assertThat(product.price()).isPositive();
+            assertThat(product.categoryIds()).isNotEmpty().doesNotHaveDuplicates().allMatch(c -> c >= 1 && c <= 3);
+        }
+    }
+
+    @Test
+    public void ordersShouldHaveDistinctExistingProducts() {
+        CatalogGenerator generator = new CatalogGenerator(settings(42, 50));
+
+        for (long id = 1; id <= 1_000; id++) {
+            Order order = generator.order(id, CatalogGenerator.ProductIds.SAME);
+            assertThat(order.items()).hasSizeBetween(1, 4);
+            assertThat(order.items()).extracting(Item::productId).doesNotHaveDuplicates()
+                    .allMatch(p -> p >= 1 && p <= 50);
+            assertThat(order.clientId()).isBetween(1L, 100L);
+        }
+    }
+
+    @Test
+    public void popularityRanksShouldPermuteTheProducts() {
+        CatalogGenerator generator = new CatalogGenerator(settings(42, 1_000));
+
+        assertThat(LongStream.rangeClosed(1, 1_000).map(generator::productOfRank).distinct().count())
+                .isEqualTo(1_000);
+    }
+
+    @Test
+    public void zipfShouldDrawRankOneTwiceAsOftenAsRankTwo() {
+        Zipf zipf = new Zipf(1_000_000, 1.0);
+        SplittableRandom random = new SplittableRandom(1);
+        long[] counts = new long[4];
+
+        for (int i = 0; i < 200_000; i++) {
+            long rank = zipf.sample(random);
+            if (rank < counts.length) {
+                counts[(int) rank]++;
+            }
+        }
+
+        assertThat((double) counts[1] / counts[2]).isCloseTo(2.0, within(0.1));
+        assertThat((double) counts[1] / counts[3]).isCloseTo(3.0, within(0.2));
+    }
+
+}
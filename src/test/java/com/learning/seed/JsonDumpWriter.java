@@ -0,0 +1,76 @@
+package com.learning.seed;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.LongFunction;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Writes the generated data as one JSON document with an array per table, one row per line. Rows are the
+ * {@link CatalogGenerator} records; an order's {@code status} is the ordinal of {@code OrderStatus}.
+ */
+class JsonDumpWriter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final CatalogGenerator generator;
+    private final SeedSettings settings;
+
+    JsonDumpWriter(CatalogGenerator generator, SeedSettings settings) {
+        this.generator = generator;
+        this.settings = settings;
+    }
+
+    void write(Path file, SeedProgress progress) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                    ParallelRows rows = new ParallelRows(settings.threads(), progress)) {
+                out.write("{\"seed\": " + settings.seed() + ",\n\"categories\": [\n");
+                rows.write(out, "categories", settings.categories(), settings.batchSize(), ",\n",
+                        (first, last) -> render(first, last, generator::category));
+                out.write("],\n\"products\": [\n");
+                rows.write(out, "products", settings.products(), settings.batchSize(), ",\n",
+                        (first, last) -> render(first, last, generator::product));
+                out.write("],\n\"users\": [\n");
+                rows.write(out, "users", settings.users(), settings.batchSize(), ",\n",
+                        (first, last) -> render(first, last, generator::user));
+                out.write("],\n\"orders\": [\n");
+                rows.write(out, "orders", settings.orders(), settings.batchSize(), ",\n",
+                        (first, last) -> render(first, last,
+                                id -> generator.order(id, CatalogGenerator.ProductIds.SAME)));
+                out.write("]}\n");
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + file, e);
+        }
+    }
+
+    private static String render(long firstId, long lastId, LongFunction<?> row) {
+        StringBuilder chunk = new StringBuilder();
+        try {
+            for (long id = firstId; id <= lastId; id++) {
+                if (id > firstId) {
+                    chunk.append(",\n");
+                }
+                chunk.append(MAPPER.writeValueAsString(row.apply(id)));
+            }
+        }
+        catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize row " + firstId, e);
+        }
+        return chunk.toString();
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.learning.seed;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Renders the rows of a dump in chunks on several threads and writes the chunks in id order. At most two
+ * chunks per thread are held in memory, so a dump of any size streams to the file.
+ */
+class ParallelRows implements AutoCloseable {
+
+    /**
+     * Text of the rows {@code firstId..lastId}, both included.
+     */
+    @FunctionalInterface
+    interface ChunkRenderer {
+
+        String render(long firstId, long lastId);
+
+    }
+
+    private final ExecutorService pool;
+    private final int window;
+    private final SeedProgress progress;
+
+    ParallelRows(int threads, SeedProgress progress) {
+        this.pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "seed-render");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.window = threads * 2;
+        this.progress = progress;
+    }
+
+    /**
+     * Writes rows {@code 1..count} of a table, {@code chunkRows} per chunk, with {@code separator} between
+     * two chunks.
+     */
+    void write(Writer out, String table, long count, int chunkRows, String separator, ChunkRenderer renderer) {
+        progress.begin(table, count);
+        Deque<Chunk> pending = new ArrayDeque<>();
+        long next = 1;
+        boolean first = true;
+        try {
+            while (next <= count || !pending.isEmpty()) {
+                while (next <= count && pending.size() < window) {
+                    long firstId = next;
+                    long lastId = Math.min(count, next + chunkRows - 1);
+                    pending.add(new Chunk(pool.submit(() -> renderer.render(firstId, lastId)), lastId - firstId + 1));
+                    next = lastId + 1;
+                }
+                Chunk chunk = pending.poll();
+                String text = chunk.text.get();
+                if (!first) {
+                    out.write(separator);
+                }
+                out.write(text);
+                first = false;
+                progress.add(chunk.rows);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException("Could not render " + table, e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing " + table, e);
+        }
+        progress.end();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private record Chunk(Future<String> text, long rows) {
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.learning.seed;
+
+import java.io.PrintStream;
+
+import com.learning.RequestSpecs;
+import com.learning.async.AsyncHttp;
+import com.learning.async.AsyncSettings;
+
+/**
+ * Entry point of the data seeder: generates a catalog and orders from {@code seed.*} settings and either
+ * inserts them into the running server or writes them to a SQL or JSON dump, reporting rows/s as it goes.
+ *
+ * <pre>
+ * mvn -Pload test-compile exec:java -Dexec.mainClass=com.learning.seed.SeedGenerator -Dseed.products=5000 -Dseed.orders=2000
+ * mvn -Pload test-compile exec:java -Dexec.mainClass=com.learning.seed.SeedGenerator -Dseed.mode=sql -Dseed.products=1000000
+ * </pre>
+ */
+public class SeedGenerator {
+
+    public static void main(String[] args) {
+        SeedSettings settings = SeedSettings.fromSystemProperties();
+        PrintStream out = System.out;
+        CatalogGenerator generator = new CatalogGenerator(settings);
+        String target = settings.mode() == SeedSettings.Mode.API ? RequestSpecs.baseUri()
+                : settings.output().toString();
+        out.printf("Seeding %s (seed %d): %d categories, %,d products, %,d users, %,d orders, zipf %.2f%n", target,
+                settings.seed(), settings.categories(), settings.products(), settings.users(), settings.orders(),
+                settings.zipfExponent());
+        try (SeedProgress progress = new SeedProgress(out)) {
+            switch (settings.mode()) {
+                case API -> {
+                    try (AsyncHttp http = new AsyncHttp(RequestSpecs.baseUri(), AsyncSettings.fromSystemProperties(),
+                            null)) {
+                        new ApiSeeder(generator, settings, http).seed(progress);
+                    }
+                }
+                case SQL -> new SqlDumpWriter(generator, settings).write(settings.output(), progress);
+                case JSON -> new JsonDumpWriter(generator, settings).write(settings.output(), progress);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.learning.seed;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rows/s of a seeding run: prints the progress of the table being seeded every second, and the rate of
+ * every table at the end. Tables are seeded one after the other.
+ */
+public class SeedProgress implements AutoCloseable {
+
+    private final PrintStream out;
+    private final ScheduledExecutorService ticker;
+    private final List<String> finished = new ArrayList<>();
+    private final long runStart = System.nanoTime();
+    private volatile Table current;
+    private long totalRows;
+
+    public SeedProgress(PrintStream out) {
+        this.out = out;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "seed-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, 1, 1, TimeUnit.SECONDS);
+    }
+
+    public void begin(String table, long expectedRows) {
+        current = new Table(table, expectedRows, System.nanoTime());
+    }
+
+    public void add(long rows) {
+        current.rows.add(rows);
+    }
+
+    public void failed(long rows) {
+        current.failures.add(rows);
+    }
+
+    /**
+     * Ends the current table and prints its rate.
+     */
+    public void end() {
+        Table table = current;
+        current = null;
+        long rows = table.rows.sum();
+        double seconds = (System.nanoTime() - table.startNanos) / 1e9;
+        totalRows += rows;
+        String line = String.format("%-10s %,12d rows in %6.1f s  %,10.0f rows/s%s", table.name, rows, seconds,
+                rows / Math.max(seconds, 1e-9), failures(table));
+        finished.add(line);
+        out.println(line);
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+        double seconds = (System.nanoTime() - runStart) / 1e9;
+        out.println("Seeded:");
+        finished.forEach(line -> out.println("  " + line));
+        out.printf("  %-10s %,12d rows in %6.1f s  %,10.0f rows/s%n", "total", totalRows, seconds,
+                totalRows / Math.max(seconds, 1e-9));
+    }
+
+    private void tick() {
+        Table table = current;
+        if (table == null) {
+            return;
+        }
+        long rows = table.rows.sum();
+        long now = System.nanoTime();
+        double rate = (rows - table.lastRows) / ((now - table.lastNanos) / 1e9);
+        table.lastRows = rows;
+        table.lastNanos = now;
+        out.printf("  %s: %,d / %,d rows, %,.0f rows/s%s%n", table.name, rows, table.expectedRows, rate,
+                failures(table));
+    }
+
+    private static String failures(Table table) {
+        long failures = table.failures.sum();
+        return failures == 0 ? "" : String.format(", %,d failed", failures);
+    }
+
+    private static final class Table {
+
+        private final String name;
+        private final long expectedRows;
+        private final long startNanos;
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private long lastRows;
+        private long lastNanos;
+
+        private Table(String name, long expectedRows, long startNanos) {
+            this.name = name;
+            this.expectedRows = expectedRows;
+            this.startNanos = startNanos;
+            this.lastNanos = startNanos;
+        }
+
+    }
+
+}
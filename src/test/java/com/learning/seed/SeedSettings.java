@@ -0,0 +1,72 @@
+package com.learning.seed;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Settings of a seeding run, read from {@code seed.*} system properties.
+ *
+ * @param seed             seed of the generator; the same seed and counts always produce the same data
+ * @param categories       categories products are spread over. The API cannot create categories, so when
+ *                         seeding through it they must already exist with ids {@code 1..categories}
+ * @param products         products to generate
+ * @param users            client users to generate; only written to dumps, the API cannot create users
+ * @param orders           orders to generate
+ * @param maxItemsPerOrder most distinct products in one order
+ * @param zipfExponent     skew of product popularity in orders: 1 is a classic Zipf law where the best
+ *                         seller is in twice as many orders as the second, values near 0 approach uniform
+ * @param mode             {@link Mode#API} posts to the running server, {@link Mode#SQL} and
+ *                         {@link Mode#JSON} write a dump to {@code output}
+ * @param output           dump file, {@code target/seed/seed.sql} or {@code .json} by default
+ * @param batchSize        rows per {@code INSERT} statement in SQL mode, requests in flight in API mode
+ * @param threads          threads generating rows of a dump in parallel
+ */
+public record SeedSettings(long seed, int categories, long products, long users, long orders, int maxItemsPerOrder,
+        double zipfExponent, Mode mode, Path output, int batchSize, int threads) {
+
+    public enum Mode {
+        API, SQL, JSON
+    }
+
+    public SeedSettings {
+        if (categories < 1) {
+            throw new IllegalArgumentException("seed.categories must be at least 1");
+        }
+        if (products < 1) {
+            throw new IllegalArgumentException("seed.products must be at least 1");
+        }
+        if (users < 0 || orders < 0) {
+            throw new IllegalArgumentException("seed.users and seed.orders must not be negative");
+        }
+        if (orders > 0 && users < 1 && mode != Mode.API) {
+            throw new IllegalArgumentException("seed.orders needs seed.users in a dump");
+        }
+        if (maxItemsPerOrder < 1) {
+            throw new IllegalArgumentException("seed.maxItemsPerOrder must be at least 1");
+        }
+        if (zipfExponent <= 0) {
+            throw new IllegalArgumentException("seed.zipfExponent must be positive");
+        }
+        if (batchSize < 1 || threads < 1) {
+            throw new IllegalArgumentException("seed.batchSize and seed.threads must be at least 1");
+        }
+    }
+
+    public static SeedSettings fromSystemProperties() {
+        Mode mode = Mode.valueOf(System.getProperty("seed.mode", "api").toUpperCase(Locale.ROOT));
+        String defaultOutput = "target/seed/seed." + (mode == Mode.JSON ? "json" : "sql");
+        return new SeedSettings(
+                Long.getLong("seed.seed", 42),
+                Integer.getInteger("seed.categories", 3),
+                Long.getLong("seed.products", 10_000),
+                Long.getLong("seed.users", 1_000),
+                Long.getLong("seed.orders", 20_000),
+                Integer.getInteger("seed.maxItemsPerOrder", 4),
+                Double.parseDouble(System.getProperty("seed.zipfExponent", "1.0")),
+                mode,
+                Path.of(System.getProperty("seed.output", defaultOutput)),
+                Integer.getInteger("seed.batchSize", 500),
+                Integer.getInteger("seed.threads", Runtime.getRuntime().availableProcessors()));
+    }
+
+}
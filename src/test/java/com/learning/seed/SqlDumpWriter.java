@@ -0,0 +1,152 @@
+package com.learning.seed;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import com.learning.seed.CatalogGenerator.Item;
+import com.learning.seed.CatalogGenerator.Order;
+import com.learning.seed.CatalogGenerator.Product;
+import com.learning.seed.CatalogGenerator.User;
+
+/**
+ * Writes the generated data as SQL for the schema of the DSCommerce backend, in the style of its
+ * {@code import.sql}: multi-row {@code INSERT}s of {@code batchSize} rows with explicit ids, to be loaded into
+ * an empty schema instead of the fixtures. Every user is a client with password {@code 123456}; user 1 is
+ * also an admin. The identity columns are restarted after the last id so that rows the application inserts
+ * later do not collide; the syntax is accepted by H2 and PostgreSQL.
+ */
+class SqlDumpWriter {
+
+    // bcrypt of "123456", the password of the fixture users
+    private static final String PASSWORD_HASH = "$2a$10$eACCYoNOHEqXve8aIWT8Nu3PkMXWBaOxJ9aORUYzfMQCbVBIhZ8tG";
+
+    private final CatalogGenerator generator;
+    private final SeedSettings settings;
+
+    SqlDumpWriter(CatalogGenerator generator, SeedSettings settings) {
+        this.generator = generator;
+        this.settings = settings;
+    }
+
+    void write(Path file, SeedProgress progress) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                    ParallelRows rows = new ParallelRows(settings.threads(), progress)) {
+                out.write(String.format("-- seed %d: %d categories, %d products, %d users, %d orders%n",
+                        settings.seed(), settings.categories(), settings.products(), settings.users(),
+                        settings.orders()));
+                out.write("INSERT INTO tb_role (id, authority) VALUES (1, 'ROLE_CLIENT'), (2, 'ROLE_ADMIN');\n");
+                rows.write(out, "categories", settings.categories(), settings.batchSize(), "", this::categories);
+                rows.write(out, "products", settings.products(), settings.batchSize(), "", this::products);
+                rows.write(out, "users", settings.users(), settings.batchSize(), "", this::users);
+                if (settings.users() > 0) {
+                    out.write("INSERT INTO tb_user_role (user_id, role_id) VALUES (1, 2);\n");
+                }
+                rows.write(out, "orders", settings.orders(), settings.batchSize(), "", this::orders);
+                restart(out, "tb_category", settings.categories());
+                restart(out, "tb_product", settings.products());
+                restart(out, "tb_user", settings.users());
+                restart(out, "tb_order", settings.orders());
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + file, e);
+        }
+    }
+
+    private String categories(long firstId, long lastId) {
+        Statement categories = new Statement("tb_category (id, name)");
+        for (long id = firstId; id <= lastId; id++) {
+            categories.row(id, quote(generator.category(id).name()));
+        }
+        return categories.toString();
+    }
+
+    private String products(long firstId, long lastId) {
+        Statement products = new Statement("tb_product (id, name, description, price, img_url)");
+        Statement productCategories = new Statement("tb_product_category (product_id, category_id)");
+        for (long id = firstId; id <= lastId; id++) {
+            Product product = generator.product(id);
+            products.row(id, quote(product.name()), quote(product.description()), price(product.price()),
+                    quote(product.imgUrl()));
+            for (long categoryId : product.categoryIds()) {
+                productCategories.row(id, categoryId);
+            }
+        }
+        return products.toString() + productCategories;
+    }
+
+    private String users(long firstId, long lastId) {
+        Statement users = new Statement("tb_user (id, name, email, phone, birth_date, password)");
+        Statement userRoles = new Statement("tb_user_role (user_id, role_id)");
+        for (long id = firstId; id <= lastId; id++) {
+            User user = generator.user(id);
+            users.row(id, quote(user.name()), quote(user.email()), quote(user.phone()),
+                    "DATE '" + user.birthDate() + "'", quote(PASSWORD_HASH));
+            userRoles.row(id, 1);
+        }
+        return users.toString() + userRoles;
+    }
+
+    private String orders(long firstId, long lastId) {
+        Statement orders = new Statement("tb_order (id, moment, status, client_id)");
+        Statement items = new Statement("tb_order_item (order_id, product_id, quantity, price)");
+        for (long id = firstId; id <= lastId; id++) {
+            Order order = generator.order(id, CatalogGenerator.ProductIds.SAME);
+            orders.row(id, "TIMESTAMP WITH TIME ZONE '" + order.moment() + "'", order.status(), order.clientId());
+            for (Item item : order.items()) {
+                items.row(id, item.productId(), item.quantity(), price(item.price()));
+            }
+        }
+        return orders.toString() + items;
+    }
+
+    private static void restart(Writer out, String table, long lastId) throws IOException {
+        out.write(String.format("ALTER TABLE %s ALTER COLUMN id RESTART WITH %d;%n", table, lastId + 1));
+    }
+
+    private static String quote(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+
+    private static String price(double price) {
+        return String.format(Locale.ROOT, "%.2f", price);
+    }
+
+    /**
+     * One multi-row {@code INSERT}.
+     */
+    private static final class Statement {
+
+        private final String table;
+        private final StringBuilder values = new StringBuilder();
+
+        private Statement(String table) {
+            this.table = table;
+        }
+
+        private void row(Object... columns) {
+            values.append(values.isEmpty() ? "INSERT INTO " + table + " VALUES\n(" : ",\n(");
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    values.append(", ");
+                }
+                values.append(columns[i]);
+            }
+            values.append(')');
+        }
+
+        @Override
+        public String toString() {
+            return values.isEmpty() ? "" : values + ";\n";
+        }
+
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.learning.soak;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+import com.learning.metrics.ServerInterval;
+import com.learning.soak.SoakRecorder.WindowStats;
+
+/**
+ * Turns the buckets and windows of a soak run into a {@link SoakVerdict}. A scenario drifts when its p99
+ * grew from the early to the late window by more than {@code maxP99Increase} and by at least
+ * {@code minP99IncreaseMillis}, or when its error rate grew by more than {@code maxErrorRateIncrease}.
+ * Trend lines are fitted for the overall p99 and error rate and for the server gauges that leak: heap, live
+ * data after GC, threads, loaded classes and open connections.
+ */
+class SoakAnalysis {
+
+    private static final double MEGABYTE = 1024 * 1024;
+
+    private final SoakSettings settings;
+
+    SoakAnalysis(SoakSettings settings) {
+        this.settings = settings;
+    }
+
+    SoakVerdict analyze(List<SoakBucket> buckets, List<WindowStats> early, List<WindowStats> late) {
+        Map<String, WindowStats> lateByName = late.stream()
+                .collect(Collectors.toMap(WindowStats::name, Function.identity()));
+        List<SoakVerdict.Drift> drifts = new ArrayList<>();
+        for (WindowStats before : early) {
+            WindowStats after = lateByName.get(before.name());
+            if (after != null) {
+                drifts.add(drift(before, after));
+            }
+        }
+        return new SoakVerdict(drifts, trends(buckets));
+    }
+
+    private SoakVerdict.Drift drift(WindowStats early, WindowStats late) {
+        boolean p99Compared = early.requests() >= settings.minWindowRequests()
+                && late.requests() >= settings.minWindowRequests();
+        double increase = late.p99Millis() - early.p99Millis();
+        boolean p99Drifted = p99Compared && increase >= settings.minP99IncreaseMillis()
+                && increase > early.p99Millis() * settings.maxP99Increase();
+        boolean errorRateDrifted = late.requests() > 0
+                && late.errorRate() - early.errorRate() > settings.maxErrorRateIncrease();
+        return new SoakVerdict.Drift(early.name(), early.requests(), late.requests(), early.p99Millis(),
+                late.p99Millis(), early.errorRate(), late.errorRate(), p99Compared, p99Drifted, errorRateDrifted);
+    }
+
+    static List<Trend> trends(List<SoakBucket> buckets) {
+        double[] hours = buckets.stream().mapToDouble(SoakBucket::midpointHours).toArray();
+        List<Trend> trends = new ArrayList<>();
+        add(trends, Trend.fit("total p99", "ms", hours, values(buckets,
+                bucket -> bucket.total().requests() == 0 ? Double.NaN : bucket.total().p99Millis())));
+        add(trends, Trend.fit("total error rate", "%", hours, values(buckets,
+                bucket -> bucket.total().requests() == 0 ? Double.NaN : bucket.total().errorRate() * 100)));
+        add(trends, Trend.fit("server heap used", "MB", hours, server(buckets, ServerInterval::heapUsedBytes,
+                MEGABYTE)));
+        // zero until the first major GC
+        add(trends, Trend.fit("server live data after GC", "MB", hours, server(buckets,
+                interval -> positive(interval.liveDataBytes()), MEGABYTE)));
+        add(trends, Trend.fit("server live threads", "threads", hours, server(buckets, ServerInterval::liveThreads,
+                1)));
+        add(trends, Trend.fit("server loaded classes", "classes", hours, server(buckets,
+                ServerInterval::loadedClasses, 1)));
+        add(trends, Trend.fit("server open connections", "connections", hours, server(buckets,
+                ServerInterval::openConnections, 1)));
+        add(trends, Trend.fit("server pool active", "connections", hours, server(buckets,
+                ServerInterval::poolActive, 1)));
+        return trends;
+    }
+
+    private static void add(List<Trend> trends, Trend trend) {
+        if (trend != null) {
+            trends.add(trend);
+        }
+    }
+
+    private static double[] values(List<SoakBucket> buckets, ToDoubleFunction<SoakBucket> metric) {
+        return buckets.stream().mapToDouble(metric).toArray();
+    }
+
+    /**
+     * A server gauge per bucket in the given unit, {@code NaN} where it was not scraped.
+     */
+    private static double[] server(List<SoakBucket> buckets, Function<ServerInterval, Double> gauge, double unit) {
+        return values(buckets, bucket -> {
+            Double value = bucket.server() == null ? null : gauge.apply(bucket.server());
+            return value == null ? Double.NaN : value / unit;
+        });
+    }
+
+    private static Double positive(Double value) {
+        return value == null || value <= 0 ? null : value;
+    }
+
+}
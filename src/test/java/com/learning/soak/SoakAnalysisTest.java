@@ -0,0 +1,97 @@
+package com.learning.soak;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.learning.soak.SoakRecorder.WindowStats;
+
+public class SoakAnalysisTest {
+
+    private static final SoakSettings SETTINGS = new SoakSettings(10, Duration.ofHours(1), 100, Duration.ofMinutes(1),
+            Duration.ofMinutes(10), 0.25, 5, 0.01, 100);
+
+    @Test
+    public void trendShouldFitALine() {
+        Trend trend = Trend.fit("heap", "MB", new double[] { 0, 1, 2, 3 }, new double[] { 100, 110, 120, 130 });
+
+        assertThat(trend.slopePerHour()).isCloseTo(10, within(1e-9));
+        assertThat(trend.mean()).isCloseTo(115, within(1e-9));
+        assertThat(trend.growth()).isCloseTo(30.0 / 115, within(1e-9));
+        assertThat(trend.r2()).isCloseTo(1, within(1e-9));
+    }
+
+    @Test
+    public void trendShouldSkipMissingValues() {
+        Trend trend = Trend.fit("heap", "MB", new double[] { 0, 1, 2, 3, 4 },
+                new double[] { 5, Double.NaN, 5, 5, Double.NaN });
+
+        assertThat(trend.points()).isEqualTo(3);
+        assertThat(trend.slopePerHour()).isZero();
+        assertThat(Trend.fit("heap", "MB", new double[] { 0, 1 }, new double[] { 1, 2 })).isNull();
+    }
+
+    @Test
+    public void runShouldFailWhenP99DriftsBeyondBothThresholds() {
+        SoakVerdict verdict = analyze(new WindowStats("GET /products", 1_000, 0, 20),
+                new WindowStats("GET /products", 1_000, 0, 30));
+
+        assertThat(verdict.isFailed()).isTrue();
+        assertThat(verdict.drifts().get(0).p99Drifted()).isTrue();
+        assertThat(verdict.drifts().get(0).p99Change()).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    public void smallAbsoluteIncreaseOfAFastEndpointShouldNotFail() {
+        // doubles, but only by 2 ms
+        SoakVerdict verdict = analyze(new WindowStats("GET /products/{id}", 1_000, 0, 2),
+                new WindowStats("GET /products/{id}", 1_000, 0, 4));
+
+        assertThat(verdict.isFailed()).isFalse();
+    }
+
+    @Test
+    public void p99OfAWindowWithTooFewRequestsShouldNotBeCompared() {
+        SoakVerdict verdict = analyze(new WindowStats("GET /users/me", 50, 0, 20),
+                new WindowStats("GET /users/me", 50, 0, 200));
+
+        assertThat(verdict.isFailed()).isFalse();
+        assertThat(verdict.drifts().get(0).p99Compared()).isFalse();
+    }
+
+    @Test
+    public void runShouldFailWhenErrorRateDrifts() {
+        SoakVerdict verdict = analyze(new WindowStats("POST /orders", 1_000, 2, 20),
+                new WindowStats("POST /orders", 1_000, 30, 20));
+
+        assertThat(verdict.isFailed()).isTrue();
+        assertThat(verdict.drifts().get(0).errorRateDrifted()).isTrue();
+        assertThat(verdict.drifts().get(0).p99Drifted()).isFalse();
+    }
+
+    @Test
+    public void trendsShouldFollowTheBucketsAndSkipEmptyOnes() {
+        List<SoakBucket> buckets = new ArrayList<>();
+        for (int minute = 0; minute < 60; minute++) {
+            long requests = minute == 30 ? 0 : 600;
+            buckets.add(new SoakBucket(minute * 60_000L, (minute + 1) * 60_000L,
+                    new SoakBucket.Endpoint(SoakRecorder.TOTAL, requests, 0, 5, 10 + minute / 6.0, 50), List.of(),
+                    null));
+        }
+
+        Trend p99 = SoakAnalysis.trends(buckets).get(0);
+
+        assertThat(p99.metric()).isEqualTo("total p99");
+        assertThat(p99.points()).isEqualTo(59);
+        assertThat(p99.slopePerHour()).isCloseTo(10, within(0.01));
+    }
+
+    private static SoakVerdict analyze(WindowStats early, WindowStats late) {
+        return new SoakAnalysis(SETTINGS).analyze(List.of(), List.of(early), List.of(late));
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.learning.soak;
+
+import java.util.List;
+
+import com.learning.metrics.ServerInterval;
+
+/**
+ * One time bucket of a soak run. Offsets are relative to the start of the run; latencies are in
+ * milliseconds and measured from the intended send time. {@code server} is {@code null} when server
+ * metrics are not scraped or the scrape failed.
+ */
+public record SoakBucket(long startMillis, long endMillis, Endpoint total, List<Endpoint> endpoints,
+        ServerInterval server) {
+
+    /**
+     * Requests of one scenario, or of all of them, completed in the bucket. Errors include arrivals dropped
+     * over the in-flight limit.
+     */
+    public record Endpoint(String name, long requests, long errors, double p50Millis, double p99Millis,
+            double maxMillis) {
+
+        public double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+    }
+
+    public double midpointHours() {
+        return (startMillis + endMillis) / 2.0 / 3_600_000;
+    }
+
+}
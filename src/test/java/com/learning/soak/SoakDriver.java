@@ -0,0 +1,140 @@
+package com.learning.soak;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.learning.load.ArrivalSchedule;
+import com.learning.load.Scenario;
+import com.learning.load.ScenarioPicker;
+import com.learning.metrics.ServerInterval;
+import com.learning.metrics.ServerMetrics;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Soak driver: the open-model {@link ArrivalSchedule} of the open-loop driver, run for hours
+ * and reported in time buckets. At the end of every bucket the latencies and errors of the bucket are
+ * drained, the server is scraped for its JVM gauges, and the bucket is handed to a listener as it closes,
+ * so a degradation is visible while the run goes on. Latency is measured from the intended send time.
+ */
+public class SoakDriver {
+
+    private final SoakSettings settings;
+
+    public SoakDriver(SoakSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Runs the schedule. {@code serverMetrics} may be {@code null} when the server is not scraped.
+     */
+    public SoakResult run(List<Scenario> scenarios, ServerMetrics serverMetrics, Consumer<SoakBucket> onBucket) {
+        SoakRecorder recorder = new SoakRecorder(
+                new ScenarioPicker<>(scenarios).scenarios().stream().map(Scenario::name).toList());
+        Buckets buckets = new Buckets(recorder, serverMetrics, onBucket);
+        ArrivalSchedule schedule = new ArrivalSchedule(settings.intervalNanos(), settings.duration(),
+                settings.maxInFlight(), false);
+
+        buckets.start();
+        ArrivalSchedule.Outcome outcome = schedule.run(scenarios, new ArrivalSchedule.Arrivals() {
+
+            @Override
+            public void send(RequestSpecification spec, Scenario scenario, long intendedNanos) {
+                SoakDriver.send(spec, scenario, intendedNanos, recorder);
+            }
+
+            @Override
+            public void dropped(Scenario scenario) {
+                recorder.dropped(scenario.name());
+            }
+        });
+        List<SoakBucket> closed = buckets.finish();
+        SoakVerdict verdict = new SoakAnalysis(settings).analyze(closed, recorder.early(), recorder.late());
+        return new SoakResult(outcome.elapsed(), outcome.scheduled(), outcome.dropped(), closed, verdict);
+    }
+
+    private static void send(RequestSpecification spec, Scenario scenario, long intendedStart,
+            SoakRecorder recorder) {
+        boolean success;
+        try {
+            Response response = scenario.execute(spec);
+            success = response.statusCode() == scenario.expectedStatus();
+        }
+        catch (RuntimeException e) {
+            success = false;
+        }
+        recorder.record(scenario.name(), System.nanoTime() - intendedStart, success);
+    }
+
+    /**
+     * Closes a bucket every {@code soak.bucketSeconds} on its own thread. Bucket {@code k} belongs to the
+     * early window when it is one of the first {@code window / bucket}, and to the late window when it is one
+     * of the last; the tail that only collects responses after the schedule ended is late too.
+     */
+    private class Buckets {
+
+        private final SoakRecorder recorder;
+        private final ServerMetrics serverMetrics;
+        private final Consumer<SoakBucket> onBucket;
+        private final List<SoakBucket> closed = Collections.synchronizedList(new ArrayList<>());
+        private final long windowBuckets = settings.window().dividedBy(settings.bucket());
+        private final long scheduleBuckets = (settings.duration().toMillis() + settings.bucket().toMillis() - 1)
+                / settings.bucket().toMillis();
+        private ScheduledExecutorService ticker;
+        private long startMillis;
+        private long bucketStartMillis;
+        private long index;
+
+        Buckets(SoakRecorder recorder, ServerMetrics serverMetrics, Consumer<SoakBucket> onBucket) {
+            this.recorder = recorder;
+            this.serverMetrics = serverMetrics;
+            this.onBucket = onBucket;
+        }
+
+        void start() {
+            startMillis = System.currentTimeMillis();
+            if (serverMetrics != null) {
+                serverMetrics.start(startMillis);
+            }
+            ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "soak-buckets");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long bucketMillis = settings.bucket().toMillis();
+            ticker.scheduleAtFixedRate(this::close, bucketMillis, bucketMillis, TimeUnit.MILLISECONDS);
+        }
+
+        List<SoakBucket> finish() {
+            ticker.shutdown();
+            try {
+                ticker.awaitTermination(settings.bucket().toMillis(), TimeUnit.MILLISECONDS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            close();
+            return List.copyOf(closed);
+        }
+
+        private synchronized void close() {
+            ServerInterval server = serverMetrics == null ? null : serverMetrics.poll(startMillis);
+            long endMillis = System.currentTimeMillis() - startMillis;
+            boolean early = index < windowBuckets;
+            boolean late = index >= scheduleBuckets - windowBuckets;
+            SoakBucket bucket = recorder.close(bucketStartMillis, endMillis, server, early, late);
+            index++;
+            bucketStartMillis = endMillis;
+            closed.add(bucket);
+            onBucket.accept(bucket);
+        }
+
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.learning.soak;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.learning.RequestSpecs;
+import com.learning.TokenPool;
+import com.learning.load.DscommerceScenarios;
+import com.learning.load.Warmup;
+import com.learning.load.WarmupReport;
+import com.learning.load.WarmupSettings;
+import com.learning.metrics.LatencyReporting;
+import com.learning.metrics.ServerInterval;
+import com.learning.metrics.ServerMetrics;
+
+/**
+ * Entry point of the soak test: replays the default scenarios at a steady rate for hours, prints a line per
+ * time bucket, fits trend lines to latency, errors and the server's JVM gauges, and fails when p99 or the
+ * error rate drifted between the early and the late window. The buckets and the verdict are written to
+ * {@code soak.json} in the latency report directory, next to the HDR logs of the run.
+ *
+ * <pre>
+ * mvn -Pload test-compile exec:java -Dexec.mainClass=com.learning.soak.SoakGenerator -Dload.rate=50 -Dload.durationSeconds=14400
+ * </pre>
+ */
+public class SoakGenerator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    // a steady-rate run has no fixed number of clients to warm up with
+    private static final int WARMUP_THREADS = 4;
+
+    private static final String BUCKET_HEADER = "%8s %8s %7s %8s %8s %8s | %8s %8s %7s %6s%n";
+    private static final String BUCKET_ROW = "%8s %8.1f %6.2f%% %8.2f %8.2f %8.2f | %8s %8s %7s %6s%n";
+
+    public static void main(String[] args) {
+        SoakSettings settings = SoakSettings.fromSystemProperties();
+        PrintStream out = System.out;
+        out.printf("Soak against %s: %.1f req/s for %s, buckets of %s, comparing the first and last %s%n",
+                RequestSpecs.baseUri(), settings.ratePerSecond(), settings.duration(), settings.bucket(),
+                settings.window());
+        TokenPool clients = TokenPool.clients();
+        if (clients != null) {
+            out.printf("Logged in %d clients%n", clients.size());
+        }
+        WarmupReport.print(new Warmup(WarmupSettings.fromSystemProperties(WARMUP_THREADS))
+                .run(DscommerceScenarios.defaults()), out);
+        ServerMetrics serverMetrics = ServerMetrics.fromSystemProperties();
+        if (serverMetrics != null) {
+            out.println("Scraping server metrics from " + serverMetrics.getUrl());
+        }
+        LatencyReporting.global().start();
+        out.printf(BUCKET_HEADER, "at", "req/s", "errors", "p50 ms", "p99 ms", "max ms", "heap MB", "live MB",
+                "threads", "conns");
+        SoakResult result = new SoakDriver(settings).run(DscommerceScenarios.defaults(), serverMetrics,
+                bucket -> print(bucket, out));
+
+        out.printf("Scheduled %d requests, dropped %d over the in-flight limit%n", result.scheduled(),
+                result.dropped());
+        LatencyReporting.global().finish();
+        print(result.verdict(), out);
+        Path file = LatencyReporting.global().getDirectory().resolve("soak.json");
+        write(result, file);
+        out.println("Buckets and verdict written to " + file);
+        if (result.verdict().isFailed()) {
+            throw new IllegalStateException("p99 or error rate drifted between the early and the late window");
+        }
+    }
+
+    static void print(SoakBucket bucket, PrintStream out) {
+        SoakBucket.Endpoint total = bucket.total();
+        double seconds = Math.max(1, bucket.endMillis() - bucket.startMillis()) / 1000.0;
+        ServerInterval server = bucket.server();
+        out.printf(BUCKET_ROW, clock(bucket.endMillis()), total.requests() / seconds, total.errorRate() * 100,
+                total.p50Millis(), total.p99Millis(), total.maxMillis(),
+                megabytes(server == null ? null : server.heapUsedBytes()),
+                megabytes(server == null ? null : server.liveDataBytes()),
+                count(server == null ? null : server.liveThreads()),
+                count(server == null ? null : server.openConnections()));
+    }
+
+    static void print(SoakVerdict verdict, PrintStream out) {
+        out.println("Early vs late window:");
+        out.printf("  %-22s %9s %9s %9s %8s %9s %9s  %s%n", "scenario", "late reqs", "early p99", "late p99",
+                "change", "early err", "late err", "verdict");
+        for (SoakVerdict.Drift drift : verdict.drifts()) {
+            out.printf("  %-22s %9d %9.2f %9.2f %8s %8.2f%% %8.2f%%  %s%n", drift.name(), drift.lateRequests(),
+                    drift.earlyP99Millis(), drift.lateP99Millis(),
+                    drift.p99Change() == null ? "-" : String.format("%+.1f%%", drift.p99Change() * 100),
+                    drift.earlyErrorRate() * 100, drift.lateErrorRate() * 100, verdict(drift));
+        }
+        out.println("Trends:");
+        for (Trend trend : verdict.trends()) {
+            out.printf("  %-26s mean %10.2f %-11s slope %+10.3f/h  over the run %+7.1f%%  r2 %.2f%n",
+                    trend.metric(), trend.mean(), trend.unit(), trend.slopePerHour(), trend.growth() * 100,
+                    trend.r2());
+        }
+        out.println("Verdict: " + verdict.verdict());
+    }
+
+    private static String verdict(SoakVerdict.Drift drift) {
+        if (drift.p99Drifted() && drift.errorRateDrifted()) {
+            return "P99+ERROR DRIFT";
+        }
+        if (drift.p99Drifted()) {
+            return "P99 DRIFT";
+        }
+        if (drift.errorRateDrifted()) {
+            return "ERROR DRIFT";
+        }
+        return drift.p99Compared() ? "ok" : "ok (too few requests for p99)";
+    }
+
+    private static String clock(long offsetMillis) {
+        long seconds = offsetMillis / 1000;
+        return String.format("%d:%02d:%02d", seconds / 3600, seconds / 60 % 60, seconds % 60);
+    }
+
+    private static String megabytes(Double bytes) {
+        return bytes == null ? "-" : String.format("%.1f", bytes / (1024 * 1024));
+    }
+
+    private static String count(Double value) {
+        return value == null ? "-" : String.format("%.0f", value);
+    }
+
+    private static void write(SoakResult result, Path file) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("elapsedSeconds", result.elapsed().toMillis() / 1000.0);
+        report.put("scheduled", result.scheduled());
+        report.put("dropped", result.dropped());
+        report.put("verdict", result.verdict().verdict());
+        report.put("drifts", result.verdict().drifts());
+        report.put("trends", result.verdict().trends());
+        report.put("buckets", result.buckets());
+        try {
+            Files.createDirectories(file.getParent());
+            MAPPER.writeValue(file.toFile(), report);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + file, e);
+        }
+    }
+
+}
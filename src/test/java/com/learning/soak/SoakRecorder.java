@@ -0,0 +1,148 @@
+package com.learning.soak;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import com.learning.metrics.ServerInterval;
+
+/**
+ * Latency and errors of a soak run per scenario. Requests are recorded into interval recorders that each
+ * bucket drains, so memory stays constant however long the run; only the buckets that fall in the early or
+ * late window are also added to the window totals the drift check compares.
+ */
+class SoakRecorder {
+
+    static final String TOTAL = "total";
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Series> series = new LinkedHashMap<>();
+    private final Map<String, Window> early = new LinkedHashMap<>();
+    private final Map<String, Window> late = new LinkedHashMap<>();
+
+    SoakRecorder(List<String> names) {
+        for (String name : names) {
+            series.put(name, new Series());
+        }
+    }
+
+    void record(String name, long nanos, boolean success) {
+        Series scenario = series.get(name);
+        scenario.latencies.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        if (!success) {
+            scenario.errors.increment();
+        }
+    }
+
+    /**
+     * An arrival that could not be sent: counted as a request and an error, without a latency.
+     */
+    void dropped(String name) {
+        Series scenario = series.get(name);
+        scenario.dropped.increment();
+    }
+
+    /**
+     * Drains the recorders into a bucket, adding it to the early and late windows as requested.
+     */
+    synchronized SoakBucket close(long startMillis, long endMillis, ServerInterval server, boolean inEarly,
+            boolean inLate) {
+        Histogram all = new Histogram(SIGNIFICANT_DIGITS);
+        long allErrors = 0;
+        long allDropped = 0;
+        List<SoakBucket.Endpoint> endpoints = new ArrayList<>();
+        for (Map.Entry<String, Series> entry : series.entrySet()) {
+            Histogram interval = entry.getValue().latencies.getIntervalHistogram();
+            long errors = entry.getValue().errors.sumThenReset();
+            long dropped = entry.getValue().dropped.sumThenReset();
+            endpoints.add(endpoint(entry.getKey(), interval, errors, dropped));
+            all.add(interval);
+            allErrors += errors;
+            allDropped += dropped;
+            if (inEarly) {
+                early.computeIfAbsent(entry.getKey(), Window::new).add(interval, errors, dropped);
+            }
+            if (inLate) {
+                late.computeIfAbsent(entry.getKey(), Window::new).add(interval, errors, dropped);
+            }
+        }
+        if (inEarly) {
+            early.computeIfAbsent(TOTAL, Window::new).add(all, allErrors, allDropped);
+        }
+        if (inLate) {
+            late.computeIfAbsent(TOTAL, Window::new).add(all, allErrors, allDropped);
+        }
+        return new SoakBucket(startMillis, endMillis, endpoint(TOTAL, all, allErrors, allDropped), endpoints,
+                server);
+    }
+
+    /**
+     * Totals of the early window per scenario, plus {@value #TOTAL}.
+     */
+    synchronized List<WindowStats> early() {
+        return early.values().stream().map(Window::stats).toList();
+    }
+
+    synchronized List<WindowStats> late() {
+        return late.values().stream().map(Window::stats).toList();
+    }
+
+    private static SoakBucket.Endpoint endpoint(String name, Histogram micros, long errors, long dropped) {
+        return new SoakBucket.Endpoint(name, micros.getTotalCount() + dropped, errors + dropped,
+                millis(micros, 50), millis(micros, 99), millis(micros, 100));
+    }
+
+    private static double millis(Histogram micros, double percentile) {
+        return micros.getTotalCount() == 0 ? 0 : micros.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * Requests, errors (drops included) and p99 of one scenario over a window.
+     */
+    record WindowStats(String name, long requests, long errors, double p99Millis) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+    }
+
+    private static final class Series {
+
+        private final Recorder latencies = new Recorder(SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+    }
+
+    private static final class Window {
+
+        private final String name;
+        private final Histogram latencies = new Histogram(SIGNIFICANT_DIGITS);
+        private long errors;
+        private long dropped;
+
+        private Window(String name) {
+            this.name = name;
+        }
+
+        private void add(Histogram interval, long errors, long dropped) {
+            latencies.add(interval);
+            this.errors += errors;
+            this.dropped += dropped;
+        }
+
+        private WindowStats stats() {
+            return new WindowStats(name, latencies.getTotalCount() + dropped, errors + dropped,
+                    millis(latencies, 99));
+        }
+
+    }
+
+}
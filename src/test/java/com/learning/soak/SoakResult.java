@@ -0,0 +1,15 @@
+package com.learning.soak;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a soak run: the time buckets in order and the drift verdict over them.
+ *
+ * @param elapsed   wall-clock time of the run, including waiting for the last requests
+ * @param scheduled arrivals on the schedule
+ * @param dropped   arrivals not sent because {@code load.maxInFlight} requests were outstanding
+ */
+public record SoakResult(Duration elapsed, long scheduled, long dropped, List<SoakBucket> buckets,
+        SoakVerdict verdict) {
+}
@@ -0,0 +1,67 @@
+package com.learning.soak;
+
+import java.time.Duration;
+
+/**
+ * Settings of a soak run, read from {@code load.*} (the arrival schedule) and {@code soak.*} (the drift
+ * check) system properties.
+ *
+ * @param ratePerSecond        requests started per second, spread over the scenarios by weight
+ * @param duration             how long the arrival schedule runs, an hour by default
+ * @param maxInFlight          requests allowed to be outstanding at once; arrivals beyond it are dropped and
+ *                             counted as errors, since a server that slowly saturates is what a soak looks for
+ * @param bucket               length of the time buckets latency, error rate and server gauges are reported in
+ * @param window               length of the early and late windows compared by the drift check: the first and
+ *                             the last {@code window} of the run
+ * @param maxP99Increase       relative p99 increase from the early to the late window that fails the run
+ * @param minP99IncreaseMillis smallest absolute p99 increase that can fail the run, so that sub-millisecond
+ *                             jitter of a fast endpoint is not mistaken for a degradation
+ * @param maxErrorRateIncrease increase of the error rate from the early to the late window, as a fraction of
+ *                             requests, that fails the run
+ * @param minWindowRequests    requests an endpoint needs in each window for its p99 to be compared
+ */
+public record SoakSettings(double ratePerSecond, Duration duration, int maxInFlight, Duration bucket, Duration window,
+        double maxP99Increase, double minP99IncreaseMillis, double maxErrorRateIncrease, long minWindowRequests) {
+
+    public SoakSettings {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("load.rate must be positive");
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("load.maxInFlight must be at least 1");
+        }
+        if (bucket.isZero() || bucket.isNegative()) {
+            throw new IllegalArgumentException("soak.bucketSeconds must be positive");
+        }
+        if (window.compareTo(bucket) < 0 || window.multipliedBy(2).compareTo(duration) > 0) {
+            throw new IllegalArgumentException(
+                    "soak.windowSeconds must be at least one bucket and at most half of load.durationSeconds");
+        }
+        if (maxP99Increase < 0 || minP99IncreaseMillis < 0 || maxErrorRateIncrease < 0) {
+            throw new IllegalArgumentException("soak drift thresholds must not be negative");
+        }
+    }
+
+    public static SoakSettings fromSystemProperties() {
+        Duration duration = Duration.ofSeconds(Long.getLong("load.durationSeconds", 3600));
+        Duration bucket = Duration.ofSeconds(Long.getLong("soak.bucketSeconds", 60));
+        // a fifth of the run by default, rounded down to whole buckets
+        long defaultWindowBuckets = Math.max(1, duration.dividedBy(bucket) / 5);
+        return new SoakSettings(
+                Double.parseDouble(System.getProperty("load.rate", "20")),
+                duration,
+                Integer.getInteger("load.maxInFlight", 1_000),
+                bucket,
+                Duration.ofSeconds(Long.getLong("soak.windowSeconds", bucket.multipliedBy(defaultWindowBuckets)
+                        .toSeconds())),
+                Double.parseDouble(System.getProperty("soak.maxP99Increase", "0.25")),
+                Double.parseDouble(System.getProperty("soak.minP99IncreaseMillis", "5")),
+                Double.parseDouble(System.getProperty("soak.maxErrorRateIncrease", "0.01")),
+                Long.getLong("soak.minWindowRequests", 100));
+    }
+
+    public long intervalNanos() {
+        return Math.max(1, Math.round(1e9 / ratePerSecond));
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.learning.soak;
+
+import java.util.List;
+
+/**
+ * Outcome of a soak run: the early-versus-late comparison per scenario, which decides whether the run
+ * fails, and the trend lines over all buckets, which show where a degradation comes from.
+ */
+public record SoakVerdict(List<Drift> drifts, List<Trend> trends) {
+
+    /**
+     * Early and late window of one scenario, or of all of them. {@code p99Compared} is false when a window
+     * had too few requests for a meaningful p99.
+     */
+    public record Drift(String name, long earlyRequests, long lateRequests, double earlyP99Millis,
+            double lateP99Millis, double earlyErrorRate, double lateErrorRate, boolean p99Compared,
+            boolean p99Drifted, boolean errorRateDrifted) {
+
+        public Double p99Change() {
+            return !p99Compared || earlyP99Millis == 0 ? null : lateP99Millis / earlyP99Millis - 1;
+        }
+
+        public boolean drifted() {
+            return p99Drifted || errorRateDrifted;
+        }
+
+    }
+
+    public boolean isFailed() {
+        return drifts.stream().anyMatch(Drift::drifted);
+    }
+
+    public String verdict() {
+        return isFailed() ? "DRIFT" : "STABLE";
+    }
+
+}
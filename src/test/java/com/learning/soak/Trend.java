@@ -0,0 +1,62 @@
+package com.learning.soak;
+
+/**
+ * Least-squares line through one metric of the soak buckets, over time in hours. {@code growth} is the
+ * change the line predicts over the whole run relative to the mean, so trends of metrics in different
+ * units can be read side by side; {@code r2} says how much of the variation the line explains, i.e.
+ * whether the drift is steady or noise.
+ *
+ * @param metric       name of the metric, e.g. {@code total p99}
+ * @param unit         unit of the metric
+ * @param points       buckets the metric had a value in
+ * @param mean         mean of the metric over the buckets
+ * @param slopePerHour change of the metric per hour
+ * @param growth       {@code slopePerHour} times the time spanned by the buckets, over {@code mean}
+ * @param r2           coefficient of determination of the fit, between 0 and 1
+ */
+public record Trend(String metric, String unit, int points, double mean, double slopePerHour, double growth,
+        double r2) {
+
+    /**
+     * Fits the line through {@code (hours[i], values[i])}, skipping {@code NaN} values. Returns {@code null}
+     * with fewer than three points.
+     */
+    public static Trend fit(String metric, String unit, double[] hours, double[] values) {
+        int n = 0;
+        double sumX = 0;
+        double sumY = 0;
+        double minX = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < values.length; i++) {
+            if (!Double.isNaN(values[i])) {
+                n++;
+                sumX += hours[i];
+                sumY += values[i];
+                minX = Math.min(minX, hours[i]);
+                maxX = Math.max(maxX, hours[i]);
+            }
+        }
+        if (n < 3) {
+            return null;
+        }
+        double meanX = sumX / n;
+        double meanY = sumY / n;
+        double sxx = 0;
+        double sxy = 0;
+        double syy = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (!Double.isNaN(values[i])) {
+                double dx = hours[i] - meanX;
+                double dy = values[i] - meanY;
+                sxx += dx * dx;
+                sxy += dx * dy;
+                syy += dy * dy;
+            }
+        }
+        double slope = sxx == 0 ? 0 : sxy / sxx;
+        double r2 = sxx == 0 || syy == 0 ? 0 : sxy * sxy / (sxx * syy);
+        double growth = meanY == 0 ? 0 : slope * (maxX - minX) / meanY;
+        return new Trend(metric, unit, n, meanY, slope, growth, r2);
+    }
+
+}
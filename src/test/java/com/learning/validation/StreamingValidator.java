@@ -0,0 +1,480 @@
+package com.learning.validation;
+
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.restassured.response.Response;
+
+/**
+ * Checks response bodies against the paths a test asserts in a single Jackson streaming pass, without
+ * building the Groovy object tree that {@code then().body(path, matcher)} parses for every assertion.
+ * Parsing stops as soon as every expectation is decided, so a check on the first items of a large page
+ * does not read the rest of it.
+ * <p>
+ * Paths are the dotted subset of GPath the suites use: {@code totalElements}, {@code client.name},
+ * {@code content.name} (collected from every element of {@code content}, as GPath does) and
+ * {@code content[0].name}. Values under more than one walked-through array end up in one flat list rather
+ * than GPath's nested lists, and closures such as {@code findAll { ... }} still need the {@code JsonPath}
+ * route.
+ * Values are typed like RestAssured's defaults: whole numbers are {@code Integer} or {@code Long},
+ * decimals are {@code Float} unless they need a {@code Double}, and objects and arrays at a path are
+ * {@code Map}s and {@code List}s.
+ * <p>
+ * Configure a validator once and share it; {@code validate} keeps its state on the stack.
+ */
+public class StreamingValidator {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final List<Expectation> expectations = new ArrayList<>();
+
+    public StreamingValidator body(String path, Matcher<?> matcher) {
+        expectations.add(new Expectation(path, parse(path), matcher, null));
+        return this;
+    }
+
+    /**
+     * Like {@code body(path, hasItems(items))}, but decided as soon as the last of the items is seen.
+     */
+    public StreamingValidator bodyHasItems(String path, Object... items) {
+        expectations.add(new Expectation(path, parse(path), hasItems(items), Arrays.asList(items)));
+        return this;
+    }
+
+    public Response validate(Response response) {
+        validate(response.asByteArray());
+        return response;
+    }
+
+    /**
+     * @throws AssertionError describing the first expectation that does not match
+     */
+    public void validate(byte[] body) {
+        try (JsonParser parser = JSON.createParser(body)) {
+            new Pass(parser).run();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void validate(InputStream body) {
+        try (JsonParser parser = JSON.createParser(body)) {
+            new Pass(parser).run();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Segment[] parse(String path) {
+        return Arrays.stream(path.split("\\."))
+                .map(segment -> {
+                    int bracket = segment.indexOf('[');
+                    if (bracket < 0) {
+                        return new Segment(segment, -1);
+                    }
+                    return new Segment(segment.substring(0, bracket),
+                            Integer.parseInt(segment.substring(bracket + 1, segment.length() - 1)));
+                })
+                .toArray(Segment[]::new);
+    }
+
+    private record Segment(String name, int index) {
+
+    }
+
+    private record Expectation(String path, Segment[] segments, Matcher<?> matcher, List<Object> earlyItems) {
+
+    }
+
+    /**
+     * One validation: the parser position as a stack of frames plus the values collected for each expectation.
+     */
+    private class Pass {
+
+        private static final int NO_MATCH = -1;
+
+        private final JsonParser parser;
+        private final Object[] values = new Object[expectations.size()];
+        private final boolean[] listMode = new boolean[expectations.size()];
+        private final boolean[] decided = new boolean[expectations.size()];
+        private int undecided = expectations.size();
+
+        private String[] fieldNames = new String[16];
+        private int[] indexes = new int[16];
+        private boolean[] arrays = new boolean[16];
+        private int depth;
+
+        // subtrees being built for expectations whose path ends at an object or array
+        private final List<Capture> captures = new ArrayList<>();
+
+        Pass(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        void run() throws IOException {
+            JsonToken token;
+            while (undecided > 0 && (token = parser.nextToken()) != null) {
+                switch (token) {
+                    case FIELD_NAME -> {
+                        String name = parser.currentName();
+                        fieldNames[depth - 1] = name;
+                        captures.forEach(capture -> capture.field(name));
+                    }
+                    case START_OBJECT, START_ARRAY -> {
+                        if (captures.isEmpty() && !onAnyPath()) {
+                            // nothing asserted in here: let the parser skip it without surfacing its tokens
+                            parser.skipChildren();
+                            advanceIndex();
+                            continue;
+                        }
+                        boolean array = token == JsonToken.START_ARRAY;
+                        startContainer(array);
+                        push(array);
+                        if (array) {
+                            markLists();
+                        }
+                    }
+                    case END_OBJECT, END_ARRAY -> {
+                        if (token == JsonToken.END_ARRAY) {
+                            completeLists();
+                        }
+                        depth--;
+                        endCaptures();
+                        advanceIndex();
+                    }
+                    default -> {
+                        startScalar(token);
+                        advanceIndex();
+                    }
+                }
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (!decided[i]) {
+                    decide(i);
+                }
+            }
+        }
+
+        private void startScalar(JsonToken token) throws IOException {
+            boolean wanted = !captures.isEmpty();
+            for (int i = 0; i < values.length && !wanted; i++) {
+                wanted = isAt(i);
+            }
+            if (!wanted) {
+                return;
+            }
+            Object value = scalar(token);
+            captures.forEach(capture -> capture.value(value, false));
+            for (int i = 0; i < values.length; i++) {
+                if (isAt(i)) {
+                    accept(i, value);
+                }
+            }
+        }
+
+        /**
+         * An object or array starts at the current position. It is only materialized when an expectation's path
+         * ends here or an enclosing one is being captured.
+         */
+        private void startContainer(boolean array) {
+            Object container = null;
+            for (int i = 0; i < values.length; i++) {
+                if (isAt(i)) {
+                    container = container != null ? container : newContainer(array);
+                    captures.add(new Capture(i, depth, container));
+                }
+            }
+            if (container == null && !captures.isEmpty()) {
+                container = newContainer(array);
+            }
+            for (Capture capture : captures) {
+                capture.value(container, true);
+            }
+        }
+
+        private boolean onAnyPath() {
+            for (int i = 0; i < values.length; i++) {
+                if (!decided[i] && isOnPath(expectations.get(i).segments(), depth)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isAt(int expectation) {
+            return !decided[expectation] && matches(expectations.get(expectation).segments(), depth) != NO_MATCH;
+        }
+
+        private static Object newContainer(boolean array) {
+            return array ? new ArrayList<>() : new LinkedHashMap<>();
+        }
+
+        private void accept(int expectation, Object value) {
+            if (listMode[expectation]) {
+                @SuppressWarnings("unchecked")
+                List<Object> list = (List<Object>) values[expectation];
+                list.add(value);
+                List<Object> earlyItems = expectations.get(expectation).earlyItems();
+                if (earlyItems != null && list.containsAll(earlyItems)) {
+                    decide(expectation);
+                }
+            }
+            else {
+                values[expectation] = value;
+                decide(expectation);
+            }
+        }
+
+        private void decide(int expectation) {
+            decided[expectation] = true;
+            undecided--;
+            Expectation expected = expectations.get(expectation);
+            Object actual = values[expectation];
+            if (!expected.matcher().matches(actual)) {
+                StringDescription description = new StringDescription();
+                description.appendText("JSON path " + expected.path() + " doesn't match.\nExpected: ")
+                        .appendDescriptionOf(expected.matcher())
+                        .appendText("\n  Actual: ");
+                expected.matcher().describeMismatch(actual, description);
+                throw new AssertionError(description.toString());
+            }
+        }
+
+        /**
+         * An array opened at depth - 1: expectations whose path runs through it without an index collect a list.
+         */
+        private void markLists() {
+            for (int i = 0; i < values.length; i++) {
+                if (!decided[i] && !listMode[i] && isFirstFlattenedArray(expectations.get(i).segments(), depth - 1)) {
+                    listMode[i] = true;
+                    values[i] = new ArrayList<>();
+                }
+            }
+        }
+
+        /**
+         * The array at depth - 1 is closing: once the outermost flattened array on a path closes, no more values
+         * can arrive for it.
+         */
+        private void completeLists() {
+            for (int i = 0; i < values.length; i++) {
+                if (!decided[i] && listMode[i] && isFirstFlattenedArray(expectations.get(i).segments(), depth - 1)) {
+                    decide(i);
+                }
+            }
+        }
+
+        /**
+         * Whether the frames up to {@code frameDepth} (exclusive) lead to a value at {@code segments}. Returns the
+         * number of arrays flattened on the way, or {@link #NO_MATCH}.
+         */
+        private int matches(Segment[] segments, int frameDepth) {
+            int segment = 0;
+            int flattened = 0;
+            boolean indexPending = false;
+            for (int frame = 0; frame < frameDepth; frame++) {
+                if (arrays[frame]) {
+                    if (indexPending) {
+                        if (segments[segment - 1].index() != indexes[frame]) {
+                            return NO_MATCH;
+                        }
+                        indexPending = false;
+                    }
+                    else if (segment == segments.length) {
+                        // inside the array that is itself the value
+                        return NO_MATCH;
+                    }
+                    else {
+                        flattened++;
+                    }
+                }
+                else {
+                    if (indexPending || segment == segments.length
+                            || !segments[segment].name().equals(fieldNames[frame])) {
+                        return NO_MATCH;
+                    }
+                    indexPending = segments[segment].index() >= 0;
+                    segment++;
+                }
+            }
+            return segment == segments.length && !indexPending ? flattened : NO_MATCH;
+        }
+
+        /**
+         * Whether the frames up to {@code frameDepth} (exclusive) follow {@code segments}, so a value there is at
+         * the path or may contain it.
+         */
+        private boolean isOnPath(Segment[] segments, int frameDepth) {
+            int segment = 0;
+            boolean indexPending = false;
+            for (int frame = 0; frame < frameDepth; frame++) {
+                if (arrays[frame]) {
+                    if (indexPending) {
+                        if (segments[segment - 1].index() != indexes[frame]) {
+                            return false;
+                        }
+                        indexPending = false;
+                    }
+                    else if (segment == segments.length) {
+                        return false;
+                    }
+                }
+                else {
+                    if (indexPending || segment == segments.length
+                            || !segments[segment].name().equals(fieldNames[frame])) {
+                        return false;
+                    }
+                    indexPending = segments[segment].index() >= 0;
+                    segment++;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Whether the array at {@code arrayFrame} is the first one on the way to {@code segments} that is walked
+         * through rather than indexed.
+         */
+        private boolean isFirstFlattenedArray(Segment[] segments, int arrayFrame) {
+            int segment = 0;
+            boolean indexPending = false;
+            for (int frame = 0; frame < arrayFrame; frame++) {
+                if (arrays[frame]) {
+                    if (!indexPending || segments[segment - 1].index() != indexes[frame]) {
+                        return false;
+                    }
+                    indexPending = false;
+                }
+                else {
+                    if (indexPending || segment == segments.length
+                            || !segments[segment].name().equals(fieldNames[frame])) {
+                        return false;
+                    }
+                    indexPending = segments[segment].index() >= 0;
+                    segment++;
+                }
+            }
+            return !indexPending && segment < segments.length;
+        }
+
+        private void push(boolean array) {
+            if (depth == arrays.length) {
+                fieldNames = Arrays.copyOf(fieldNames, depth * 2);
+                indexes = Arrays.copyOf(indexes, depth * 2);
+                arrays = Arrays.copyOf(arrays, depth * 2);
+            }
+            arrays[depth] = array;
+            indexes[depth] = 0;
+            fieldNames[depth] = null;
+            depth++;
+        }
+
+        private void advanceIndex() {
+            if (depth > 0 && arrays[depth - 1]) {
+                indexes[depth - 1]++;
+            }
+        }
+
+        private void endCaptures() {
+            for (int i = captures.size() - 1; i >= 0; i--) {
+                Capture capture = captures.get(i);
+                if (capture.end(depth)) {
+                    captures.remove(i);
+                    if (!decided[capture.expectation]) {
+                        accept(capture.expectation, capture.root);
+                    }
+                }
+            }
+        }
+
+        private Object scalar(JsonToken token) throws IOException {
+            return switch (token) {
+                case VALUE_STRING -> parser.getText();
+                case VALUE_TRUE -> Boolean.TRUE;
+                case VALUE_FALSE -> Boolean.FALSE;
+                case VALUE_NULL -> null;
+                case VALUE_NUMBER_INT -> parser.getNumberType() == JsonParser.NumberType.INT
+                        ? (Object) parser.getIntValue()
+                        : (Object) parser.getLongValue();
+                case VALUE_NUMBER_FLOAT -> {
+                    double value = parser.getDoubleValue();
+                    yield Math.abs(value) <= Float.MAX_VALUE ? (Object) (float) value : (Object) value;
+                }
+                default -> parser.getText();
+            };
+        }
+    }
+
+    /**
+     * Builds the object or array found at an expectation's path from the tokens that follow it.
+     */
+    private static class Capture {
+
+        final int expectation;
+        final Object root;
+        private final int depth;
+        private final List<Object> containers = new ArrayList<>();
+        private final List<String> fields = new ArrayList<>();
+
+        Capture(int expectation, int depth, Object root) {
+            this.expectation = expectation;
+            this.depth = depth;
+            this.root = root;
+            containers.add(root);
+            fields.add(null);
+        }
+
+        void field(String name) {
+            fields.set(fields.size() - 1, name);
+        }
+
+        @SuppressWarnings("unchecked")
+        void value(Object value, boolean container) {
+            if (containers.isEmpty() || value == root) {
+                return;
+            }
+            Object parent = containers.get(containers.size() - 1);
+            if (parent instanceof List) {
+                ((List<Object>) parent).add(value);
+            }
+            else {
+                ((Map<String, Object>) parent).put(fields.get(fields.size() - 1), value);
+            }
+            if (container) {
+                containers.add(value);
+                fields.add(null);
+            }
+        }
+
+        /**
+         * Called after a container closed and the parser went back to {@code parserDepth}; true once the root
+         * itself is closed.
+         */
+        boolean end(int parserDepth) {
+            if (parserDepth < depth) {
+                return false;
+            }
+            containers.remove(containers.size() - 1);
+            fields.remove(fields.size() - 1);
+            return parserDepth == depth;
+        }
+    }
+
+}
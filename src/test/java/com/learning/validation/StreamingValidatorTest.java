@@ -0,0 +1,74 @@
+package com.learning.validation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.restassured.path.json.JsonPath;
+
+public class StreamingValidatorTest {
+
+    private static final String PRODUCT = """
+            {"id":2,"name":"Smart TV","price":2190.0,"imgUrl":"https://example.com/2-big.jpg",
+             "categories":[{"id":2,"name":"Electronics"},{"id":3,"name":"Computers"}]}""";
+
+    private static final String PAGE = """
+            {"content":[{"id":3,"name":"Macbook Pro","price":1250.0},{"id":9,"name":"PC Gamer Tera","price":1950.0},
+             {"id":25,"name":"PC Gamer Foo","price":4170.0}],"totalElements":3,"empty":false,"content2":[]}""";
+
+    @Test
+    public void validateShouldSeeTheSameValuesAsJsonPath() {
+        for (String path : new String[] { "id", "name", "price", "categories.id", "categories.name", "categories[1]",
+                "categories[0].name" }) {
+            new StreamingValidator().body(path, equalTo(JsonPath.from(PRODUCT).get(path))).validate(bytes(PRODUCT));
+        }
+        for (String path : new String[] { "content.name", "content.price", "content[0].id", "totalElements", "empty",
+                "content", "content2", "content2.name", "missing" }) {
+            new StreamingValidator().body(path, equalTo(JsonPath.from(PAGE).get(path))).validate(bytes(PAGE));
+        }
+    }
+
+    @Test
+    public void validateShouldAcceptTheSuitesAssertions() {
+        new StreamingValidator()
+                .body("id", is(2))
+                .body("name", equalTo("Smart TV"))
+                .body("price", is(2190.0F))
+                .body("categories.id", hasItems(2, 3))
+                .bodyHasItems("categories.name", "Electronics", "Computers")
+                .validate(bytes(PRODUCT));
+        new StreamingValidator()
+                .body("content", hasSize(3))
+                .body("content[0].name", equalTo("Macbook Pro"))
+                .validate(bytes(PAGE));
+    }
+
+    @Test
+    public void validateShouldFailWithThePathAndMismatch() {
+        StreamingValidator validator = new StreamingValidator().body("content.name", hasItems("Smart TV"));
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> validator.validate(bytes(PAGE)))
+                .withMessageContaining("JSON path content.name doesn't match.")
+                .withMessageContaining("Smart TV");
+    }
+
+    @Test
+    public void validateShouldStopReadingOnceEveryExpectationIsDecided() {
+        // everything after the second item is garbage that a full parse would reject
+        String truncated = "{\"totalElements\":3,\"content\":[{\"name\":\"Macbook Pro\"},{\"name\":\"PC Gamer Tera\"},{\"na";
+
+        new StreamingValidator()
+                .body("totalElements", is(3))
+                .bodyHasItems("content.name", "Macbook Pro", "PC Gamer Tera")
+                .validate(bytes(truncated));
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+}